@@ -0,0 +1,88 @@
+// 자바 제출 실행용 CDS 아카이브에 넣을 JDK 클래스 목록을 만들기 위해 이미지 빌드 때 한 번 실행하는 예제 프로그램
+// 제출 코드가 자주 쓰는 입출력, 컬렉션, 문자열, 스트림, 람다를 고루 사용함 (이 클래스 자체는 아카이브에 넣지 않음)
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Scanner;
+import java.util.StringTokenizer;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class CdsWarmUp {
+    public static void main(String[] args) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(System.in));
+        int n = Integer.parseInt(reader.readLine().trim());
+        StringTokenizer tokenizer = new StringTokenizer(reader.readLine());
+        int[] values = new int[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = Integer.parseInt(tokenizer.nextToken());
+        }
+        String rest = reader.readLine();
+
+        List<Integer> list = new ArrayList<>();
+        for (int value : values) {
+            list.add(value);
+        }
+        Collections.sort(list);
+        list.sort(Comparator.reverseOrder());
+        Arrays.sort(values);
+
+        Map<Integer, Integer> counts = new HashMap<>();
+        TreeMap<Integer, Integer> sorted = new TreeMap<>();
+        for (int value : values) {
+            counts.merge(value, 1, Integer::sum);
+            sorted.put(value, sorted.getOrDefault(value, 0) + 1);
+        }
+        TreeSet<Long> tree = new TreeSet<>();
+        HashSet<String> words = new HashSet<>(Arrays.asList(rest.split(" ")));
+        PriorityQueue<long[]> queue = new PriorityQueue<>((a, b) -> Long.compare(a[0], b[0]));
+        ArrayDeque<Integer> deque = new ArrayDeque<>();
+        LinkedList<Integer> linked = new LinkedList<>();
+        for (int value : values) {
+            tree.add((long) value * value);
+            queue.offer(new long[] {value, n});
+            deque.addLast(value);
+            linked.addFirst(value);
+        }
+
+        StringBuilder builder = new StringBuilder();
+        while (!queue.isEmpty()) {
+            builder.append(queue.poll()[0]).append(' ');
+        }
+        String joined = list.stream().map(String::valueOf).collect(Collectors.joining(","));
+        int sum = IntStream.of(values).filter(v -> v % 2 == 1).map(v -> v * 2).sum();
+        BigInteger big = BigInteger.valueOf(sum).pow(20).mod(BigInteger.valueOf(1_000_000_007L));
+        BigDecimal decimal = new BigDecimal("3.14159").multiply(BigDecimal.valueOf(n));
+
+        PrintWriter writer = new PrintWriter(new BufferedWriter(new OutputStreamWriter(System.out)));
+        writer.println(builder.toString().trim());
+        writer.println(joined + " " + counts.size() + " " + sorted.firstKey() + " " + tree.last());
+        writer.println(words.size() + " " + deque.peekFirst() + " " + linked.peekLast());
+        writer.printf("%d %s %.3f%n", sum, big, decimal.doubleValue());
+        writer.println(String.format("%5d|%-5s|", n, "x") + Math.max(Math.abs(-n), Math.sqrt(n)) + Long.MAX_VALUE);
+        writer.flush();
+
+        Scanner scanner = new Scanner("1 2.5 word\nline");
+        writer.println(scanner.nextInt() + scanner.nextDouble() + scanner.next() + scanner.nextLine() + scanner.hasNextLine());
+        writer.flush();
+    }
+}
@@ -0,0 +1,207 @@
+// 채점 이미지 안에서 상주하며 자바 제출을 컴파일하는 컴파일 서버 (코드 실행 컨테이너와 분리된 전용 컨테이너에서 실행됨)
+// javac 를 제출마다 새 JVM 으로 띄우지 않고, 예열된 JVM 에서 javax.tools.JavaCompiler 로 컴파일하여 컴파일 지연을 줄임
+// 프로토콜 (127.0.0.1:<포트>, 요청 하나당 연결 하나, 클라이언트는 src/main/docker/judge-compile.sh):
+//   요청: 작업 디렉터리 경로 한 줄 (/jobs 바로 아래, 그 안의 .java 파일을 <작업 디렉터리>/out 으로 컴파일)
+//   응답: "__COMPILE__ <결과 코드> <컴파일 시간(ms)>" 한 줄 다음에 컴파일 메시지
+//         결과 코드 0: 성공, 1: 컴파일 에러, 2: 서버 오류 또는 시간 초과
+// 사용법: java -cp /opt/judge JavaCompileServer <포트> <동시 컴파일 수> <컴파일 시간 제한(ms)>
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+
+public class JavaCompileServer {
+    private static final Path JOB_ROOT = Paths.get("/jobs");
+    private static final String OUTPUT_DIR = "out";
+    // LanguageCommands.JAVAC_FLAGS 에서 JVM 옵션(-J)을 뺀 것과 같아야 같은 결과물이 나옴
+    private static final List<String> OPTIONS = List.of("-encoding", "UTF-8");
+    private static final long STALE_JOB_MS = 10 * 60 * 1000L; // 가져가지 않고 남은 작업 디렉터리를 지우는 기준
+    private static final int WARM_UP_ROUNDS = 20;
+
+    public static void main(String[] args) throws Exception {
+        int port = Integer.parseInt(args[0]);
+        int workers = Integer.parseInt(args[1]);
+        long timeoutMs = Long.parseLong(args[2]);
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        ExecutorService compilers = Executors.newFixedThreadPool(workers, r -> {
+            Thread thread = new Thread(r, "compile-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        warmUp(compiler);
+
+        Thread sweeper = new Thread(() -> {
+            while (true) {
+                sweepStaleJobs();
+                try {
+                    Thread.sleep(60_000);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }, "job-sweeper");
+        sweeper.setDaemon(true);
+        sweeper.start();
+
+        try (ServerSocket server = new ServerSocket(port, 50, InetAddress.getLoopbackAddress())) {
+            System.out.println("Java compile server listening on " + port);
+            while (true) {
+                Socket socket = server.accept();
+                Thread handler = new Thread(() -> handle(socket, compiler, compilers, timeoutMs), "compile-request");
+                handler.setDaemon(true);
+                handler.start();
+            }
+        }
+    }
+
+    /**
+     * 요청 하나를 처리함. 시간 제한을 넘긴 컴파일은 스레드를 멈출 방법이 없으므로 응답 후 서버를 종료하여
+     * 채점 서버가 컨테이너를 새로 띄우게 함
+     */
+    private static void handle(Socket socket, JavaCompiler compiler, ExecutorService compilers, long timeoutMs) {
+        boolean exit = false;
+        try (socket) {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            Path jobDir = resolveJobDir(reader.readLine());
+
+            int code;
+            String messages;
+            long startedAt = System.nanoTime();
+            if (jobDir == null) {
+                code = 2;
+                messages = "잘못된 작업 디렉터리입니다.\n";
+            } else {
+                StringWriter writer = new StringWriter();
+                Future<Boolean> task = compilers.submit(() -> compile(compiler, jobDir, writer));
+                try {
+                    code = task.get(timeoutMs, TimeUnit.MILLISECONDS) ? 0 : 1;
+                } catch (TimeoutException e) {
+                    task.cancel(true);
+                    code = 2;
+                    exit = true;
+                } catch (Exception e) {
+                    code = 2;
+                    writer.write(String.valueOf(e.getCause() != null ? e.getCause() : e));
+                }
+                // 절대 경로 대신 javac 를 작업 디렉터리에서 실행했을 때와 같은 파일 이름으로 보여 줌
+                messages = writer.toString().replace(jobDir + File.separator, "");
+            }
+            long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+
+            OutputStream out = socket.getOutputStream();
+            out.write(("__COMPILE__ " + code + " " + elapsedMs + "\n" + messages).getBytes(StandardCharsets.UTF_8));
+            out.flush();
+        } catch (IOException e) {
+            System.err.println("Failed to handle compile request: " + e.getMessage());
+        }
+        if (exit) {
+            System.err.println("Compilation timed out, exiting");
+            System.exit(1);
+        }
+    }
+
+    private static Path resolveJobDir(String line) {
+        if (line == null || line.isBlank()) {
+            return null;
+        }
+        Path dir = Paths.get(line.trim()).normalize();
+        if (!JOB_ROOT.equals(dir.getParent()) || !Files.isDirectory(dir)) {
+            return null;
+        }
+        return dir;
+    }
+
+    /**
+     * 작업 디렉터리의 .java 파일을 작업 디렉터리의 out 으로 컴파일함 (작업마다 파일 관리자와 출력 디렉터리를 따로 씀)
+     */
+    private static boolean compile(JavaCompiler compiler, Path jobDir, StringWriter messages) throws IOException {
+        Path outputDir = Files.createDirectories(jobDir.resolve(OUTPUT_DIR));
+        List<File> sources;
+        try (Stream<Path> files = Files.list(jobDir)) {
+            sources = files.filter(file -> file.toString().endsWith(".java"))
+                    .map(Path::toFile)
+                    .toList();
+        }
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            fileManager.setLocation(StandardLocation.CLASS_OUTPUT, List.of(outputDir.toFile()));
+            Iterable<? extends JavaFileObject> units = fileManager.getJavaFileObjectsFromFiles(sources);
+            return compiler.getTask(messages, fileManager, null, OPTIONS, null, units).call();
+        }
+    }
+
+    /**
+     * 요청을 받기 전에 작은 소스를 여러 번 컴파일하여 javac 클래스 로딩과 JIT 컴파일을 미리 끝내 둠
+     */
+    private static void warmUp(JavaCompiler compiler) throws IOException {
+        Path dir = Files.createTempDirectory("compile-warmup");
+        Files.writeString(dir.resolve("Main.java"), """
+                import java.io.*;
+                import java.util.*;
+
+                public class Main {
+                    public static void main(String[] args) throws IOException {
+                        BufferedReader reader = new BufferedReader(new InputStreamReader(System.in));
+                        List<Integer> values = new ArrayList<>();
+                        StringTokenizer tokenizer = new StringTokenizer(reader.readLine());
+                        while (tokenizer.hasMoreTokens()) {
+                            values.add(Integer.parseInt(tokenizer.nextToken()));
+                        }
+                        values.sort(Comparator.reverseOrder());
+                        System.out.println(values.stream().mapToInt(Integer::intValue).sum());
+                    }
+                }
+                """);
+        for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+            compile(compiler, dir, new StringWriter());
+        }
+        deleteRecursively(dir);
+    }
+
+    private static void sweepStaleJobs() {
+        long before = System.currentTimeMillis() - STALE_JOB_MS;
+        try (Stream<Path> jobs = Files.list(JOB_ROOT)) {
+            jobs.filter(job -> {
+                try {
+                    return Files.getLastModifiedTime(job).toMillis() < before;
+                } catch (IOException e) {
+                    return false;
+                }
+            }).forEach(JavaCompileServer::deleteRecursively);
+        } catch (IOException e) {
+            System.err.println("Failed to sweep stale jobs: " + e.getMessage());
+        }
+    }
+
+    private static void deleteRecursively(Path dir) {
+        try (Stream<Path> files = Files.walk(dir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        } catch (IOException e) {
+            System.err.println("Failed to delete " + dir + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,17 @@
+#!/bin/bash
+# 상주 자바 컴파일 서버(JavaCompileServer)에 컴파일을 요청하는 클라이언트 (JVM 을 띄우지 않도록 bash 로 작성함)
+# 사용법: judge-compile <작업 디렉터리>
+# 컴파일 메시지는 표준 에러로, 서버가 잰 컴파일 시간은 표준 출력으로 남김
+# 통계 형식: __COMPILE_STATS__ <컴파일 시간(ms)>
+# 종료 코드 0: 성공, 1: 컴파일 에러, 2: 서버 오류 또는 시간 초과, 3: 서버에 연결할 수 없음
+
+{ exec 3<>"/dev/tcp/127.0.0.1/${JUDGE_COMPILE_PORT:-7070}"; } 2>/dev/null || exit 3
+printf '%s\n' "$1" >&3
+
+IFS=' ' read -r MARKER CODE ELAPSED <&3 || exit 3
+[ "$MARKER" = "__COMPILE__" ] || exit 3
+cat <&3 >&2
+exec 3<&-
+
+echo "__COMPILE_STATS__ $ELAPSED"
+exit "$CODE"
@@ -0,0 +1,154 @@
+// 파이썬 fork 서버(python-zygote.py)에 제출 코드 실행을 요청하는 클라이언트 (인터프리터를 띄우지 않도록 C 로 작성함)
+// 사용법: judge-pyfork <소켓 경로> <스크립트>
+// judge-run 아래에서 실행되어 받은 표준 입출력과 자원 제한을 fork 서버의 자식에게 넘기고, 자식의 종료 코드로 종료함.
+// 자식의 실행 통계는 judge-run 이 열어 준 JUDGE_CHILD_STATS_FD 파일 디스크립터에 judge-run 의 통계 형식(<최대 메모리(KB)> <종료 코드> <user> <sys> <실제 시간>)으로 남김
+// (같은 judge 계정인 제출 코드가 /proc 를 통해 그 디스크립터를 열지 못하도록 시작하자마자 dump 불가로 바꿈)
+// fork 서버에 연결할 수 없으면 같은 자원 제한 아래에서 python3 를 직접 실행함
+
+#include <errno.h>
+#include <stdio.h>
+#include <stdlib.h>
+#include <string.h>
+#include <sys/prctl.h>
+#include <sys/resource.h>
+#include <sys/socket.h>
+#include <sys/un.h>
+#include <unistd.h>
+
+#define STATS_FD_ENV "JUDGE_CHILD_STATS_FD"
+#define REQUEST_SIZE 8192
+#define FORK_SERVER_ERROR_EXIT_CODE 1
+
+static const struct {
+    const char *name;
+    int resource;
+} LIMITS[] = {
+    {"cpu", RLIMIT_CPU},
+    {"fsize", RLIMIT_FSIZE},
+    {"as", RLIMIT_AS},
+    {"data", RLIMIT_DATA},
+    {"stack", RLIMIT_STACK},
+    {"nofile", RLIMIT_NOFILE},
+    {"nproc", RLIMIT_NPROC},
+};
+
+/* judge-run 이 넘겨 준 통계 파일 디스크립터 (없으면 -1) */
+static int stats_fd(void) {
+    const char *value = getenv(STATS_FD_ENV);
+    if (value == NULL || *value == '\0') {
+        return -1;
+    }
+    char *end;
+    long fd = strtol(value, &end, 10);
+    return *end == '\0' && fd > STDERR_FILENO ? (int) fd : -1;
+}
+
+/* 제출 코드가 통계 파일을 덮어쓰지 못하도록 디스크립터를 닫고 환경 변수를 지운 뒤 python3 를 직접 실행함 */
+static void fallback(const char *script, int stats) {
+    if (stats >= 0) {
+        close(stats);
+    }
+    unsetenv(STATS_FD_ENV);
+    execlp("python3", "python3", script, (char *) NULL);
+    perror("python3");
+    exit(127);
+}
+
+static int connect_server(const char *path) {
+    struct sockaddr_un addr;
+    if (strlen(path) >= sizeof(addr.sun_path)) {
+        return -1;
+    }
+    int fd = socket(AF_UNIX, SOCK_SEQPACKET, 0);
+    if (fd < 0) {
+        return -1;
+    }
+    memset(&addr, 0, sizeof(addr));
+    addr.sun_family = AF_UNIX;
+    strcpy(addr.sun_path, path);
+    if (connect(fd, (struct sockaddr *) &addr, sizeof(addr)) < 0) {
+        close(fd);
+        return -1;
+    }
+    return fd;
+}
+
+static int send_request(int fd, const char *script) {
+    char request[REQUEST_SIZE];
+    char cwd[4096];
+    if (getcwd(cwd, sizeof(cwd)) == NULL) {
+        return -1;
+    }
+    int length = snprintf(request, sizeof(request), "%s\n%s\n", script, cwd);
+    for (size_t i = 0; i < sizeof(LIMITS) / sizeof(LIMITS[0]); i++) {
+        struct rlimit limit;
+        if (getrlimit(LIMITS[i].resource, &limit) == 0 && length < REQUEST_SIZE) {
+            // RLIM_INFINITY 는 파이썬 resource 모듈의 RLIM_INFINITY(-1)로 보냄
+            length += snprintf(request + length, sizeof(request) - length, "%s %lld %lld\n", LIMITS[i].name,
+                               limit.rlim_cur == RLIM_INFINITY ? -1LL : (long long) limit.rlim_cur,
+                               limit.rlim_max == RLIM_INFINITY ? -1LL : (long long) limit.rlim_max);
+        }
+    }
+    if (length >= REQUEST_SIZE) {
+        return -1;
+    }
+
+    int fds[3] = {STDIN_FILENO, STDOUT_FILENO, STDERR_FILENO};
+    char control[CMSG_SPACE(sizeof(fds))];
+    memset(control, 0, sizeof(control));
+    struct iovec iov = {.iov_base = request, .iov_len = (size_t) length};
+    struct msghdr msg = {0};
+    msg.msg_iov = &iov;
+    msg.msg_iovlen = 1;
+    msg.msg_control = control;
+    msg.msg_controllen = sizeof(control);
+    struct cmsghdr *cmsg = CMSG_FIRSTHDR(&msg);
+    cmsg->cmsg_level = SOL_SOCKET;
+    cmsg->cmsg_type = SCM_RIGHTS;
+    cmsg->cmsg_len = CMSG_LEN(sizeof(fds));
+    memcpy(CMSG_DATA(cmsg), fds, sizeof(fds));
+    return sendmsg(fd, &msg, 0) == length ? 0 : -1;
+}
+
+int main(int argc, char **argv) {
+    if (argc != 3) {
+        fprintf(stderr, "usage: judge-pyfork <socket> <script>\n");
+        return 2;
+    }
+    const char *script = argv[2];
+    prctl(PR_SET_DUMPABLE, 0, 0, 0, 0);
+    int stats = stats_fd();
+
+    int fd = connect_server(argv[1]);
+    if (fd < 0 || send_request(fd, script) < 0) {
+        if (fd >= 0) {
+            close(fd);
+        }
+        fallback(script, stats);
+    }
+
+    char response[256];
+    ssize_t received;
+    do {
+        received = recv(fd, response, sizeof(response) - 1, 0);
+    } while (received < 0 && errno == EINTR);
+    if (received <= 0) {
+        fprintf(stderr, "Python fork server stopped while running the program\n");
+        return FORK_SERVER_ERROR_EXIT_CODE;
+    }
+    response[received] = '\0';
+
+    int code;
+    double user, sys, elapsed;
+    long max_rss;
+    if (sscanf(response, "%d %lf %lf %ld %lf", &code, &user, &sys, &max_rss, &elapsed) != 5) {
+        fprintf(stderr, "Malformed fork server response: %s\n", response);
+        return FORK_SERVER_ERROR_EXIT_CODE;
+    }
+
+    if (stats >= 0) {
+        dprintf(stats, "%ld %d %.2f %.2f %.2f\n", max_rss, code, user, sys, elapsed);
+        close(stats);
+    }
+    return code;
+}
@@ -0,0 +1,69 @@
+#!/bin/sh
+# 채점 대상 프로그램을 자원 제한 아래에서 실행하고, 종료 후 표준 출력으로 실행 통계를 남기는 러너
+# 사용법: judge-run <CPU 시간 제한(ms)> <실제 시간 제한(ms)> <출력 제한(KB)> <출력 파일> <명령> [인자...]
+# 프로그램의 표준 출력은 출력 파일로, 표준 에러는 그대로 전달됨
+# 통계 형식: __JUDGE_STATS__ <최대 메모리(KB)> <종료 코드> <user CPU(초)> <sys CPU(초)> <실제 시간(초)>
+# 프로그램은 제출 전용 계정(judge)으로 실행하며, 통계 파일은 root 만 접근할 수 있는 /run/judge 아래에 두어 프로그램이 고칠 수 없게 함
+# 명령이 다른 프로세스에게 실행을 맡기는 경우(judge-pyfork) 실제 실행한 프로세스의 통계를 JUDGE_CHILD_STATS_FD 파일 디스크립터에 같은 형식으로 남기면 그 통계를 씀
+
+CPU_LIMIT_MS=$1
+WALL_LIMIT_MS=$2
+OUTPUT_LIMIT_KB=$3
+OUTPUT_FILE=$4
+shift 4
+
+SUBMISSION_USER=judge
+TIME_MARKER=judge-time
+
+STATS_DIR=$(mktemp -d /run/judge/run.XXXXXX) || exit 125
+STATS="$STATS_DIR/time"
+CHILD_STATS=
+# 채점 대상이 임의로 통계를 남기지 못하도록 실행을 맡기는 명령일 때만 자식 통계 파일을 씀
+# (judge 계정은 /run/judge 에 쓸 수 없으므로 이 러너가 연 파일 디스크립터로 넘겨 줌)
+if [ "${1##*/}" = "judge-pyfork" ]; then
+    CHILD_STATS="$STATS_DIR/child"
+    export JUDGE_CHILD_STATS_FD=4
+    exec 4>"$CHILD_STATS"
+fi
+
+# CPU 시간 제한: 제한을 넘긴 프로세스는 커널이 SIGXCPU/SIGKILL 로 종료시킴 (판정은 측정한 CPU 시간으로 함)
+ulimit -t $(( (CPU_LIMIT_MS + 999) / 1000 + 1 ))
+
+# 백그라운드 실행 시 표준 입력이 /dev/null 로 바뀌지 않도록 원래 입력을 넘겨 줌
+exec 3<&0
+# -q: 시그널로 종료되어도 GNU time 이 별도 메시지를 출력하지 않음 (종료 코드는 128+시그널 번호)
+# 출력 제한: 파일 크기 제한(RLIMIT_FSIZE)을 넘겨 쓰면 SIGXFSZ 로 종료됨
+# 입출력 파일은 root 인 이 러너가 열어 넘겨 주고, 프로그램은 setpriv 로 권한을 내려 실행함
+/usr/bin/time -q -f "$TIME_MARKER %M %x %U %S %e" -o "$STATS" \
+    prlimit --fsize=$(( OUTPUT_LIMIT_KB * 1024 )) -- \
+    setpriv --reuid="$SUBMISSION_USER" --regid="$SUBMISSION_USER" --clear-groups --no-new-privs -- \
+    "$@" 0<&3 3<&- >"$OUTPUT_FILE" &
+RUN_PID=$!
+exec 3<&- 4>&-
+
+# 실제 시간 제한: 잠들거나 입력을 기다리며 CPU 를 쓰지 않는 프로그램도 종료시킴.
+# time 의 자식(채점 대상)만 죽이므로 time 은 살아남아 통계를 기록함
+(
+    sleep "$(( WALL_LIMIT_MS / 1000 )).$(printf '%03d' $(( WALL_LIMIT_MS % 1000 )))"
+    pkill -KILL -P "$RUN_PID"
+) &
+WATCHDOG_PID=$!
+
+wait "$RUN_PID"
+STATUS=$?
+
+# 프로그램이 백그라운드로 남긴 프로세스가 다음 케이스의 입출력이나 통계를 건드리지 못하도록
+# 제출 계정의 프로세스를 모두 종료함 (제출 계정으로 보내므로 root 로 실행 중인 러너와 서버는 남음)
+setpriv --reuid="$SUBMISSION_USER" --regid="$SUBMISSION_USER" --clear-groups -- kill -KILL -1 2>/dev/null
+
+pkill -KILL -P "$WATCHDOG_PID" 2>/dev/null
+kill -KILL "$WATCHDOG_PID" 2>/dev/null
+
+# 마지막 줄이 아니라 time 이 남긴 기록(표시 문자열로 시작하는 줄)만 읽음
+if [ -n "$CHILD_STATS" ] && [ -s "$CHILD_STATS" ]; then
+    echo "__JUDGE_STATS__ $(tail -n 1 "$CHILD_STATS")"
+else
+    echo "__JUDGE_STATS__ $(sed -n "s/^$TIME_MARKER //p" "$STATS" | tail -n 1)"
+fi
+rm -rf "$STATS_DIR"
+exit $STATUS
@@ -0,0 +1,213 @@
+# 파이썬 제출의 인터프리터 기동 비용을 줄이는 fork 서버 (zygote)
+# 제출마다 코드 실행 컨테이너 안에서 한 번 띄우며, 자주 쓰는 표준 모듈을 미리 불러온 뒤 테스트 케이스마다 자식을 fork 하여 실행함
+# 프로토콜 (AF_UNIX SOCK_SEQPACKET, 요청 하나당 연결 하나, 클라이언트는 src/main/docker/judge-pyfork.c):
+#   요청: 표준 입력/출력/에러 파일 디스크립터 3개(SCM_RIGHTS)와 "<스크립트>\n<작업 디렉터리>\n<자원 이름> <soft> <hard>\n..."
+#   응답: "<종료 코드> <user CPU(초)> <sys CPU(초)> <최대 메모리(KB)> <실제 시간(초)>" (시그널로 종료되면 128+시그널 번호)
+# 자식은 클라이언트가 받은 자원 제한(CPU 시간, 파일 크기 등)을 그대로 적용한 뒤 스크립트를 실행하고,
+# 클라이언트가 먼저 종료되면(실제 시간 제한 등) 자식의 프로세스 그룹을 강제 종료함
+# 서버는 root 로 실행되며, 자식은 judge-run 과 같이 제출 전용 계정(judge)으로 권한을 내린 뒤 스크립트를 실행함
+# 사용법: python3 python-zygote.py <소켓 경로>
+
+import ctypes
+import io
+import os
+import pwd
+import resource
+import runpy
+import select
+import signal
+import socket
+import sys
+import time
+import traceback
+
+# 제출 코드가 자주 쓰는 모듈 (자식은 이미 불러온 모듈을 그대로 씀)
+import array
+import bisect
+import collections
+import copy
+import decimal
+import fractions
+import functools
+import heapq
+import itertools
+import math
+import operator
+import random
+import re
+import string
+import typing
+
+RLIMITS = {
+    'cpu': resource.RLIMIT_CPU,
+    'fsize': resource.RLIMIT_FSIZE,
+    'as': resource.RLIMIT_AS,
+    'data': resource.RLIMIT_DATA,
+    'stack': resource.RLIMIT_STACK,
+    'nofile': resource.RLIMIT_NOFILE,
+    'nproc': resource.RLIMIT_NPROC,
+}
+MAX_REQUEST_BYTES = 64 * 1024
+SUBMISSION_USER = 'judge'  # judge-run 의 SUBMISSION_USER 와 같아야 함
+PR_SET_NO_NEW_PRIVS = 38
+
+# 일반 실행과 같은 표준 입출력 인코딩을 자식에서도 쓰기 위해 기동 시점의 설정을 보관함
+STDIN_ENCODING, STDIN_ERRORS = sys.stdin.encoding, sys.stdin.errors
+STDOUT_ENCODING, STDOUT_ERRORS = sys.stdout.encoding, sys.stdout.errors
+
+
+def main():
+    path = sys.argv[1]
+    try:
+        os.unlink(path)
+    except FileNotFoundError:
+        pass
+    server = socket.socket(socket.AF_UNIX, socket.SOCK_SEQPACKET)
+    server.bind(path)
+    os.chmod(path, 0o666)  # 클라이언트(judge-pyfork)는 judge 계정으로 실행되므로 누구나 연결할 수 있게 함
+    server.listen(8)
+
+    while True:
+        conn, _ = server.accept()
+        try:
+            serve(server, conn)
+        except Exception as e:
+            print('fork server request failed: %s' % e, file=sys.stderr)
+        finally:
+            conn.close()
+
+
+def serve(server, conn):
+    message, fds, _, _ = socket.recv_fds(conn, MAX_REQUEST_BYTES, 3)
+    if len(fds) != 3:
+        for fd in fds:
+            os.close(fd)
+        return
+    lines = message.decode('utf-8').split('\n')
+    script, cwd = lines[0], lines[1]
+    limits = []
+    for line in lines[2:]:
+        if line:
+            name, soft, hard = line.split()
+            limits.append((RLIMITS[name], int(soft), int(hard)))
+
+    started = time.monotonic()
+    pid = os.fork()
+    if pid == 0:
+        run_child(server, conn, fds, script, cwd, limits)
+    for fd in fds:
+        os.close(fd)
+
+    status, usage = wait_child(pid, conn)
+    elapsed = time.monotonic() - started
+    code = os.waitstatus_to_exitcode(status)
+    if code < 0:
+        code = 128 - code
+    conn.send(('%d %.2f %.2f %d %.2f' % (code, usage.ru_utime, usage.ru_stime, usage.ru_maxrss, elapsed)).encode())
+
+
+def wait_child(pid, conn):
+    """
+    자식이 끝나기를 기다림. 그 전에 클라이언트 연결이 끊기면 자식의 프로세스 그룹을 강제 종료함
+    """
+    try:
+        pidfd = os.pidfd_open(pid)
+    except (AttributeError, OSError):
+        pidfd = None
+    try:
+        while True:
+            watched = [conn] if pidfd is None else [conn, pidfd]
+            readable, _, _ = select.select(watched, [], [], None if pidfd is not None else 0.005)
+            if conn in readable:
+                try:
+                    os.killpg(pid, signal.SIGKILL)
+                except ProcessLookupError:
+                    pass
+                _, status, usage = os.wait4(pid, 0)
+                return status, usage
+            waited, status, usage = os.wait4(pid, os.WNOHANG)
+            if waited == pid:
+                return status, usage
+    finally:
+        if pidfd is not None:
+            os.close(pidfd)
+
+
+def run_child(server, conn, fds, script, cwd, limits):
+    """
+    자식에서 표준 입출력과 자원 제한을 클라이언트의 것으로 바꾼 뒤 스크립트를 실행함 (돌아오지 않음)
+    """
+    code = 1
+    try:
+        server.close()
+        conn.close()
+        os.setpgid(0, 0)
+        for target, fd in enumerate(fds):
+            os.dup2(fd, target)
+        for fd in fds:
+            if fd > 2:
+                os.close(fd)
+        os.chdir(cwd)
+        for limit, soft, hard in limits:
+            resource.setrlimit(limit, (soft, hard))
+        drop_privileges()
+
+        sys.stdin = sys.__stdin__ = io.TextIOWrapper(
+            io.BufferedReader(io.FileIO(0, 'r', closefd=False)), encoding=STDIN_ENCODING, errors=STDIN_ERRORS)
+        sys.stdout = sys.__stdout__ = io.TextIOWrapper(
+            io.BufferedWriter(io.FileIO(1, 'w', closefd=False)), encoding=STDOUT_ENCODING, errors=STDOUT_ERRORS)
+        sys.stderr = sys.__stderr__ = io.TextIOWrapper(
+            io.BufferedWriter(io.FileIO(2, 'w', closefd=False)), encoding=STDOUT_ENCODING,
+            errors='backslashreplace', line_buffering=True)
+
+        script_path = os.path.abspath(script)
+        sys.argv = [script]
+        sys.path[0] = os.path.dirname(script_path)
+        random.seed()  # fork 한 자식끼리 같은 난수열을 쓰지 않도록 다시 시드를 정함
+        try:
+            runpy.run_path(script_path, run_name='__main__')
+            code = 0
+        except SystemExit as e:
+            code = exit_code_of(e)
+        except BaseException as e:
+            # 일반 실행과 같이 제출 코드의 프레임부터 보여 줌
+            tb = e.__traceback__
+            while tb is not None and tb.tb_frame.f_code.co_filename != script_path:
+                tb = tb.tb_next
+            traceback.print_exception(type(e), e, tb)
+            code = 1
+        try:
+            sys.stdout.flush()
+        except BaseException:
+            code = code or 120
+        try:
+            sys.stderr.flush()
+        except BaseException:
+            pass
+    finally:
+        os._exit(code)
+
+
+def drop_privileges():
+    """
+    자식을 제출 전용 계정으로 바꿈 (judge-run 의 setpriv --clear-groups --no-new-privs 와 같음)
+    """
+    user = pwd.getpwnam(SUBMISSION_USER)
+    os.setgroups([])
+    os.setgid(user.pw_gid)
+    os.setuid(user.pw_uid)
+    if ctypes.CDLL(None, use_errno=True).prctl(PR_SET_NO_NEW_PRIVS, 1, 0, 0, 0) != 0:
+        raise OSError(ctypes.get_errno(), 'prctl(PR_SET_NO_NEW_PRIVS) failed')
+
+
+def exit_code_of(e):
+    if e.code is None:
+        return 0
+    if isinstance(e.code, int):
+        return e.code & 0xFF
+    print(e.code, file=sys.stderr)
+    return 1
+
+
+if __name__ == '__main__':
+    main()
@@ -0,0 +1,27 @@
+// 코드 실행 컨테이너를 제어하기 위한 Docker 클라이언트 설정
+
+package com.unide.backend.common.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.core.DefaultDockerClientConfig;
+import com.github.dockerjava.core.DockerClientImpl;
+import com.github.dockerjava.zerodep.ZerodepDockerHttpClient;
+
+@Configuration
+@ConditionalOnProperty(name = "judge.backend", havingValue = "docker", matchIfMissing = true)
+public class DockerConfig {
+
+    @Bean
+    public DockerClient dockerClient() {
+        DefaultDockerClientConfig config = DefaultDockerClientConfig.createDefaultConfigBuilder().build();
+        ZerodepDockerHttpClient httpClient = new ZerodepDockerHttpClient.Builder()
+                .dockerHost(config.getDockerHost())
+                .sslConfig(config.getSSLConfig())
+                .build();
+        return DockerClientImpl.getInstance(config, httpClient);
+    }
+}
@@ -2,13 +2,21 @@ package com.unide.backend.common.config;
 
 import java.nio.file.Paths;
 
+import jakarta.persistence.EntityManagerFactory;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import lombok.RequiredArgsConstructor;
+
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
+    private final EntityManagerFactory entityManagerFactory;
 
     @Value("${app.upload.avatar-dir}")      // 예: uploads/avatars
     private String avatarDir;
@@ -16,6 +24,18 @@ public class WebConfig implements WebMvcConfigurer {
     @Value("${app.upload.testcase-dir}")    // 예: uploads/testcases
     private String testcaseDir;
 
+    /**
+     * spring.jpa.open-in-view 대신 직접 OSIV 인터셉터를 등록함.
+     * 채점 진행 이벤트(SSE) 요청은 연결이 유지되는 동안 DB 커넥션을 점유하지 않도록 제외함
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        OpenEntityManagerInViewInterceptor interceptor = new OpenEntityManagerInViewInterceptor();
+        interceptor.setEntityManagerFactory(entityManagerFactory);
+        registry.addWebRequestInterceptor(interceptor)
+                .excludePathPatterns("/api/submissions/*/events");
+    }
+
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
 
@@ -16,6 +16,9 @@ import com.unide.backend.domain.admin.dto.BlacklistDeleteResponseDto;
 import com.unide.backend.global.security.auth.PrincipalDetails;
 import com.unide.backend.domain.auth.dto.InstructorApproveEmailRequestDto;
 import com.unide.backend.domain.auth.service.AuthService;
+import com.unide.backend.domain.submissions.dto.RejudgeJobResponseDto;
+import com.unide.backend.domain.submissions.dto.RejudgeRequestDto;
+import com.unide.backend.domain.submissions.service.RejudgeService;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -40,6 +43,7 @@ import java.net.URLEncoder;
 public class AdminController {
     private final AdminService adminService;
     private final AuthService authService;
+    private final RejudgeService rejudgeService;
 
     @PatchMapping("/users/{userId}/role")
     public ResponseEntity<RoleChangeResponseDto> changeUserRole(
@@ -125,4 +129,33 @@ public class AdminController {
                 .header(org.springframework.http.HttpHeaders.CONTENT_DISPOSITION, headerValue)
                 .body(resource);
     }
+
+    @PostMapping("/problems/{problemId}/rejudge")
+    public ResponseEntity<RejudgeJobResponseDto> createRejudgeJob(
+            @AuthenticationPrincipal PrincipalDetails principalDetails,
+            @PathVariable Long problemId,
+            @RequestBody RejudgeRequestDto requestDto) {
+        RejudgeJobResponseDto response = rejudgeService.createRejudgeJob(problemId, principalDetails.getUser(), requestDto);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    @GetMapping("/rejudge/{rejudgeJobId}")
+    public ResponseEntity<RejudgeJobResponseDto> getRejudgeJob(@PathVariable Long rejudgeJobId) {
+        return ResponseEntity.ok(rejudgeService.getRejudgeJob(rejudgeJobId));
+    }
+
+    @PostMapping("/rejudge/{rejudgeJobId}/pause")
+    public ResponseEntity<RejudgeJobResponseDto> pauseRejudgeJob(@PathVariable Long rejudgeJobId) {
+        return ResponseEntity.ok(rejudgeService.pauseRejudgeJob(rejudgeJobId));
+    }
+
+    @PostMapping("/rejudge/{rejudgeJobId}/resume")
+    public ResponseEntity<RejudgeJobResponseDto> resumeRejudgeJob(@PathVariable Long rejudgeJobId) {
+        return ResponseEntity.ok(rejudgeService.resumeRejudgeJob(rejudgeJobId));
+    }
+
+    @PostMapping("/rejudge/{rejudgeJobId}/cancel")
+    public ResponseEntity<RejudgeJobResponseDto> cancelRejudgeJob(@PathVariable Long rejudgeJobId) {
+        return ResponseEntity.ok(rejudgeService.cancelRejudgeJob(rejudgeJobId));
+    }
 }
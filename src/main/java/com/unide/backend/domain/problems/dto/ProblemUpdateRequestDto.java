@@ -5,6 +5,8 @@ package com.unide.backend.domain.problems.dto;
 import java.util.List;
 import com.unide.backend.domain.problems.dto.TestCaseDto;
 
+import com.unide.backend.domain.problems.entity.JavaRunProfile;
+import com.unide.backend.domain.problems.entity.OutputCompareMode;
 import com.unide.backend.domain.problems.entity.ProblemDifficulty;
 import com.unide.backend.domain.problems.entity.ProblemTag;
 import com.unide.backend.domain.problems.entity.ProblemStatus;
@@ -51,5 +53,9 @@ public class ProblemUpdateRequestDto {
     private String hint;
     
     private String source;
+
+    private OutputCompareMode compareMode;
+
+    private JavaRunProfile javaRunProfile;
     private List<TestCaseDto> testCases;
 }
@@ -0,0 +1,8 @@
+// 자바 제출을 실행할 때 사용할 JVM 실행 프로파일을 나타내는 Enum (문제마다 지정, 지정하지 않으면 채점 서버 기본값)
+
+package com.unide.backend.domain.problems.entity;
+
+public enum JavaRunProfile {
+    STANDARD,   // C1/C2 계층형 JIT 를 모두 사용 (오래 계산하는 케이스에 유리)
+    QUICK_START // C1 컴파일러만 사용 (-XX:TieredStopAtLevel=1, 짧은 케이스가 많아 JVM 기동과 JIT 예열 비용이 큰 경우에 유리)
+}
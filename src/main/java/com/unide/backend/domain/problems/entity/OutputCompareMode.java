@@ -0,0 +1,9 @@
+// 제출 코드의 출력과 정답 출력을 비교하는 방식을 나타내는 Enum
+
+package com.unide.backend.domain.problems.entity;
+
+public enum OutputCompareMode {
+    EXACT, // 줄 단위 비교 (줄 끝 공백과 마지막 빈 줄은 무시)
+    TOKEN, // 공백으로 구분한 토큰 단위 비교 (공백/줄바꿈 개수는 무시)
+    FLOAT  // 토큰 단위 비교 + 실수 토큰은 오차 범위 안이면 같은 것으로 봄
+}
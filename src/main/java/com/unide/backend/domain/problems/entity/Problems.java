@@ -73,10 +73,22 @@ public class Problems extends BaseTimeEntity {
     @Column(name = "testcase_file_path", length = 255)
     private String testcaseFilePath;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "compare_mode", columnDefinition = "VARCHAR(20)")
+    private OutputCompareMode compareMode; // 출력 비교 방식 (null 이면 EXACT)
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "java_run_profile", columnDefinition = "VARCHAR(20)")
+    private JavaRunProfile javaRunProfile; // 자바 제출 실행 프로파일 (null 이면 채점 서버 기본값)
+
+    @Column(name = "test_case_version")
+    private Long testCaseVersion; // 테스트 케이스가 바뀔 때마다 증가 (채점 서버의 테스트 케이스 캐시 무효화용)
+
     @Builder
     public Problems(User createdBy, String title, String summary, String description, String inputOutputExample, ProblemDifficulty difficulty,
                     Integer timeLimit, Integer memoryLimit, ProblemStatus status, List<ProblemTag> tags,
-                    String hint, String source, String testcaseFilePath) {
+                    String hint, String source, String testcaseFilePath, OutputCompareMode compareMode,
+                    JavaRunProfile javaRunProfile) {
         this.createdBy = createdBy;
         this.title = title;
         this.summary = summary;
@@ -91,6 +103,9 @@ public class Problems extends BaseTimeEntity {
         this.hint = hint;
         this.source = source;
         this.testcaseFilePath = testcaseFilePath;
+        this.compareMode = compareMode;
+        this.javaRunProfile = javaRunProfile;
+        this.testCaseVersion = 0L;
     }
     
     // 비즈니스 메서드
@@ -138,6 +153,18 @@ public class Problems extends BaseTimeEntity {
         this.source = source;
     }
 
+    public void updateCompareMode(OutputCompareMode compareMode) {
+        this.compareMode = compareMode;
+    }
+
+    public void updateJavaRunProfile(JavaRunProfile javaRunProfile) {
+        this.javaRunProfile = javaRunProfile;
+    }
+
+    public void increaseTestCaseVersion() {
+        this.testCaseVersion = (testCaseVersion != null ? testCaseVersion : 0L) + 1;
+    }
+
     public void updateTestcaseFilePath(String testcaseFilePath) {
         this.testcaseFilePath = testcaseFilePath;
     }
@@ -31,19 +31,34 @@ public class TestCase {
     @JoinColumn(name = "problem_id", nullable = false)
     private Problems problem;
 
+    // 파일 저장소(TestCaseStore)를 사용하기 전에 저장된 테스트 케이스만 내용이 있음 (저장소의 케이스는 빈 문자열)
     @Lob
-    @Column(nullable = false)
     private String input;
 
     @Lob
-    @Column(nullable = false)
     private String output;
 
+    private Integer storeIndex;  // 파일 저장소 안에서의 케이스 번호 (null 이면 input/output 컬럼에 내용이 있음)
+    private Long inputSize;      // 입력 크기 (바이트)
+    private Long outputSize;     // 정답 크기 (바이트)
+    private Long inputChecksum;  // 입력 CRC32C
+    private Long outputChecksum; // 정답 CRC32C
+
     @Builder
-    public TestCase(Problems problem, String input, String output) {
+    public TestCase(Problems problem, String input, String output, Integer storeIndex,
+                    Long inputSize, Long outputSize, Long inputChecksum, Long outputChecksum) {
         this.problem = problem;
         this.input = input;
         this.output = output;
+        this.storeIndex = storeIndex;
+        this.inputSize = inputSize;
+        this.outputSize = outputSize;
+        this.inputChecksum = inputChecksum;
+        this.outputChecksum = outputChecksum;
+    }
+
+    public boolean isStored() {
+        return storeIndex != null;
     }
 
     public void setProblem(Problems problem) {
@@ -0,0 +1,37 @@
+// 테스트 케이스 저장소 파일(.dat/.idx)을 여러 채점 서버가 함께 받을 수 있도록 DB 에 나누어 보관하는 엔터티
+// 각 서버의 로컬 디스크에 파일이 없으면 이 테이블에서 내려받아 씀 (읽기/쓰기는 TestCaseFileChunkJdbcRepository 사용)
+
+package com.unide.backend.domain.problems.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Entity
+@Table(name = "test_case_file_chunks", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_test_case_file_chunks", columnNames = {"problem_id", "version", "kind", "chunk_index"})
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TestCaseFileChunk {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long problemId;
+
+    @Column(nullable = false)
+    private long version; // 문제의 테스트 케이스 버전
+
+    @Column(nullable = false, length = 3)
+    private String kind; // 파일 종류 (dat, idx)
+
+    @Column(nullable = false)
+    private int chunkIndex;
+
+    @Lob
+    @Column(nullable = false, columnDefinition = "MEDIUMBLOB")
+    private byte[] data; // 파일의 chunkIndex 번째 조각 (MEDIUMBLOB 16MB 보다 작게 나눔)
+}
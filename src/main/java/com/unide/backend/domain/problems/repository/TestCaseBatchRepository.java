@@ -0,0 +1,18 @@
+// TestCase 메타데이터를 JDBC 배치로 저장하는 사용자 정의 리포지토리
+// (IDENTITY 전략은 Hibernate 배치 INSERT 가 비활성화되므로 JdbcTemplate 로 직접 저장함)
+
+package com.unide.backend.domain.problems.repository;
+
+import java.util.List;
+
+import com.unide.backend.domain.problems.entity.TestCase;
+
+public interface TestCaseBatchRepository {
+
+    /**
+     * 파일 저장소에 쓴 테스트 케이스들의 메타데이터를 배치 INSERT 로 저장함
+     * (생성된 ID 는 엔터티에 반영되지 않으므로, 저장 후에는 조회해서 사용해야 함)
+     * @param testCases 저장할 테스트 케이스 목록
+     */
+    void insertAll(List<TestCase> testCases);
+}
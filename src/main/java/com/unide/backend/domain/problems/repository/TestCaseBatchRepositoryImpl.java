@@ -0,0 +1,50 @@
+// TestCaseBatchRepository 의 JdbcTemplate 구현체
+
+package com.unide.backend.domain.problems.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.unide.backend.domain.problems.entity.TestCase;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class TestCaseBatchRepositoryImpl implements TestCaseBatchRepository {
+    private static final int BATCH_SIZE = 1000;
+    // input/output 은 파일 저장소를 쓰기 전의 컬럼으로, 기존 DB 에는 NOT NULL 로 남아 있을 수 있어 빈 문자열을 넣음
+    // (ddl-auto: update 는 NOT NULL 제약을 풀지 않음)
+    private static final String INSERT_SQL = """
+        INSERT INTO test_cases (problem_id, input, output, store_index, input_size, output_size, input_checksum, output_checksum)
+        VALUES (?, '', '', ?, ?, ?, ?, ?)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<TestCase> testCases) {
+        if (testCases.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, testCases, BATCH_SIZE, (ps, testCase) -> {
+            ps.setLong(1, testCase.getProblem().getId());
+            setNullable(ps, 2, testCase.getStoreIndex());
+            setNullable(ps, 3, testCase.getInputSize());
+            setNullable(ps, 4, testCase.getOutputSize());
+            setNullable(ps, 5, testCase.getInputChecksum());
+            setNullable(ps, 6, testCase.getOutputChecksum());
+        });
+    }
+
+    private static void setNullable(PreparedStatement ps, int index, Number value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.BIGINT);
+        } else {
+            ps.setLong(index, value.longValue());
+        }
+    }
+}
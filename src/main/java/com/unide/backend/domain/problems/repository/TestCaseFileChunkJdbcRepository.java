@@ -0,0 +1,14 @@
+// 테스트 케이스 저장소 파일 조각을 JDBC 로 한 조각씩 쓰고 읽는 사용자 정의 리포지토리
+// (JPA 로 저장하면 모든 조각이 트랜잭션이 끝날 때까지 영속성 컨텍스트에 남으므로 JdbcTemplate 로 직접 처리함)
+
+package com.unide.backend.domain.problems.repository;
+
+public interface TestCaseFileChunkJdbcRepository {
+
+    void insertChunk(Long problemId, long version, String kind, int chunkIndex, byte[] data);
+
+    /**
+     * @return 파일 조각의 내용 (없으면 null)
+     */
+    byte[] findChunk(Long problemId, long version, String kind, int chunkIndex);
+}
@@ -0,0 +1,35 @@
+// TestCaseFileChunkJdbcRepository 의 JdbcTemplate 구현체
+
+package com.unide.backend.domain.problems.repository;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class TestCaseFileChunkJdbcRepositoryImpl implements TestCaseFileChunkJdbcRepository {
+    private static final String INSERT_SQL = """
+        INSERT INTO test_case_file_chunks (problem_id, version, kind, chunk_index, data)
+        VALUES (?, ?, ?, ?, ?)
+        """;
+    private static final String SELECT_SQL = """
+        SELECT data FROM test_case_file_chunks
+        WHERE problem_id = ? AND version = ? AND kind = ? AND chunk_index = ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertChunk(Long problemId, long version, String kind, int chunkIndex, byte[] data) {
+        jdbcTemplate.update(INSERT_SQL, problemId, version, kind, chunkIndex, data);
+    }
+
+    @Override
+    public byte[] findChunk(Long problemId, long version, String kind, int chunkIndex) {
+        List<byte[]> rows = jdbcTemplate.query(SELECT_SQL, (rs, rowNum) -> rs.getBytes(1),
+                problemId, version, kind, chunkIndex);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+}
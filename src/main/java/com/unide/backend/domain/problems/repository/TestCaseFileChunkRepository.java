@@ -0,0 +1,22 @@
+// TestCaseFileChunk 엔터티에 대한 데이터베이스 접근을 처리하는 JpaRepository
+
+package com.unide.backend.domain.problems.repository;
+
+import com.unide.backend.domain.problems.entity.TestCaseFileChunk;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TestCaseFileChunkRepository extends JpaRepository<TestCaseFileChunk, Long>, TestCaseFileChunkJdbcRepository {
+
+    @Modifying
+    @Query("DELETE FROM TestCaseFileChunk c WHERE c.problemId = :problemId AND c.version < :version")
+    int deleteVersionsBefore(@Param("problemId") Long problemId, @Param("version") long version);
+
+    @Modifying
+    @Query("DELETE FROM TestCaseFileChunk c WHERE c.problemId = :problemId AND c.version = :version")
+    int deleteVersion(@Param("problemId") Long problemId, @Param("version") long version);
+}
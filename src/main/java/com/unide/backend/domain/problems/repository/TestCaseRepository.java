@@ -10,9 +10,11 @@ import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
-public interface TestCaseRepository extends JpaRepository<TestCase, Long> {
+public interface TestCaseRepository extends JpaRepository<TestCase, Long>, TestCaseBatchRepository {
 
     void deleteByProblem(Problems problem);
 
     List<TestCase> findAllByProblem(Problems problem);
+
+    long countByProblem(Problems problem);
 }
\ No newline at end of file
@@ -7,11 +7,8 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
-import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.UUID;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.net.MalformedURLException;
 
 import org.springframework.beans.factory.annotation.Value;
@@ -32,15 +29,16 @@ import com.unide.backend.domain.problems.dto.ProblemCreateRequestDto;
 import com.unide.backend.domain.problems.dto.ProblemDetailResponseDto;
 import com.unide.backend.domain.problems.dto.ProblemResponseDto;
 import com.unide.backend.domain.problems.dto.ProblemUpdateRequestDto;
+import com.unide.backend.domain.problems.dto.TestCaseDto;
 import com.unide.backend.domain.problems.entity.ProblemDifficulty;
 import com.unide.backend.domain.problems.entity.Problems;
 import com.unide.backend.domain.problems.repository.ProblemsRepository;
 import com.unide.backend.domain.problems.repository.TestCaseRepository;
 import com.unide.backend.domain.submissions.repository.SubmissionsRepository;
+import com.unide.backend.domain.submissions.service.TestCaseCache;
 import com.unide.backend.domain.user.entity.User;
 import com.unide.backend.domain.user.entity.UserRole;
 import com.unide.backend.global.security.auth.PrincipalDetails;
-import com.unide.backend.domain.problems.entity.TestCase;
 
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
@@ -63,6 +61,9 @@ public class ProblemService {
     private final ProblemsRepository problemsRepository;
     private final SubmissionsRepository submissionsRepository;
     private final TestCaseRepository testCaseRepository;
+    private final TestCaseCache testCaseCache;
+    private final TestCaseStore testCaseStore;
+    private final TestCaseFileImporter testCaseFileImporter;
     
     /** 상태별 문제 조회 (매니저용) */
     public Page<ProblemResponseDto> getProblemsByStatus(com.unide.backend.domain.problems.entity.ProblemStatus status, Pageable pageable) {
@@ -101,6 +102,8 @@ public class ProblemService {
                 .hint(requestDto.getHint())
                 .source(requestDto.getSource())
                 .testcaseFilePath(path)
+                .compareMode(requestDto.getCompareMode())
+                .javaRunProfile(requestDto.getJavaRunProfile())
                 .build();
 
         problemsRepository.save(problem);
@@ -109,17 +112,9 @@ public class ProblemService {
         if (path != null) {
             saveTestCasesFromFile(problem, path); 
         } else if (requestDto.getTestCases() != null) {
-            for (com.unide.backend.domain.problems.dto.TestCaseDto tcDto : requestDto.getTestCases()) {
-                if (tcDto.getInput() != null && tcDto.getOutput() != null) {
-                    testCaseRepository.save(
-                        com.unide.backend.domain.problems.entity.TestCase.builder()
-                            .problem(problem)
-                            .input(tcDto.getInput())
-                            .output(tcDto.getOutput())
-                            .build()
-                    );
-                }
-            }
+            saveTestCases(problem, requestDto.getTestCases().stream()
+                    .filter(tcDto -> tcDto.getInput() != null && tcDto.getOutput() != null)
+                    .toList());
         }
         return problem.getId();
     }
@@ -145,6 +140,8 @@ public class ProblemService {
         if (dto.getHint() != null) problem.updateHint(dto.getHint());
         if (dto.getSource() != null) problem.updateSource(dto.getSource());
         if (dto.getTags() != null) problem.updateTags(dto.getTags());
+        if (dto.getCompareMode() != null) problem.updateCompareMode(dto.getCompareMode());
+        if (dto.getJavaRunProfile() != null) problem.updateJavaRunProfile(dto.getJavaRunProfile());
 
         // 파일이 새로 들어오면 저장 후 경로만 바꾸기
         if (newFile != null && !newFile.isEmpty()) {
@@ -155,27 +152,15 @@ public class ProblemService {
         // 테스트케이스 수정: 입력이 없으면 기본값 저장
         List<com.unide.backend.domain.problems.dto.TestCaseDto> testCases = dto.getTestCases();
         testCaseRepository.deleteByProblem(problem);
+        problem.increaseTestCaseVersion();
+        testCaseCache.invalidate(problemId);
         if (testCases == null || testCases.isEmpty()) {
             // 기본 테스트케이스 저장
-            testCaseRepository.save(
-                com.unide.backend.domain.problems.entity.TestCase.builder()
-                    .problem(problem)
-                    .input("입력 없음")
-                    .output("출력 없음")
-                    .build()
-            );
+            saveTestCases(problem, List.of(testCaseDto("입력 없음", "출력 없음")));
         } else {
-            for (com.unide.backend.domain.problems.dto.TestCaseDto tcDto : testCases) {
-                if (tcDto.getInput() != null && tcDto.getOutput() != null) {
-                    testCaseRepository.save(
-                        com.unide.backend.domain.problems.entity.TestCase.builder()
-                            .problem(problem)
-                            .input(tcDto.getInput())
-                            .output(tcDto.getOutput())
-                            .build()
-                    );
-                }
-            }
+            saveTestCases(problem, testCases.stream()
+                    .filter(tcDto -> tcDto.getInput() != null && tcDto.getOutput() != null)
+                    .toList());
         }
 
         if(user.getRole() == UserRole.MANAGER) {
@@ -375,6 +360,8 @@ public class ProblemService {
                 .orElseThrow(() -> new IllegalArgumentException("문제를 찾을 수 없습니다"));
         
         problemsRepository.delete(problem);
+        testCaseCache.invalidate(problemId);
+        testCaseStore.deleteAfterCommit(problemId);
     }
     
     /** 문제 삭제 권한 검증 */
@@ -456,35 +443,34 @@ public class ProblemService {
 		}
     }
 
-    @Transactional
+    /**
+     * 업로드된 테스트케이스 파일(Input/Output 텍스트 또는 N.in/N.out zip)을 스트리밍으로 읽어 저장함
+     */
     private void saveTestCasesFromFile(Problems problem, String filePath) {
         String cleanFilePath = filePath.replace(baseUrl + "/uploads/testcases/", "");
         Path path = Paths.get(testcaseUploadDir, cleanFilePath);
 
         try {
-            String content = Files.readString(path, StandardCharsets.UTF_8);
-            Pattern pattern = Pattern.compile("Input\\s*\\n(.*?)\\nOutput\\s*\\n(.*?)(?=\\nInput|\\z)", Pattern.DOTALL | Pattern.CASE_INSENSITIVE);
-            Matcher matcher = pattern.matcher(content);
-
-            while (matcher.find()) {
-                String input = matcher.group(1).trim();
-                String output = matcher.group(2).trim();
-
-                if (!input.isEmpty() && !output.isEmpty()) {
-                    TestCase testCase = TestCase.builder()
-                        .problem(problem)
-                        .input(input)
-                        .output(output)
-                        .build();
-                    testCaseRepository.save(testCase);
-                }
-            }
-            
+            testCaseRepository.insertAll(testCaseFileImporter.importFile(problem, path));
         } catch (IOException e) {
             throw new RuntimeException("테스트케이스 파일 분석 및 로딩 실패: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * 테스트 케이스 내용은 파일 저장소에 쓰고, DB 에는 저장소 위치와 크기, 체크섬만 배치 INSERT 로 저장함
+     */
+    private void saveTestCases(Problems problem, List<TestCaseDto> testCases) {
+        testCaseRepository.insertAll(testCaseStore.write(problem, testCases));
+    }
+
+    private static TestCaseDto testCaseDto(String input, String output) {
+        TestCaseDto dto = new TestCaseDto();
+        dto.setInput(input);
+        dto.setOutput(output);
+        return dto;
+    }
+
     public Resource downloadTestcaseFile(Long problemId) {
         Problems problem = problemsRepository.findById(problemId)
                 .orElseThrow(() -> new IllegalArgumentException("ID에 해당하는 문제를 찾을 수 없습니다: " + problemId));
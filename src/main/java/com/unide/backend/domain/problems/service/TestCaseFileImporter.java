@@ -0,0 +1,257 @@
+// 업로드된 테스트케이스 파일을 스트리밍으로 읽어 테스트케이스 저장소에 쓰는 컴포넌트
+// 지원 형식:
+//   텍스트: "Input" 줄 다음에 입력, "Output" 줄 다음에 정답이 오는 구역의 반복 (각 구역의 앞뒤 공백은 제거)
+//   zip: N.in / N.out 파일 쌍 (N 의 숫자 순서대로 저장, 내용은 그대로 사용)
+
+package com.unide.backend.domain.problems.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.unide.backend.domain.problems.entity.Problems;
+import com.unide.backend.domain.problems.entity.TestCase;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TestCaseFileImporter {
+    private static final Pattern ZIP_CASE_PATTERN = Pattern.compile("(?:.*/)?(\\d+)\\.(in|out)");
+    private static final long PROGRESS_INTERVAL_BYTES = 16L * 1024 * 1024; // 진행 상황을 기록할 간격
+
+    private final TestCaseStore testCaseStore;
+
+    @Value("${app.testcase-import.max-total-mb:1024}")
+    private long maxTotalMb; // zip 압축 해제 후 전체 크기 제한
+
+    /**
+     * 테스트케이스 파일을 파싱하여 문제의 현재 테스트 케이스 버전으로 저장함
+     * @param problem 저장된 문제
+     * @param file 업로드된 테스트케이스 파일 (.zip 이면 N.in / N.out 쌍, 그 외에는 Input/Output 텍스트 형식)
+     * @return DB 에 저장할 TestCase 엔터티 목록 (입력/정답 컬럼은 비어 있음)
+     * @throws IllegalArgumentException 파일 형식이 잘못된 경우 (텍스트 형식은 줄 번호 포함)
+     */
+    public List<TestCase> importFile(Problems problem, Path file) throws IOException {
+        long startedAt = System.currentTimeMillis();
+        List<TestCase> testCases;
+        try (TestCaseStore.Writer writer = testCaseStore.openWriter(problem)) {
+            if (file.getFileName().toString().toLowerCase().endsWith(".zip")) {
+                importZip(file, writer);
+            } else {
+                importText(file, writer);
+            }
+            testCases = writer.finish();
+        }
+        log.info("Imported {} test cases for problem {} from {} ({} ms)",
+                testCases.size(), problem.getId(), file.getFileName(), System.currentTimeMillis() - startedAt);
+        return testCases;
+    }
+
+    /**
+     * 한 줄씩 읽으면서 현재 구역(입력/정답)의 내용을 바로 저장소에 씀 (파일 전체를 메모리에 올리지 않음)
+     */
+    private void importText(Path file, TestCaseStore.Writer writer) throws IOException {
+        long totalBytes = Files.size(file);
+        long readBytes = 0;
+        long nextProgress = PROGRESS_INTERVAL_BYTES;
+        long lineNumber = 0;
+        long caseStartLine = 0;
+        Section section = Section.NONE;
+        SectionWriter content = null;
+
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                readBytes += line.length() + 1;
+                if (readBytes >= nextProgress) {
+                    log.info("Importing test cases from {}: {}/{} bytes, {} cases", file.getFileName(),
+                            readBytes, totalBytes, writer.getCaseCount());
+                    nextProgress += PROGRESS_INTERVAL_BYTES;
+                }
+
+                String header = line.trim();
+                if (header.equalsIgnoreCase("Input")) {
+                    if (section == Section.INPUT) {
+                        throw parseError(lineNumber, caseStartLine + "번째 줄의 입력에 Output 구역이 없습니다.");
+                    }
+                    if (section == Section.OUTPUT) {
+                        content.finishCase();
+                    }
+                    section = Section.INPUT;
+                    caseStartLine = lineNumber;
+                    content = new SectionWriter(writer);
+                } else if (header.equalsIgnoreCase("Output")) {
+                    if (section != Section.INPUT) {
+                        throw parseError(lineNumber, "Input 구역 없이 Output 이 나왔습니다.");
+                    }
+                    section = Section.OUTPUT;
+                    content.startOutput();
+                } else if (section == Section.NONE) {
+                    if (!header.isEmpty()) {
+                        throw parseError(lineNumber, "첫 번째 Input 구역 앞에 내용이 있습니다.");
+                    }
+                } else {
+                    content.line(line);
+                }
+            }
+        }
+
+        if (section == Section.INPUT) {
+            throw parseError(caseStartLine, "입력에 Output 구역이 없습니다.");
+        }
+        if (section == Section.OUTPUT) {
+            content.finishCase();
+        }
+        if (writer.getCaseCount() == 0) {
+            throw new IllegalArgumentException("테스트케이스 파일에 테스트케이스가 없습니다.");
+        }
+    }
+
+    /**
+     * zip 안의 N.in / N.out 쌍을 N 의 순서대로 저장함
+     */
+    private void importZip(Path file, TestCaseStore.Writer writer) throws IOException {
+        long maxTotalBytes = maxTotalMb * 1024 * 1024;
+        try (ZipFile zip = new ZipFile(file.toFile(), StandardCharsets.UTF_8)) {
+            Map<Long, ZipEntry[]> pairs = new TreeMap<>();
+            Enumeration<? extends ZipEntry> entries = zip.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry entry = entries.nextElement();
+                Matcher matcher = ZIP_CASE_PATTERN.matcher(entry.getName());
+                if (entry.isDirectory() || !matcher.matches()) {
+                    continue;
+                }
+                long number = Long.parseLong(matcher.group(1));
+                ZipEntry[] pair = pairs.computeIfAbsent(number, n -> new ZipEntry[2]);
+                int slot = matcher.group(2).equals("in") ? 0 : 1;
+                if (pair[slot] != null) {
+                    throw new IllegalArgumentException("zip 에 " + number + "." + matcher.group(2) + " 파일이 여러 개 있습니다.");
+                }
+                pair[slot] = entry;
+            }
+            if (pairs.isEmpty()) {
+                throw new IllegalArgumentException("zip 에 N.in / N.out 형식의 테스트케이스 파일이 없습니다.");
+            }
+
+            long totalBytes = 0;
+            byte[] buffer = new byte[64 * 1024];
+            for (Map.Entry<Long, ZipEntry[]> pair : pairs.entrySet()) {
+                ZipEntry[] files = pair.getValue();
+                if (files[0] == null || files[1] == null) {
+                    throw new IllegalArgumentException("zip 에 " + pair.getKey() + "번 테스트케이스의 "
+                            + (files[0] == null ? ".in" : ".out") + " 파일이 없습니다.");
+                }
+                writer.startInput();
+                totalBytes = copy(zip, files[0], writer, buffer, totalBytes, maxTotalBytes);
+                writer.startOutput();
+                totalBytes = copy(zip, files[1], writer, buffer, totalBytes, maxTotalBytes);
+                writer.endCase();
+
+                if (writer.getCaseCount() % 100 == 0) {
+                    log.info("Importing test cases from {}: {}/{} cases", file.getFileName(), writer.getCaseCount(), pairs.size());
+                }
+            }
+        }
+    }
+
+    private static long copy(ZipFile zip, ZipEntry entry, TestCaseStore.Writer writer, byte[] buffer,
+                             long totalBytes, long maxTotalBytes) throws IOException {
+        try (InputStream in = zip.getInputStream(entry)) {
+            int n;
+            while ((n = in.read(buffer)) > 0) {
+                totalBytes += n;
+                if (totalBytes > maxTotalBytes) {
+                    throw new IllegalArgumentException("zip 의 압축 해제 크기가 제한(" + (maxTotalBytes / 1024 / 1024) + "MB)을 넘었습니다.");
+                }
+                writer.write(buffer, 0, n);
+            }
+        }
+        return totalBytes;
+    }
+
+    private static IllegalArgumentException parseError(long lineNumber, String message) {
+        return new IllegalArgumentException("테스트케이스 파일 " + lineNumber + "번째 줄: " + message);
+    }
+
+    private enum Section {
+        NONE, INPUT, OUTPUT
+    }
+
+    /**
+     * 한 케이스의 입력/정답 줄을 받아 구역 앞뒤의 공백(공백 문자와 빈 줄)을 제거하며 바로 저장소에 씀.
+     * 뒤에 내용이 이어질지 모르는 공백과 줄바꿈만 보류해 둠
+     */
+    private static class SectionWriter {
+        private final TestCaseStore.Writer writer;
+        private final StringBuilder pending = new StringBuilder(); // 뒤에 내용이 이어져야 쓰는 공백과 줄바꿈
+        private boolean started = false;   // 현재 구역에 내용이 있는지 여부
+        private boolean hasInput = false;
+
+        private SectionWriter(TestCaseStore.Writer writer) {
+            this.writer = writer;
+            writer.startInput();
+        }
+
+        private void startOutput() throws IOException {
+            hasInput = started;
+            started = false;
+            pending.setLength(0);
+            writer.startOutput();
+        }
+
+        private void line(String line) throws IOException {
+            int end = line.length();
+            while (end > 0 && line.charAt(end - 1) <= ' ') {
+                end--;
+            }
+            if (end == 0) {
+                if (started) {
+                    pending.append(line).append('\n');
+                }
+                return;
+            }
+            int begin = 0;
+            if (!started) {
+                while (line.charAt(begin) <= ' ') {
+                    begin++;
+                }
+                started = true;
+            }
+            if (!pending.isEmpty()) {
+                writer.write(pending.toString().getBytes(StandardCharsets.UTF_8));
+                pending.setLength(0);
+            }
+            writer.write(line.substring(begin, end).getBytes(StandardCharsets.UTF_8));
+            pending.append(line, end, line.length()).append('\n');
+        }
+
+        /**
+         * 케이스를 마침 (기존과 같이 입력 또는 정답이 비어 있는 케이스는 버림)
+         */
+        private void finishCase() throws IOException {
+            if (hasInput && started) {
+                writer.endCase();
+            } else {
+                writer.discardCase();
+            }
+        }
+    }
+}
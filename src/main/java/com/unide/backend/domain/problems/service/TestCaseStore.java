@@ -0,0 +1,521 @@
+// 테스트 케이스 입력/정답을 로컬 디스크의 데이터 파일과 오프셋 인덱스 파일로 보관하는 저장소
+// DB 에는 케이스 번호, 크기, 체크섬만 저장하고, 채점 시에는 데이터 파일을 메모리 매핑하여 힙에 올리지 않고 사용함
+// 파일은 같은 트랜잭션에서 DB(test_case_file_chunks)에도 조각으로 나누어 올리므로,
+// 디렉터리를 공유하지 않는 채점 서버도 처음 채점할 때 DB 에서 내려받아 로컬 디스크에 두고 사용함
+//
+// 파일 구성 ({dir}/{문제 ID}/{테스트 케이스 버전}.dat, .idx)
+//   .dat: 케이스 순서대로 [입력][정답] 바이트를 이어 붙임
+//   .idx: [MAGIC(int)][케이스 수(int)] 다음에 케이스마다 [입력 시작 위치(long)][입력 크기(long)][정답 크기(long)]
+
+package com.unide.backend.domain.problems.service;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.IntConsumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.unide.backend.domain.problems.dto.TestCaseDto;
+import com.unide.backend.domain.problems.entity.Problems;
+import com.unide.backend.domain.problems.entity.TestCase;
+import com.unide.backend.domain.problems.repository.TestCaseFileChunkRepository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TestCaseStore {
+    private static final int MAGIC = 0x54435331; // "TCS1"
+    private static final int HEADER_BYTES = 8;
+    private static final int INDEX_ENTRY_BYTES = 24;
+    private static final int WRITE_BUFFER_BYTES = 64 * 1024;
+    private static final int CHUNK_BYTES = 4 * 1024 * 1024; // DB 에 올리는 파일 조각 크기 (MySQL max_allowed_packet 보다 작게)
+    private static final String KIND_DATA = "dat";
+    private static final String KIND_INDEX = "idx";
+
+    private final TestCaseFileChunkRepository chunkRepository;
+
+    @Value("${app.testcase-store.dir:data/testcases}")
+    private String storeDir; // 정답이 노출되지 않도록 정적 리소스로 서빙되는 uploads 아래에 두지 않음
+
+    private Path root;
+
+    @PostConstruct
+    public void init() throws IOException {
+        root = Paths.get(storeDir).toAbsolutePath().normalize();
+        Files.createDirectories(root);
+    }
+
+    /**
+     * 테스트 케이스 목록을 문제의 현재 테스트 케이스 버전 파일로 씀
+     * @param problem 저장된 문제 (ID 와 테스트 케이스 버전이 정해져 있어야 함)
+     * @param testCases 입력/정답 목록
+     * @return 저장할 TestCase 엔터티 목록 (입력/정답 컬럼은 비어 있음)
+     */
+    public List<TestCase> write(Problems problem, List<TestCaseDto> testCases) {
+        try (Writer writer = openWriter(problem)) {
+            for (TestCaseDto testCase : testCases) {
+                writer.startInput();
+                writer.write((testCase.getInput() != null ? testCase.getInput() : "").getBytes(StandardCharsets.UTF_8));
+                writer.startOutput();
+                writer.write((testCase.getOutput() != null ? testCase.getOutput() : "").getBytes(StandardCharsets.UTF_8));
+                writer.endCase();
+            }
+            return writer.finish();
+        } catch (IOException e) {
+            throw new IllegalStateException("테스트케이스 파일 저장 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 문제의 현재 테스트 케이스 버전 파일을 케이스 단위로 이어 쓰는 Writer 를 엶 (대용량 업로드를 스트리밍으로 저장할 때 사용)
+     * finish() 를 호출하지 않고 닫으면 쓰던 파일을 지움
+     */
+    public Writer openWriter(Problems problem) throws IOException {
+        return new Writer(problem);
+    }
+
+    /**
+     * 문제의 테스트 케이스 파일을 모두 지움 (문제 삭제 시). DB 사본은 현재 트랜잭션에서, 로컬 파일은 커밋 후 지움
+     */
+    public void deleteAfterCommit(Long problemId) {
+        chunkRepository.deleteVersionsBefore(problemId, Long.MAX_VALUE);
+        afterCompletion(status -> {
+            if (status == TransactionSynchronization.STATUS_COMMITTED) {
+                deleteVersionsBefore(problemId, Long.MAX_VALUE);
+            }
+        });
+    }
+
+    /**
+     * 문제의 테스트 케이스 버전 파일을 읽기 전용으로 메모리 매핑함 (로컬 디스크에 없으면 DB 에서 내려받음)
+     * @return 매핑된 케이스들 (로컬 디스크와 DB 에 모두 해당 버전의 파일이 없으면 null)
+     */
+    public MappedCases open(Long problemId, long version) throws IOException {
+        MappedCases local = openLocal(problemId, version);
+        if (local != null || !fetch(problemId, version)) {
+            return local;
+        }
+        return openLocal(problemId, version);
+    }
+
+    /**
+     * 로컬 디스크의 테스트 케이스 버전 파일을 지움 (내용이 DB 의 체크섬과 다를 때, 다음 open() 에서 다시 내려받도록)
+     */
+    public void discard(Long problemId, long version) {
+        Path dir = root.resolve(String.valueOf(problemId));
+        deleteQuietly(dir.resolve(version + ".idx"));
+        deleteQuietly(dir.resolve(version + ".dat"));
+    }
+
+    private MappedCases openLocal(Long problemId, long version) throws IOException {
+        Path dir = root.resolve(String.valueOf(problemId));
+        try (FileChannel indexChannel = FileChannel.open(dir.resolve(version + ".idx"), StandardOpenOption.READ);
+             FileChannel dataChannel = FileChannel.open(dir.resolve(version + ".dat"), StandardOpenOption.READ)) {
+            ByteBuffer index = ByteBuffer.allocate((int) indexChannel.size());
+            while (index.hasRemaining() && indexChannel.read(index) >= 0) {
+                // 인덱스 파일 전체를 읽음
+            }
+            index.flip();
+            if (index.remaining() < HEADER_BYTES || index.getInt() != MAGIC) {
+                throw new IOException("Invalid test case index: problem " + problemId + " version " + version);
+            }
+            int count = index.getInt();
+            if (index.remaining() != (long) count * INDEX_ENTRY_BYTES) {
+                throw new IOException("Truncated test case index: problem " + problemId + " version " + version);
+            }
+            long[] entries = new long[count * 3];
+            for (int i = 0; i < entries.length; i++) {
+                entries[i] = index.getLong();
+            }
+            MappedByteBuffer data = dataChannel.map(FileChannel.MapMode.READ_ONLY, 0, dataChannel.size());
+            return new MappedCases(data, entries);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 바이트 내용의 CRC32C 체크섬 (버퍼의 위치는 바꾸지 않음)
+     */
+    public static long checksum(ByteBuffer content) {
+        CRC32C crc = new CRC32C();
+        crc.update(content.duplicate());
+        return crc.getValue();
+    }
+
+    /**
+     * DB 에 올라간 테스트 케이스 버전 파일을 로컬 디스크로 내려받음 (데이터 파일을 먼저 옮겨, 인덱스가 보이면 데이터도 완성되어 있도록 함)
+     * @return 내려받았으면 true, DB 에 해당 버전이 없으면 false
+     */
+    private boolean fetch(Long problemId, long version) throws IOException {
+        Path dir = root.resolve(String.valueOf(problemId));
+        Files.createDirectories(dir);
+        String tempSuffix = "." + UUID.randomUUID() + ".tmp";
+        Path tempData = dir.resolve(version + ".dat" + tempSuffix);
+        Path tempIndex = dir.resolve(version + ".idx" + tempSuffix);
+        try {
+            if (!download(problemId, version, KIND_INDEX, tempIndex)) {
+                return false;
+            }
+            download(problemId, version, KIND_DATA, tempData);
+            Files.move(tempData, dir.resolve(version + ".dat"), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            Files.move(tempIndex, dir.resolve(version + ".idx"), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("Fetched test case files of problem {} version {} from database", problemId, version);
+            return true;
+        } finally {
+            deleteQuietly(tempData);
+            deleteQuietly(tempIndex);
+        }
+    }
+
+    /**
+     * 파일 조각을 순서대로 읽어 이어 씀
+     * @return 조각이 하나라도 있었으면 true
+     */
+    private boolean download(Long problemId, long version, String kind, Path file) throws IOException {
+        int chunkIndex = 0;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            byte[] chunk;
+            while ((chunk = chunkRepository.findChunk(problemId, version, kind, chunkIndex)) != null) {
+                ByteBuffer buffer = ByteBuffer.wrap(chunk);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                chunkIndex++;
+            }
+            channel.force(true);
+        }
+        return chunkIndex > 0;
+    }
+
+    /**
+     * 완성한 파일을 CHUNK_BYTES 크기의 조각으로 나누어 DB 에 올림 (빈 파일도 조각 하나로 올려 있음을 알 수 있게 함)
+     */
+    private void upload(Long problemId, long version, String kind, Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            int chunkIndex = 0;
+            long position = 0;
+            do {
+                ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(CHUNK_BYTES, size - position));
+                while (buffer.hasRemaining() && channel.read(buffer, position + buffer.position()) >= 0) {
+                    // 조각 하나를 모두 읽음
+                }
+                chunkRepository.insertChunk(problemId, version, kind, chunkIndex++, buffer.array());
+                position += buffer.capacity();
+            } while (position < size);
+        }
+    }
+
+    private static long versionOf(Problems problem) {
+        return problem.getTestCaseVersion() != null ? problem.getTestCaseVersion() : 0;
+    }
+
+    private void deleteVersionsBefore(Long problemId, long version) {
+        Path dir = root.resolve(String.valueOf(problemId));
+        if (!Files.isDirectory(dir)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            files.filter(file -> {
+                        String name = file.getFileName().toString();
+                        int dot = name.indexOf('.');
+                        try {
+                            return dot > 0 && Long.parseLong(name.substring(0, dot)) < version;
+                        } catch (NumberFormatException e) {
+                            return false;
+                        }
+                    })
+                    .sorted(Comparator.reverseOrder())
+                    .forEach(TestCaseStore::deleteQuietly);
+            if (version == Long.MAX_VALUE) {
+                deleteQuietly(dir);
+            }
+        } catch (IOException e) {
+            log.warn("Failed to clean test case files of problem {}: {}", problemId, e.getMessage());
+        }
+    }
+
+    private static void afterCompletion(IntConsumer callback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            callback.accept(TransactionSynchronization.STATUS_COMMITTED);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                callback.accept(status);
+            }
+        });
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete test case file {}", file);
+        }
+    }
+
+    /**
+     * 테스트 케이스 버전 파일 하나를 쓰는 Writer.
+     * 케이스마다 startInput() -> write(...) -> startOutput() -> write(...) -> endCase() 순서로 호출하고, 마지막에 finish() 를 호출함.
+     * 쓰던 케이스는 discardCase() 로 버릴 수 있음
+     * 트랜잭션이 커밋되면 이전 버전보다 오래된 파일(DB 사본 포함)을 지우고, 롤백되면 새로 쓴 파일을 지움
+     * (채점 중인 서버가 있을 수 있으므로 바로 이전 버전은 남겨 둠)
+     */
+    public class Writer implements Closeable {
+        private final Problems problem;
+        private final long version;
+        private final Path dataFile;
+        private final Path indexFile;
+        private final Path tempData;
+        private final Path tempIndex;
+        private final FileChannel data;
+        private final ByteBuffer buffer = ByteBuffer.allocate(WRITE_BUFFER_BYTES);
+        private final DataOutputStream index;
+        private final List<TestCase> entities = new ArrayList<>();
+        private final CRC32C crc = new CRC32C();
+
+        private long offset = 0;        // 데이터 파일에 쓴 바이트 수
+        private long sectionStart = -1; // 현재 구역(입력/정답)의 시작 위치
+        private long inputLength = -1;
+        private long inputChecksum;
+        private int lastByte = -1;      // 현재 구역에 마지막으로 쓴 바이트
+        private boolean finished = false;
+
+        private Writer(Problems problem) throws IOException {
+            this.problem = problem;
+            this.version = versionOf(problem);
+            Path dir = root.resolve(String.valueOf(problem.getId()));
+            Files.createDirectories(dir);
+            String tempSuffix = "." + UUID.randomUUID() + ".tmp";
+            this.dataFile = dir.resolve(version + ".dat");
+            this.indexFile = dir.resolve(version + ".idx");
+            this.tempData = dir.resolve(version + ".dat" + tempSuffix);
+            this.tempIndex = dir.resolve(version + ".idx" + tempSuffix);
+            this.data = FileChannel.open(tempData, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+            this.index = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempIndex)));
+            this.index.writeInt(MAGIC);
+            this.index.writeInt(0); // 케이스 수는 finish() 에서 채움
+        }
+
+        public void startInput() {
+            if (sectionStart != -1) {
+                throw new IllegalStateException("이전 테스트케이스를 마치지 않았습니다.");
+            }
+            sectionStart = offset;
+            crc.reset();
+            lastByte = -1;
+        }
+
+        /**
+         * 입력을 마치고 정답 구역을 시작함 (입력이 비어 있지 않은데 줄바꿈으로 끝나지 않으면 붙여 줌)
+         */
+        public void startOutput() throws IOException {
+            if (sectionStart == -1 || inputLength != -1) {
+                throw new IllegalStateException("입력 구역이 시작되지 않았습니다.");
+            }
+            if (offset > sectionStart && lastByte != '\n') {
+                write(new byte[] {'\n'});
+            }
+            inputLength = offset - sectionStart;
+            inputChecksum = crc.getValue();
+            sectionStart = offset;
+            crc.reset();
+            lastByte = -1;
+        }
+
+        public void write(byte[] bytes) throws IOException {
+            write(bytes, 0, bytes.length);
+        }
+
+        public void write(byte[] bytes, int off, int len) throws IOException {
+            if (sectionStart == -1) {
+                throw new IllegalStateException("입력 또는 정답 구역이 시작되지 않았습니다.");
+            }
+            if (len == 0) {
+                return;
+            }
+            crc.update(bytes, off, len);
+            offset += len;
+            lastByte = bytes[off + len - 1];
+            while (len > 0) {
+                int n = Math.min(len, buffer.remaining());
+                buffer.put(bytes, off, n);
+                off += n;
+                len -= n;
+                if (!buffer.hasRemaining()) {
+                    flush();
+                }
+            }
+        }
+
+        /**
+         * 쓰던 케이스를 버림 (데이터 파일을 케이스 시작 위치로 되돌림)
+         */
+        public void discardCase() throws IOException {
+            if (sectionStart == -1) {
+                return;
+            }
+            long caseStart = inputLength == -1 ? sectionStart : sectionStart - inputLength;
+            flush();
+            data.truncate(caseStart);
+            data.position(caseStart);
+            offset = caseStart;
+            sectionStart = -1;
+            inputLength = -1;
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                data.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        public void endCase() throws IOException {
+            if (inputLength == -1) {
+                throw new IllegalStateException("정답 구역이 시작되지 않았습니다.");
+            }
+            long inputOffset = sectionStart - inputLength;
+            long outputLength = offset - sectionStart;
+            index.writeLong(inputOffset);
+            index.writeLong(inputLength);
+            index.writeLong(outputLength);
+            entities.add(TestCase.builder()
+                    .problem(problem)
+                    .storeIndex(entities.size())
+                    .inputSize(inputLength)
+                    .outputSize(outputLength)
+                    .inputChecksum(inputChecksum)
+                    .outputChecksum(crc.getValue())
+                    .build());
+            sectionStart = -1;
+            inputLength = -1;
+        }
+
+        public int getCaseCount() {
+            return entities.size();
+        }
+
+        /**
+         * 파일을 완성하여 제자리로 옮김
+         * @return DB 에 저장할 TestCase 엔터티 목록 (입력/정답 컬럼은 비어 있음)
+         */
+        public List<TestCase> finish() throws IOException {
+            if (sectionStart != -1) {
+                throw new IllegalStateException("마지막 테스트케이스를 마치지 않았습니다.");
+            }
+            flush();
+            data.force(true);
+            data.close();
+            index.close();
+
+            // 처음에 비워 둔 인덱스 헤더의 케이스 수를 채움
+            try (FileChannel channel = FileChannel.open(tempIndex, StandardOpenOption.WRITE)) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).putInt(MAGIC).putInt(entities.size());
+                header.flip();
+                channel.write(header, 0);
+            }
+
+            // 데이터 파일을 먼저 옮겨, 인덱스가 보이면 데이터도 완성되어 있도록 함
+            Files.move(tempData, dataFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            Files.move(tempIndex, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            finished = true;
+
+            Long problemId = problem.getId();
+            afterCompletion(status -> {
+                if (status == TransactionSynchronization.STATUS_COMMITTED) {
+                    deleteVersionsBefore(problemId, version - 1);
+                } else {
+                    deleteQuietly(indexFile);
+                    deleteQuietly(dataFile);
+                }
+            });
+
+            // 다른 채점 서버가 내려받을 수 있도록 같은 트랜잭션에서 DB 에도 올림 (롤백되면 함께 취소됨)
+            chunkRepository.deleteVersion(problemId, version);
+            chunkRepository.deleteVersionsBefore(problemId, version - 1);
+            upload(problemId, version, KIND_DATA, dataFile);
+            upload(problemId, version, KIND_INDEX, indexFile);
+            return entities;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (finished) {
+                return;
+            }
+            try {
+                data.close();
+                index.close();
+            } finally {
+                deleteQuietly(tempData);
+                deleteQuietly(tempIndex);
+            }
+        }
+    }
+
+    /**
+     * 메모리 매핑된 테스트 케이스 버전 하나. 케이스의 입력/정답은 매핑의 일부분을 가리키는 버퍼로 제공됨
+     */
+    public static class MappedCases {
+        private final MappedByteBuffer data;
+        private final long[] entries; // 케이스마다 입력 시작 위치, 입력 크기, 정답 크기
+
+        private MappedCases(MappedByteBuffer data, long[] entries) {
+            this.data = data;
+            this.entries = entries;
+        }
+
+        public int size() {
+            return entries.length / 3;
+        }
+
+        public long totalBytes() {
+            return data.capacity();
+        }
+
+        public ByteBuffer input(int index) {
+            return slice(entries[index * 3], entries[index * 3 + 1]);
+        }
+
+        public ByteBuffer output(int index) {
+            return slice(entries[index * 3] + entries[index * 3 + 1], entries[index * 3 + 2]);
+        }
+
+        private ByteBuffer slice(long offset, long length) {
+            if (offset < 0 || length < 0 || offset + length > data.capacity()) {
+                throw new IllegalStateException("테스트케이스 인덱스가 데이터 파일 범위를 벗어났습니다.");
+            }
+            return data.slice((int) offset, (int) length);
+        }
+    }
+}
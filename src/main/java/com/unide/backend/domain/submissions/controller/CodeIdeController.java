@@ -3,8 +3,8 @@
 package com.unide.backend.domain.submissions.controller;
 
 import com.unide.backend.domain.submissions.dto.CodeRunRequestDto;
-import com.unide.backend.domain.submissions.dto.CodeRunResponseDto;
-import com.unide.backend.domain.submissions.service.DockerService;
+import com.unide.backend.domain.submissions.service.IdempotencyService;
+import com.unide.backend.domain.submissions.service.JudgeBackend;
 import com.unide.backend.global.security.auth.PrincipalDetails;
 
 import jakarta.validation.Valid;
@@ -14,6 +14,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -21,20 +22,23 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 @RequestMapping("/api/code")
 public class CodeIdeController {
-    private final DockerService dockerService;
+    private final JudgeBackend judgeBackend;
+    private final IdempotencyService idempotencyService;
 
     /**
-     * 작성한 코드를 Docker 환경에서 실행하는 API
+     * 작성한 코드를 채점 실행 환경(Docker 또는 로컬 샌드박스)에서 실행하는 API
      * @param principalDetails 현재 로그인한 사용자
+     * @param idempotencyKey 같은 요청의 재전송을 구분하는 키 (선택, 같은 키로 다시 보내면 처음 결과를 돌려줌. 서버 오류로 실행하지 못한 결과는 저장하지 않음)
      * @param requestDto 코드, 언어, 입력값
      * @return 실행 결과
      */
     @PostMapping("/run")
-    public ResponseEntity<CodeRunResponseDto> runCode(
+    public ResponseEntity<?> runCode(
             @AuthenticationPrincipal PrincipalDetails principalDetails,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody CodeRunRequestDto requestDto) {
         
-        CodeRunResponseDto response = dockerService.runCode(requestDto);
-        return ResponseEntity.ok(response);
+        return idempotencyService.execute(principalDetails.getUser().getId(), "code-run", idempotencyKey, requestDto,
+                () -> judgeBackend.runCode(requestDto), response -> !response.isSystemError());
     }
 }
@@ -4,6 +4,7 @@ package com.unide.backend.domain.submissions.controller;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -11,9 +12,11 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.unide.backend.domain.submissions.dto.CodeDraftResponseDto;
 import com.unide.backend.domain.submissions.dto.CodeDraftSaveRequestDto;
@@ -21,10 +24,12 @@ import com.unide.backend.domain.submissions.dto.CodeDraftSaveResponseDto;
 import com.unide.backend.domain.submissions.dto.SubmissionDetailResponseDto;
 import com.unide.backend.domain.submissions.dto.SubmissionHistoryListDto;
 import com.unide.backend.domain.submissions.dto.SubmissionRequestDto;
-import com.unide.backend.domain.submissions.dto.SubmissionResponseDto;
 import com.unide.backend.domain.submissions.dto.SubmissionShareRequestDto;
 import com.unide.backend.domain.submissions.dto.SubmissionShareResponseDto;
 import com.unide.backend.domain.submissions.dto.SubmissionSolutionListDto;
+import com.unide.backend.domain.submissions.dto.SubmissionStatusResponseDto;
+import com.unide.backend.domain.submissions.service.IdempotencyService;
+import com.unide.backend.domain.submissions.service.SubmissionEventService;
 import com.unide.backend.domain.submissions.service.SubmissionService;
 import com.unide.backend.global.security.auth.PrincipalDetails;
 
@@ -36,6 +41,8 @@ import lombok.RequiredArgsConstructor;
 @RequestMapping("/api/submissions")
 public class SubmissionController {
     private final SubmissionService submissionService;
+    private final IdempotencyService idempotencyService;
+    private final SubmissionEventService submissionEventService;
 
     @PatchMapping("/draft")
     public ResponseEntity<CodeDraftSaveResponseDto> saveCodeDraft(
@@ -56,14 +63,39 @@ public class SubmissionController {
     }
 
     @PostMapping
-    public ResponseEntity<SubmissionResponseDto> submitCode(
+    public ResponseEntity<?> submitCode(
             @AuthenticationPrincipal PrincipalDetails principalDetails,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody SubmissionRequestDto requestDto) {
         
-        SubmissionResponseDto response = submissionService.submitCode(principalDetails.getUser(), requestDto);
+        return idempotencyService.execute(principalDetails.getUser().getId(), "submissions", idempotencyKey, requestDto,
+                () -> submissionService.submitCode(principalDetails.getUser(), requestDto));
+    }
+
+    @GetMapping("/{submissionId}/status")
+    public ResponseEntity<SubmissionStatusResponseDto> getSubmissionStatus(
+            @PathVariable Long submissionId,
+            @AuthenticationPrincipal PrincipalDetails principalDetails) {
+        
+        SubmissionStatusResponseDto response = submissionService.getSubmissionStatus(
+                submissionId,
+                principalDetails.getUser()
+        );
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(value = "/{submissionId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeSubmissionEvents(
+            @PathVariable Long submissionId,
+            @AuthenticationPrincipal PrincipalDetails principalDetails) {
+        
+        SubmissionStatusResponseDto current = submissionService.getSubmissionStatus(
+                submissionId,
+                principalDetails.getUser()
+        );
+        return submissionEventService.subscribe(current);
+    }
+
     @GetMapping("/{submissionId}/details")
     public ResponseEntity<SubmissionDetailResponseDto> getSubmissionDetail(
             @PathVariable Long submissionId,
@@ -12,6 +12,8 @@ public class CodeRunResponseDto {
     private String output;           // 실행 결과 (표준 출력)
     private String error;            // 에러 메시지 (표준 에러)
     private long executionTimeMs;    // 실행 소요 시간
+    private long memoryKb;           // 최대 메모리 사용량 (KB)
     private boolean isSuccess;       // 실행 성공 여부
     private SubmissionStatus status; // 실행 상태 (CA, TLE, RE, CE 등)
+    private boolean systemError;     // 채점 서버 문제로 실행하지 못한 경우 true (같은 요청을 다시 보내면 성공할 수 있음)
 }
@@ -0,0 +1,28 @@
+// 채점 시 적용할 자원 제한과 출력 비교 방식 DTO
+
+package com.unide.backend.domain.submissions.dto;
+
+import com.unide.backend.domain.problems.entity.JavaRunProfile;
+import com.unide.backend.domain.problems.entity.OutputCompareMode;
+import com.unide.backend.domain.problems.entity.Problems;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class JudgeLimitDto {
+    private int timeLimit;   // 시간 제한 (초, Problems.timeLimit)
+    private int memoryLimit; // 메모리 제한 (MB, Problems.memoryLimit)
+    private OutputCompareMode compareMode; // 출력 비교 방식
+    private JavaRunProfile javaRunProfile; // 자바 실행 프로파일 (null 이면 채점 서버 기본값)
+
+    public static JudgeLimitDto from(Problems problem) {
+        return JudgeLimitDto.builder()
+                .timeLimit(problem.getTimeLimit() != null ? problem.getTimeLimit() : 0)
+                .memoryLimit(problem.getMemoryLimit() != null ? problem.getMemoryLimit() : 0)
+                .compareMode(problem.getCompareMode() != null ? problem.getCompareMode() : OutputCompareMode.EXACT)
+                .javaRunProfile(problem.getJavaRunProfile())
+                .build();
+    }
+}
@@ -0,0 +1,19 @@
+// 제출 코드 한 건에 대한 일괄 채점 결과 DTO
+
+package com.unide.backend.domain.submissions.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class JudgeResultDto {
+    private boolean compileError;                // 컴파일 에러 여부
+    private String compileOutput;                // 컴파일 에러 메시지 (있을 경우)
+    private String systemError;                  // 채점 시스템 오류 메시지 (있을 경우)
+    private Integer compileTimeMs;               // 컴파일(또는 캐시된 결과물 복원)에 걸린 시간 (컴파일하지 않는 언어는 null)
+    private String compilerProfile;              // 사용한 컴파일 프로파일 버전 (LanguageCommands.compilerProfile)
+    private List<TestCaseResultDto> caseResults; // 테스트 케이스별 결과 (순서대로)
+}
@@ -0,0 +1,49 @@
+// 재채점 작업 진행 상황 응답 DTO
+
+package com.unide.backend.domain.submissions.dto;
+
+import java.time.LocalDateTime;
+
+import com.unide.backend.domain.submissions.entity.RejudgeJob;
+import com.unide.backend.domain.submissions.entity.RejudgeJobStatus;
+import com.unide.backend.domain.submissions.entity.SubmissionLanguage;
+import com.unide.backend.domain.submissions.entity.SubmissionStatus;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class RejudgeJobResponseDto {
+    private Long rejudgeJobId;
+    private Long problemId;
+    private RejudgeJobStatus status;
+    private SubmissionStatus statusFilter;
+    private SubmissionLanguage languageFilter;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private int totalCount;      // 작업 생성 시점의 대상 제출 수
+    private int enqueuedCount;   // 대기열에 넣은 제출 수
+    private int processedCount;  // 재채점이 끝난 제출 수
+    private int changedCount;    // 결과가 바뀐 제출 수
+    private LocalDateTime createdAt;
+    private LocalDateTime finishedAt;
+
+    public static RejudgeJobResponseDto from(RejudgeJob job) {
+        return RejudgeJobResponseDto.builder()
+                .rejudgeJobId(job.getId())
+                .problemId(job.getProblemId())
+                .status(job.getStatus())
+                .statusFilter(job.getStatusFilter())
+                .languageFilter(job.getLanguageFilter())
+                .from(job.getSubmittedFrom())
+                .to(job.getSubmittedTo())
+                .totalCount(job.getTotalCount())
+                .enqueuedCount(job.getEnqueuedCount())
+                .processedCount(job.getProcessedCount())
+                .changedCount(job.getChangedCount())
+                .createdAt(job.getCreatedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+}
@@ -0,0 +1,20 @@
+// 문제 재채점 요청 DTO (모든 필터는 선택 사항)
+
+package com.unide.backend.domain.submissions.dto;
+
+import java.time.LocalDateTime;
+
+import com.unide.backend.domain.submissions.entity.SubmissionLanguage;
+import com.unide.backend.domain.submissions.entity.SubmissionStatus;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class RejudgeRequestDto {
+    private SubmissionStatus status;     // 이 결과를 받은 제출만 재채점 (예: CA)
+    private SubmissionLanguage language; // 이 언어로 제출된 코드만 재채점
+    private LocalDateTime from;          // 이 시각 이후 제출 (포함)
+    private LocalDateTime to;            // 이 시각 이전 제출 (미포함)
+}
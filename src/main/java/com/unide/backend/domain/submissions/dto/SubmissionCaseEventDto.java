@@ -0,0 +1,32 @@
+// 채점 진행 이벤트로 보내는 테스트 케이스 하나의 채점 결과 DTO
+// (테스트 케이스의 입력과 정답 전체는 포함하지 않고, 오답이면 처음 달라진 부분의 비교 내용만 포함함)
+
+package com.unide.backend.domain.submissions.dto;
+
+import com.unide.backend.domain.submissions.entity.SubmissionRecord;
+import com.unide.backend.domain.submissions.entity.SubmissionStatus;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class SubmissionCaseEventDto {
+    private Long submissionId;
+    private int testCaseIndex;       // 몇 번째 테스트 케이스인지 (1, 2, 3...)
+    private SubmissionStatus status; // 해당 케이스의 결과 (CA, WA, TLE, MLE, RE)
+    private int runtime;             // 실행 시간 (ms)
+    private int memory;              // 메모리 사용량 (KB)
+    private String error;            // 에러 메시지 (RE: 표준 에러 앞부분, WA: 처음 달라진 위치의 비교 내용)
+
+    public static SubmissionCaseEventDto of(Long submissionId, TestCaseResultDto result) {
+        return SubmissionCaseEventDto.builder()
+                .submissionId(submissionId)
+                .testCaseIndex(result.getTestCaseIndex())
+                .status(result.getStatus())
+                .runtime(result.getRuntime())
+                .memory(result.getMemory())
+                .error(SubmissionRecord.truncateError(result.getError()))
+                .build();
+    }
+}
@@ -26,5 +26,7 @@ public class SubmissionDetailResponseDto {
     private boolean isShared;
     private Integer passedTestCases;
     private Integer totalTestCases;
+    private Integer compileTimeMs;   // 컴파일 시간 (ms)
+    private String compilerProfile;  // 컴파일 옵션 묶음의 이름과 버전
     private List<SubmissionRecordDto> records;
 }
@@ -12,4 +12,5 @@ public class SubmissionRecordDto {
     private SubmissionStatus status;
     private int runtime;
     private int memory;
+    private String error; // 에러 메시지 (RE: 표준 에러 앞부분, WA: 처음 달라진 위치의 비교 내용)
 }
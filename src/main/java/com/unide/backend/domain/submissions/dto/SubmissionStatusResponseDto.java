@@ -0,0 +1,36 @@
+// 제출 코드의 채점 진행 상태 조회 응답 DTO
+
+package com.unide.backend.domain.submissions.dto;
+
+import com.unide.backend.domain.submissions.entity.SubmissionStatus;
+import com.unide.backend.domain.submissions.entity.Submissions;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class SubmissionStatusResponseDto {
+    private Long submissionId;
+    private SubmissionStatus status; // 채점 상태 (PENDING, GRADING) 또는 채점 결과 (CA, WA, TLE 등)
+    private boolean finished;        // 채점 완료 여부
+    private Integer runtime;         // 실행 시간 (ms)
+    private Integer memory;          // 메모리 사용량 (KB)
+    private Integer passedTestCases;
+    private Integer totalTestCases;
+    private String compileOutput;    // 컴파일 에러 메시지 (있을 경우)
+
+    public static SubmissionStatusResponseDto from(Submissions submission) {
+        SubmissionStatus status = submission.getStatus();
+        return SubmissionStatusResponseDto.builder()
+                .submissionId(submission.getId())
+                .status(status)
+                .finished(status != SubmissionStatus.PENDING && status != SubmissionStatus.GRADING)
+                .runtime(submission.getRuntime())
+                .memory(submission.getMemory())
+                .passedTestCases(submission.getPassedTestCases())
+                .totalTestCases(submission.getTotalTestCases())
+                .compileOutput(submission.getCompileOutput())
+                .build();
+    }
+}
@@ -0,0 +1,18 @@
+// 테스트 케이스 하나의 채점 결과 DTO
+
+package com.unide.backend.domain.submissions.dto;
+
+import com.unide.backend.domain.submissions.entity.SubmissionStatus;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class TestCaseResultDto {
+    private int testCaseIndex;       // 몇 번째 테스트 케이스인지 (1, 2, 3...)
+    private SubmissionStatus status; // 해당 케이스의 결과 (CA, WA, TLE, MLE, RE)
+    private int runtime;             // 실행 시간 (ms)
+    private int memory;              // 메모리 사용량 (KB)
+    private String error;            // 에러 메시지 (RE: 표준 에러 또는 출력 초과, WA: 처음 달라진 위치의 비교 내용)
+}
@@ -0,0 +1,61 @@
+// Idempotency-Key 헤더로 받은 요청과 그 응답을 짧은 기간 보관하는 idempotency_keys 테이블과 매핑되는 엔터티
+
+package com.unide.backend.domain.submissions.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Entity
+@Table(name = "idempotency_keys",
+        uniqueConstraints = @UniqueConstraint(name = "uk_idempotency_keys_user_endpoint_key",
+                columnNames = {"user_id", "endpoint", "idempotency_key"}),
+        indexes = @Index(name = "idx_idempotency_keys_expires_at", columnList = "expires_at"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IdempotencyRecord {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, length = 50)
+    private String endpoint;
+
+    @Column(nullable = false, length = 100)
+    private String idempotencyKey;
+
+    @Column(nullable = false, length = 64)
+    private String requestHash; // 같은 키로 다른 내용을 보낸 요청을 구분하기 위한 요청 본문 해시
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, columnDefinition = "VARCHAR(20)")
+    private IdempotencyStatus status;
+
+    @Lob
+    @Column(columnDefinition = "LONGTEXT")
+    private String responseBody; // 처리 완료 시 응답 본문 (JSON)
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Builder
+    public IdempotencyRecord(Long userId, String endpoint, String idempotencyKey, String requestHash, LocalDateTime expiresAt) {
+        this.userId = userId;
+        this.endpoint = endpoint;
+        this.idempotencyKey = idempotencyKey;
+        this.requestHash = requestHash;
+        this.status = IdempotencyStatus.IN_PROGRESS;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return expiresAt.isBefore(now);
+    }
+}
@@ -0,0 +1,8 @@
+// Idempotency-Key 로 받은 요청의 처리 상태를 나타내는 Enum
+
+package com.unide.backend.domain.submissions.entity;
+
+public enum IdempotencyStatus {
+    IN_PROGRESS, // 처리 중 (같은 키의 요청은 409 로 거절)
+    COMPLETED    // 처리 완료 (같은 키의 요청에 저장된 응답을 돌려줌)
+}
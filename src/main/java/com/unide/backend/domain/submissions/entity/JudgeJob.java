@@ -0,0 +1,119 @@
+// 여러 서버가 함께 소비하는 채점 작업 대기열(judge_jobs 테이블)과 매핑되는 엔터티
+
+package com.unide.backend.domain.submissions.entity;
+
+import java.time.LocalDateTime;
+
+import com.unide.backend.common.entity.BaseTimeEntity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Entity
+@Table(name = "judge_jobs", indexes = {
+        @Index(name = "idx_judge_jobs_status_lease", columnList = "status, lease_expires_at"),
+        @Index(name = "idx_judge_jobs_rejudge", columnList = "rejudge_job_id, status"),
+        @Index(name = "idx_judge_jobs_lease_owner", columnList = "lease_owner, heartbeat_at")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class JudgeJob extends BaseTimeEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private Long submissionId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private JudgeJobStatus status;
+
+    @Column(length = 100)
+    private String leaseOwner; // 작업을 점유한 서버(노드) ID
+
+    private LocalDateTime leaseExpiresAt; // 이 시각까지 하트비트가 없으면 다른 서버가 다시 가져감 (QUEUED 면 이 시각 이후에 가져감)
+    private LocalDateTime heartbeatAt;
+
+    @Column(nullable = false)
+    private int attempts; // 점유(채점 시도) 횟수
+
+    @Column(length = 1000)
+    private String lastError;
+
+    private Long rejudgeJobId; // 재채점 작업으로 넣은 경우 그 작업 ID (일반 채점보다 낮은 우선순위로 처리됨)
+
+    @Builder
+    public JudgeJob(Long submissionId, Long rejudgeJobId) {
+        this.submissionId = submissionId;
+        this.rejudgeJobId = rejudgeJobId;
+        this.status = JudgeJobStatus.QUEUED;
+        this.attempts = 0;
+    }
+
+    public void lease(String owner, LocalDateTime now, LocalDateTime expiresAt) {
+        this.status = JudgeJobStatus.LEASED;
+        this.leaseOwner = owner;
+        this.leaseExpiresAt = expiresAt;
+        this.heartbeatAt = now;
+        this.attempts++;
+    }
+
+    public void requeue(String error) {
+        this.status = JudgeJobStatus.QUEUED;
+        this.leaseOwner = null;
+        this.leaseExpiresAt = null;
+        this.lastError = truncate(error);
+    }
+
+    /**
+     * 점유한 작업을 시도 횟수를 늘리지 않고 대기열에 돌려놓음 (notBefore 전에는 다시 가져가지 않음)
+     * 같은 코드가 채점 중일 때 그 결과를 재사용하도록 채점을 잠시 미룰 때 사용함
+     */
+    public void defer(LocalDateTime notBefore) {
+        this.status = JudgeJobStatus.QUEUED;
+        this.leaseOwner = null;
+        this.leaseExpiresAt = notBefore;
+        this.attempts--;
+    }
+
+    /** 채점이 끝난 작업을 재채점 작업의 일부로 다시 대기열에 넣음 */
+    public void rejudge(Long rejudgeJobId) {
+        this.status = JudgeJobStatus.QUEUED;
+        this.rejudgeJobId = rejudgeJobId;
+        this.leaseOwner = null;
+        this.leaseExpiresAt = null;
+        this.attempts = 0;
+        this.lastError = null;
+    }
+
+    public boolean isRejudge() {
+        return rejudgeJobId != null;
+    }
+
+    /** owner 서버가 attempt 번째로 점유한 임대가 아직 유효한지 확인 (임대가 만료되어 다른 서버가 다시 가져갔다면 false) */
+    public boolean isLeasedBy(String owner, int attempt) {
+        return status == JudgeJobStatus.LEASED && owner.equals(leaseOwner) && attempts == attempt;
+    }
+
+    public void complete() {
+        this.status = JudgeJobStatus.DONE;
+        this.leaseExpiresAt = null;
+    }
+
+    public void fail(String error) {
+        this.status = JudgeJobStatus.FAILED;
+        this.leaseExpiresAt = null;
+        this.lastError = truncate(error);
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= 1000) {
+            return error;
+        }
+        return error.substring(0, 1000);
+    }
+}
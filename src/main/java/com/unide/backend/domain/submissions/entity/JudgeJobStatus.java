@@ -0,0 +1,10 @@
+// 채점 작업(judge_jobs)의 처리 상태를 나타내는 Enum
+
+package com.unide.backend.domain.submissions.entity;
+
+public enum JudgeJobStatus {
+    QUEUED,  // 채점 대기 중
+    LEASED,  // 특정 서버가 점유하여 채점 중
+    DONE,    // 채점 완료
+    FAILED   // 재시도 횟수 초과로 채점 실패
+}
@@ -0,0 +1,106 @@
+// 문제의 제출 코드를 일괄 재채점하는 작업(rejudge_jobs 테이블)과 매핑되는 엔터티
+// 마지막으로 대기열에 넣은 제출 ID 를 저장하므로, 서버가 재시작되어도 이어서 진행함
+
+package com.unide.backend.domain.submissions.entity;
+
+import java.time.LocalDateTime;
+
+import com.unide.backend.common.entity.BaseTimeEntity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Entity
+@Table(name = "rejudge_jobs", indexes = {
+        @Index(name = "idx_rejudge_jobs_status", columnList = "status")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RejudgeJob extends BaseTimeEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long problemId;
+
+    @Column(nullable = false)
+    private Long requestedBy; // 재채점을 요청한 관리자 ID
+
+    // 대상 제출 필터 (null 이면 조건 없음)
+    @Enumerated(EnumType.STRING)
+    @Column(columnDefinition = "VARCHAR(20)")
+    private SubmissionStatus statusFilter;
+
+    @Enumerated(EnumType.STRING)
+    @Column(columnDefinition = "VARCHAR(20)")
+    private SubmissionLanguage languageFilter;
+
+    private LocalDateTime submittedFrom; // 이 시각 이후 제출 (포함)
+    private LocalDateTime submittedTo;   // 이 시각 이전 제출 (미포함)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, columnDefinition = "VARCHAR(20)")
+    private RejudgeJobStatus status;
+
+    @Column(nullable = false)
+    private long lastSubmissionId; // 마지막으로 대기열에 넣은 제출 ID (체크포인트)
+
+    @Column(nullable = false)
+    private int totalCount;     // 작업 생성 시점의 대상 제출 수
+
+    @Column(nullable = false)
+    private int enqueuedCount;  // 대기열에 넣은 제출 수
+
+    @Column(nullable = false)
+    private int processedCount; // 재채점이 끝난 제출 수
+
+    @Column(nullable = false)
+    private int changedCount;   // 재채점 결과 상태가 바뀐 제출 수
+
+    private LocalDateTime finishedAt;
+
+    @Builder
+    public RejudgeJob(Long problemId, Long requestedBy, SubmissionStatus statusFilter, SubmissionLanguage languageFilter,
+                      LocalDateTime submittedFrom, LocalDateTime submittedTo, int totalCount) {
+        this.problemId = problemId;
+        this.requestedBy = requestedBy;
+        this.statusFilter = statusFilter;
+        this.languageFilter = languageFilter;
+        this.submittedFrom = submittedFrom;
+        this.submittedTo = submittedTo;
+        this.totalCount = totalCount;
+        this.status = RejudgeJobStatus.RUNNING;
+        this.lastSubmissionId = 0;
+    }
+
+    public void advance(long lastSubmissionId, int enqueued) {
+        this.lastSubmissionId = lastSubmissionId;
+        this.enqueuedCount += enqueued;
+    }
+
+    public void pause() {
+        this.status = RejudgeJobStatus.PAUSED;
+    }
+
+    public void resume() {
+        this.status = RejudgeJobStatus.RUNNING;
+    }
+
+    public void complete() {
+        this.status = RejudgeJobStatus.COMPLETED;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public void cancel() {
+        this.status = RejudgeJobStatus.CANCELLED;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public boolean isFinished() {
+        return status == RejudgeJobStatus.COMPLETED || status == RejudgeJobStatus.CANCELLED;
+    }
+}
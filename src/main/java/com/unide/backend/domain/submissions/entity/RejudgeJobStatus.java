@@ -0,0 +1,10 @@
+// 재채점 작업(rejudge_jobs)의 진행 상태를 나타내는 Enum
+
+package com.unide.backend.domain.submissions.entity;
+
+public enum RejudgeJobStatus {
+    RUNNING,    // 대상 제출을 차례로 채점 대기열에 넣는 중
+    PAUSED,     // 일시 중지 (이미 대기열에 넣은 제출은 계속 채점됨)
+    COMPLETED,  // 모든 대상 제출의 재채점 완료
+    CANCELLED   // 취소됨 (아직 채점하지 않은 제출은 기존 결과를 유지함)
+}
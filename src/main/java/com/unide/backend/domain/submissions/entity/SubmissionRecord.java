@@ -12,6 +12,7 @@ import lombok.NoArgsConstructor;
 @Table(name = "submission_records")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class SubmissionRecord {
+    public static final int ERROR_LENGTH = 1000; // 케이스별로 보관할 에러 메시지/비교 내용의 최대 길이
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -33,12 +34,23 @@ public class SubmissionRecord {
     @Column(nullable = false)
     private int memory; // 메모리 사용량 (KB)
 
+    @Column(length = ERROR_LENGTH)
+    private String error; // 에러 메시지 (RE: 표준 에러 앞부분, WA: 처음 달라진 위치의 비교 내용)
+
     @Builder
-    public SubmissionRecord(Submissions submission, int testCaseIndex, SubmissionStatus status, int runtime, int memory) {
+    public SubmissionRecord(Submissions submission, int testCaseIndex, SubmissionStatus status, int runtime, int memory, String error) {
         this.submission = submission;
         this.testCaseIndex = testCaseIndex;
         this.status = status;
         this.runtime = runtime;
         this.memory = memory;
+        this.error = truncateError(error);
+    }
+
+    public static String truncateError(String error) {
+        if (error == null || error.length() <= ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, ERROR_LENGTH - 3) + "...";
     }
 }
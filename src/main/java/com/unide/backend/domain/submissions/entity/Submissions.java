@@ -17,7 +17,9 @@ import java.time.LocalDateTime;
 
 @Getter
 @Entity
-@Table(name = "submissions")
+@Table(name = "submissions", indexes = {
+        @Index(name = "idx_submissions_code_hash", columnList = "code_hash")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Submissions {
     @Id
@@ -58,12 +60,25 @@ public class Submissions {
     private String compileOutput;
 
     private Integer compileTimeMs;
+
+    @Column(length = 40)
+    private String compilerProfile; // 컴파일에 사용한 옵션 묶음의 이름과 버전 (컴파일하지 않는 언어는 null)
+
     private Integer currentTestCase;
     private Integer passedTestCases;
     private Integer totalTestCases;
 
+    @Lob
+    @Column(columnDefinition = "MEDIUMTEXT")
+    private String caseResults; // 테스트 케이스별 결과를 압축한 문자열 (judge.records.compact 사용 시, 아니면 null). 케이스별 에러가 붙으면 TEXT(64KB)를 넘을 수 있음
+
+    @Column(length = 64)
+    private String codeHash; // 같은 채점 결과가 나오는 제출을 찾기 위한 해시 (시스템 오류로 끝난 경우 null)
+
+    private Long reusedFrom; // 채점하지 않고 결과를 복사해 온 제출 ID (직접 채점한 경우 null)
+
     @Builder
-    public Submissions(User user, Problems problem, String code, SubmissionLanguage language, SubmissionStatus status, boolean isShared, Integer totalTestCases) {
+    public Submissions(User user, Problems problem, String code, SubmissionLanguage language, SubmissionStatus status, boolean isShared, Integer totalTestCases, String codeHash) {
         this.user = user;
         this.problem = problem;
         this.code = code;
@@ -71,6 +86,7 @@ public class Submissions {
         this.status = (status != null) ? status : SubmissionStatus.PENDING;
         this.isShared = isShared;
         this.totalTestCases = totalTestCases;
+        this.codeHash = codeHash;
         this.submittedAt = LocalDateTime.now();
         this.passedTestCases = 0;
     }
@@ -81,6 +97,10 @@ public class Submissions {
         this.submittedAt = LocalDateTime.now();
     }
 
+    public void startGrading() {
+        this.status = SubmissionStatus.GRADING;
+    }
+
     public void updateResult(SubmissionStatus status, Integer runtime, Integer memory, Integer passedTestCases, String compileOutput) {
         this.status = status;
         this.runtime = runtime;
@@ -89,6 +109,31 @@ public class Submissions {
         this.compileOutput = compileOutput;
     }
 
+    public void updateCompileInfo(Integer compileTimeMs, String compilerProfile) {
+        this.compileTimeMs = compileTimeMs;
+        this.compilerProfile = compilerProfile;
+    }
+
+    public void updateCaseResults(String caseResults) {
+        this.caseResults = caseResults;
+    }
+
+    public void updateCodeHash(String codeHash) {
+        this.codeHash = codeHash;
+    }
+
+    /** 같은 코드의 다른 제출에서 채점 결과를 복사함 (케이스별 기록은 따로 복사해야 함) */
+    public void reuseResult(Submissions source) {
+        this.status = source.getStatus();
+        this.runtime = source.getRuntime();
+        this.memory = source.getMemory();
+        this.passedTestCases = source.getPassedTestCases();
+        this.compileOutput = source.getCompileOutput();
+        this.compileTimeMs = source.getCompileTimeMs();
+        this.compilerProfile = source.getCompilerProfile();
+        this.reusedFrom = source.getId();
+    }
+
     public void updateShareStatus(boolean isShared) {
         this.isShared = isShared;
     }
@@ -0,0 +1,31 @@
+// IdempotencyRecord 엔터티에 대한 데이터베이스 접근을 처리하는 JpaRepository
+
+package com.unide.backend.domain.submissions.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.unide.backend.domain.submissions.entity.IdempotencyRecord;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, Long> {
+    Optional<IdempotencyRecord> findByUserIdAndEndpointAndIdempotencyKey(Long userId, String endpoint, String idempotencyKey);
+
+    // 처리가 끝난 요청의 응답을 저장하고 보관 기간을 다시 잡음
+    @Transactional
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.status = 'COMPLETED', r.responseBody = :responseBody, r.expiresAt = :expiresAt " +
+           "WHERE r.id = :id")
+    int complete(@Param("id") Long id, @Param("responseBody") String responseBody, @Param("expiresAt") LocalDateTime expiresAt);
+
+    // 보관 기간이 지난 키를 지움
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,81 @@
+// JudgeJob 엔터티에 대한 데이터베이스 접근을 처리하는 JpaRepository
+
+package com.unide.backend.domain.submissions.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.unide.backend.domain.submissions.entity.JudgeJob;
+import com.unide.backend.domain.submissions.entity.JudgeJobStatus;
+
+import jakarta.persistence.LockModeType;
+
+public interface JudgeJobRepository extends JpaRepository<JudgeJob, Long> {
+    Optional<JudgeJob> findBySubmissionId(Long submissionId);
+
+    // 임대를 확인한 뒤 트랜잭션이 끝날 때까지 다른 서버가 같은 작업을 다시 가져가지 못하도록 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM JudgeJob j WHERE j.submissionId = :submissionId")
+    Optional<JudgeJob> findBySubmissionIdForUpdate(@Param("submissionId") Long submissionId);
+
+    List<JudgeJob> findAllBySubmissionIdIn(Collection<Long> submissionIds);
+
+    // 재채점 작업을 제외한 일반 채점 작업 수
+    long countByStatusAndRejudgeJobIdIsNull(JudgeJobStatus status);
+
+    // 재채점 작업으로 넣은 작업 중 아직 끝나지 않은 작업 수
+    long countByRejudgeJobIdAndStatusIn(Long rejudgeJobId, Collection<JudgeJobStatus> statuses);
+
+    // 대기 중이거나 임대 기간이 만료된 일반 채점 작업을 다른 서버와 겹치지 않게 잠그면서 가져옴
+    // (잠시 미룬 대기 작업은 lease_expires_at 이후에 가져감)
+    @Query(value = """
+        SELECT *
+        FROM judge_jobs
+        WHERE rejudge_job_id IS NULL
+          AND ((status = 'QUEUED' AND (lease_expires_at IS NULL OR lease_expires_at <= :now))
+           OR (status = 'LEASED' AND lease_expires_at < :now))
+        ORDER BY id
+        LIMIT :size
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<JudgeJob> findClaimableForUpdate(@Param("now") LocalDateTime now, @Param("size") int size);
+
+    // 대기 중이거나 임대 기간이 만료된 재채점 작업을 가져옴 (일반 채점 작업을 먼저 가져간 뒤 남는 자리에만 사용)
+    @Query(value = """
+        SELECT *
+        FROM judge_jobs
+        WHERE rejudge_job_id IS NOT NULL
+          AND ((status = 'QUEUED' AND (lease_expires_at IS NULL OR lease_expires_at <= :now))
+           OR (status = 'LEASED' AND lease_expires_at < :now))
+        ORDER BY id
+        LIMIT :size
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<JudgeJob> findClaimableRejudgesForUpdate(@Param("now") LocalDateTime now, @Param("size") int size);
+
+    // 취소된 재채점 작업의 대기 중인 채점 작업을 완료 처리함 (해당 제출은 기존 결과를 유지)
+    @Modifying
+    @Query("UPDATE JudgeJob j SET j.status = 'DONE' WHERE j.rejudgeJobId = :rejudgeJobId AND j.status = 'QUEUED'")
+    int completeQueuedRejudges(@Param("rejudgeJobId") Long rejudgeJobId);
+
+    // 노드별 마지막 하트비트 시각 (노드 ID, 시각) 목록. 완료된 작업도 점유했던 노드 ID 와 마지막 하트비트 시각이 남아 있음
+    @Query("SELECT j.leaseOwner, MAX(j.heartbeatAt) FROM JudgeJob j WHERE j.leaseOwner IN :owners GROUP BY j.leaseOwner")
+    List<Object[]> findLastHeartbeats(@Param("owners") Collection<String> owners);
+
+    // 이 서버가 채점 중인 작업들의 임대 기간을 연장 (하트비트)
+    @Modifying
+    @Query("UPDATE JudgeJob j SET j.leaseExpiresAt = :expiresAt, j.heartbeatAt = :now " +
+           "WHERE j.submissionId IN :submissionIds AND j.leaseOwner = :owner AND j.status = 'LEASED'")
+    int extendLeases(@Param("submissionIds") Collection<Long> submissionIds,
+                     @Param("owner") String owner,
+                     @Param("now") LocalDateTime now,
+                     @Param("expiresAt") LocalDateTime expiresAt);
+}
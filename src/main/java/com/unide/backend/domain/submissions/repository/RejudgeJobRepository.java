@@ -0,0 +1,40 @@
+// RejudgeJob 엔터티에 대한 데이터베이스 접근을 처리하는 JpaRepository
+
+package com.unide.backend.domain.submissions.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.unide.backend.domain.submissions.entity.RejudgeJob;
+
+import jakarta.persistence.LockModeType;
+
+public interface RejudgeJobRepository extends JpaRepository<RejudgeJob, Long> {
+    // 진행 중인 재채점 작업 중 가장 오래된 것을 다른 서버와 겹치지 않게 잠그면서 가져옴
+    @Query(value = """
+        SELECT *
+        FROM rejudge_jobs
+        WHERE status = 'RUNNING'
+        ORDER BY id
+        LIMIT 1
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    Optional<RejudgeJob> findRunningForUpdate();
+
+    // 상태를 바꾸기 전에 잠금 (엔터티 전체를 다시 쓰므로 그 사이에 늘어난 처리 수를 덮어쓰지 않게 함)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM RejudgeJob r WHERE r.id = :id")
+    Optional<RejudgeJob> findByIdForUpdate(@Param("id") Long id);
+
+    // 재채점이 끝난 제출 수를 늘림 (여러 서버에서 동시에 호출되므로 UPDATE 문으로 증가시킴)
+    @Modifying
+    @Query("UPDATE RejudgeJob r SET r.processedCount = r.processedCount + 1, " +
+           "r.changedCount = r.changedCount + CASE WHEN :changed = true THEN 1 ELSE 0 END " +
+           "WHERE r.id = :id")
+    int increaseProcessed(@Param("id") Long id, @Param("changed") boolean changed);
+}
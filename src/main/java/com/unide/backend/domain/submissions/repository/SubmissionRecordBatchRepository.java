@@ -0,0 +1,18 @@
+// SubmissionRecord 를 JDBC 배치로 한 번에 저장하는 사용자 정의 리포지토리
+// (IDENTITY 전략은 Hibernate 배치 INSERT 가 비활성화되므로 JdbcTemplate 로 직접 저장함)
+
+package com.unide.backend.domain.submissions.repository;
+
+import java.util.List;
+
+import com.unide.backend.domain.submissions.entity.SubmissionRecord;
+
+public interface SubmissionRecordBatchRepository {
+
+    /**
+     * 테스트 케이스별 채점 기록들을 하나의 배치 INSERT 로 저장함
+     * (생성된 ID 는 엔터티에 반영되지 않으므로, 저장 후에는 조회해서 사용해야 함)
+     * @param records 저장할 채점 기록 목록
+     */
+    void insertAll(List<SubmissionRecord> records);
+}
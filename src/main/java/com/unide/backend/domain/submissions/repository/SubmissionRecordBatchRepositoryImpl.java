@@ -0,0 +1,37 @@
+// SubmissionRecordBatchRepository 의 JdbcTemplate 구현체
+// (datasource URL 의 rewriteBatchedStatements=true 로 MySQL 에서는 다중 행 INSERT 한 번으로 전송됨)
+
+package com.unide.backend.domain.submissions.repository;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.unide.backend.domain.submissions.entity.SubmissionRecord;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class SubmissionRecordBatchRepositoryImpl implements SubmissionRecordBatchRepository {
+    private static final String INSERT_SQL = """
+        INSERT INTO submission_records (submission_id, test_case_index, status, runtime, memory, error)
+        VALUES (?, ?, ?, ?, ?, ?)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<SubmissionRecord> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, records, records.size(), (ps, record) -> {
+            ps.setLong(1, record.getSubmission().getId());
+            ps.setInt(2, record.getTestCaseIndex());
+            ps.setString(3, record.getStatus().name());
+            ps.setInt(4, record.getRuntime());
+            ps.setInt(5, record.getMemory());
+            ps.setString(6, record.getError());
+        });
+    }
+}
@@ -4,9 +4,17 @@ import com.unide.backend.domain.submissions.entity.SubmissionRecord;
 import com.unide.backend.domain.submissions.entity.Submissions;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
-public interface SubmissionRecordRepository extends JpaRepository<SubmissionRecord, Long> {
+public interface SubmissionRecordRepository extends JpaRepository<SubmissionRecord, Long>, SubmissionRecordBatchRepository {
     List<SubmissionRecord> findAllBySubmissionOrderByTestCaseIndexAsc(Submissions submission);
+
+    // 재채점 전에 이전 채점의 케이스별 기록을 한 번에 지움
+    @Modifying
+    @Query("DELETE FROM SubmissionRecord r WHERE r.submission = :submission")
+    int deleteAllBySubmission(@Param("submission") Submissions submission);
 }
@@ -2,6 +2,8 @@
 
 package com.unide.backend.domain.submissions.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,6 +14,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import com.unide.backend.domain.problems.entity.Problems;
+import com.unide.backend.domain.submissions.entity.SubmissionLanguage;
 import com.unide.backend.domain.submissions.entity.SubmissionStatus;
 import com.unide.backend.domain.submissions.entity.Submissions;
 import com.unide.backend.domain.user.entity.User;
@@ -98,4 +101,48 @@ public interface SubmissionsRepository extends JpaRepository<Submissions, Long>
 
     @Query("SELECT COUNT(DISTINCT s.user.id) FROM Submissions s WHERE s.problem.id = :problemId AND s.status = 'CA'")
     Long countDistinctSolvedUsersByProblemId(@Param("problemId") Long problemId);
+
+    // 채점 진행 이벤트 구독 중인 제출 중 채점이 끝난 제출 조회 (다른 서버에서 채점된 결과 전달용)
+    @Query("SELECT s FROM Submissions s WHERE s.id IN :ids AND s.status NOT IN ('PENDING', 'GRADING')")
+    List<Submissions> findFinishedByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 채점 대기/채점 중 상태로 오래 남아 있으면서 진행 중인 채점 작업이 없는 제출 (서버 재시작 등으로 채점이 끊긴 경우)
+    @Query("SELECT s.id FROM Submissions s WHERE s.status IN ('PENDING', 'GRADING') AND s.submittedAt < :before " +
+           "AND NOT EXISTS (SELECT j FROM JudgeJob j WHERE j.submissionId = s.id AND j.status IN ('QUEUED', 'LEASED')) " +
+           "ORDER BY s.id")
+    List<Long> findStaleUnqueuedIds(@Param("before") LocalDateTime before, Pageable pageable);
+
+    // 같은 해시의 제출 중 채점이 끝난 가장 최근 제출 (채점 결과 재사용용, 시스템 오류로 끝난 제출은 해시가 없음)
+    @Query("SELECT s FROM Submissions s WHERE s.codeHash = :codeHash AND s.status IN ('CA', 'WA', 'CE', 'RE', 'TLE', 'MLE') " +
+           "ORDER BY s.id DESC")
+    List<Submissions> findFinishedByCodeHash(@Param("codeHash") String codeHash, Pageable pageable);
+
+    // 재채점 대상: 특정 문제의 채점이 끝난 제출 중 필터(null 이면 무시)에 맞고 afterId 보다 큰 제출 ID 를 순서대로 조회
+    @Query("SELECT s.id FROM Submissions s WHERE s.problem.id = :problemId AND s.id > :afterId " +
+           "AND s.status NOT IN ('PENDING', 'GRADING', 'DRAFT') " +
+           "AND (:status IS NULL OR s.status = :status) " +
+           "AND (:language IS NULL OR s.language = :language) " +
+           "AND (:from IS NULL OR s.submittedAt >= :from) " +
+           "AND (:to IS NULL OR s.submittedAt < :to) " +
+           "ORDER BY s.id")
+    List<Long> findRejudgeTargetIds(@Param("problemId") Long problemId,
+                                    @Param("afterId") Long afterId,
+                                    @Param("status") SubmissionStatus status,
+                                    @Param("language") SubmissionLanguage language,
+                                    @Param("from") LocalDateTime from,
+                                    @Param("to") LocalDateTime to,
+                                    Pageable pageable);
+
+    // 재채점 대상 제출 수
+    @Query("SELECT COUNT(s) FROM Submissions s WHERE s.problem.id = :problemId " +
+           "AND s.status NOT IN ('PENDING', 'GRADING', 'DRAFT') " +
+           "AND (:status IS NULL OR s.status = :status) " +
+           "AND (:language IS NULL OR s.language = :language) " +
+           "AND (:from IS NULL OR s.submittedAt >= :from) " +
+           "AND (:to IS NULL OR s.submittedAt < :to)")
+    long countRejudgeTargets(@Param("problemId") Long problemId,
+                             @Param("status") SubmissionStatus status,
+                             @Param("language") SubmissionLanguage language,
+                             @Param("from") LocalDateTime from,
+                             @Param("to") LocalDateTime to);
 }
@@ -0,0 +1,168 @@
+// 컴파일 결과물(out 디렉터리의 tar 아카이브)을 소스 해시 기준으로 로컬 디스크에 보관하는 LRU 캐시
+
+package com.unide.backend.domain.submissions.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.unide.backend.domain.submissions.entity.SubmissionLanguage;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class CompiledArtifactCache {
+    private static final String EXTENSION = ".tar";
+
+    @Value("${judge.artifact-cache.dir:cache/artifacts}")
+    private String cacheDir;
+
+    @Value("${judge.artifact-cache.max-size-mb:512}")
+    private long maxSizeMb;
+
+    private Path root;
+    private long totalBytes = 0;
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true); // 키 -> 파일 크기 (접근 순서)
+
+    /**
+     * 캐시 디렉터리를 준비하고, 재시작 전에 저장된 결과물을 최근 사용 순서대로 다시 등록함
+     */
+    @PostConstruct
+    public void init() throws IOException {
+        root = Paths.get(cacheDir).toAbsolutePath().normalize();
+        Files.createDirectories(root);
+
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(root)) {
+            files = new ArrayList<>(stream.filter(p -> p.getFileName().toString().endsWith(EXTENSION)).toList());
+        }
+        files.sort(Comparator.comparing(CompiledArtifactCache::lastModified));
+
+        synchronized (this) {
+            for (Path file : files) {
+                String key = file.getFileName().toString().replace(EXTENSION, "");
+                long size = Files.size(file);
+                entries.put(key, size);
+                totalBytes += size;
+            }
+            evictIfNeeded();
+        }
+        log.info("Compiled artifact cache loaded {} entries ({} bytes)", entries.size(), totalBytes);
+    }
+
+    /**
+     * 소스 코드, 언어, 컴파일 명령(컴파일러 옵션 포함)으로 캐시 키를 만듦
+     */
+    public String keyOf(String code, SubmissionLanguage language, String compileCommand) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(language.name().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(compileCommand.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(code.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * 캐시된 결과물 아카이브 경로를 반환함 (없으면 null)
+     */
+    public Path get(String key) {
+        synchronized (this) {
+            if (entries.get(key) == null) {
+                return null;
+            }
+        }
+        Path file = pathOf(key);
+        try {
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            return file;
+        } catch (IOException e) {
+            // 다른 경로로 파일이 지워진 경우
+            remove(key);
+            return null;
+        }
+    }
+
+    /**
+     * 컴파일 결과물 아카이브를 캐시에 저장하고, 최대 용량을 넘으면 가장 오래 사용하지 않은 항목부터 지움
+     */
+    public void put(String key, InputStream archive) {
+        Path temp = root.resolve(key + "." + UUID.randomUUID() + ".tmp");
+        try {
+            long size = Files.copy(archive, temp);
+            Files.move(temp, pathOf(key), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            synchronized (this) {
+                Long previous = entries.put(key, size);
+                totalBytes += size - (previous != null ? previous : 0);
+                evictIfNeeded();
+            }
+        } catch (IOException e) {
+            log.warn("Failed to store compiled artifact {}: {}", key, e.getMessage());
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException ignored) {
+                // 임시 파일 정리 실패는 무시
+            }
+        }
+    }
+
+    private synchronized void remove(String key) {
+        Long size = entries.remove(key);
+        if (size != null) {
+            totalBytes -= size;
+        }
+    }
+
+    private void evictIfNeeded() {
+        long maxBytes = maxSizeMb * 1024 * 1024;
+        Iterator<Map.Entry<String, Long>> iterator = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            Map.Entry<String, Long> eldest = iterator.next();
+            iterator.remove();
+            totalBytes -= eldest.getValue();
+            try {
+                Files.deleteIfExists(pathOf(eldest.getKey()));
+            } catch (IOException e) {
+                log.warn("Failed to evict compiled artifact {}", eldest.getKey());
+            }
+        }
+    }
+
+    private Path pathOf(String key) {
+        return root.resolve(key + EXTENSION);
+    }
+
+    private static FileTime lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+}
@@ -0,0 +1,476 @@
+// 코드 실행용 Docker 컨테이너를 언어별로 미리 띄워 두고 재사용하는 컨테이너 풀
+
+package com.unide.backend.domain.submissions.service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.command.CreateContainerResponse;
+import com.github.dockerjava.api.command.ExecCreateCmdResponse;
+import com.github.dockerjava.api.command.InspectContainerResponse;
+import com.github.dockerjava.api.model.Container;
+import com.github.dockerjava.api.model.HostConfig;
+import com.unide.backend.domain.submissions.entity.SubmissionLanguage;
+
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "judge.backend", havingValue = "docker", matchIfMissing = true)
+@RequiredArgsConstructor
+public class ContainerPool {
+    private static final String WIPE_COMMAND = "rm -rf /app/* /app/.[!.]* /tmp/* /run/judge/* 2>/dev/null; kill -9 -1 2>/dev/null; true";
+    private static final int WIPE_TIMEOUT_SECONDS = 10;
+    private static final String LABEL_MANAGED = "unide.judge.executor"; // 채점 서버가 만든 컨테이너 표시
+    private static final String LABEL_NODE = "unide.judge.node";         // 컨테이너를 만든 서버(노드) ID
+
+    private final DockerClient dockerClient;
+    private final Environment environment;
+    private final JudgeNode judgeNode;
+    private final JudgeJobService judgeJobService;
+
+    @Value("${judge.docker.image:unide/code-executor}")
+    private String image;
+
+    @Value("${judge.docker.memory-mb:512}")
+    private long memoryMb;
+
+    @Value("${judge.pool.min-size:1}")
+    private int defaultMinSize;
+
+    @Value("${judge.pool.max-size:4}")
+    private int defaultMaxSize;
+
+    @Value("${judge.pool.acquire-timeout-ms:10000}")
+    private long acquireTimeoutMs;
+
+    @Value("${judge.pool.orphan-grace-ms:60000}")
+    private long orphanGraceMs; // 이 서버가 만든 컨테이너가 풀에 없는 채로 이 시간보다 오래되면 고아로 보고 지움
+
+    @Value("${judge.pool.reap-other-nodes:false}")
+    private boolean reapOtherNodes; // 종료된 것으로 보이는 다른 노드의 컨테이너도 지울지 여부
+
+    @Value("${judge.pool.dead-node-after-ms:3600000}")
+    private long deadNodeAfterMs; // 다른 노드가 채점 작업에 남긴 마지막 하트비트가 이 시간보다 오래되면 종료된 노드로 봄
+
+    private final Map<SubmissionLanguage, LanguagePool> pools = new EnumMap<>(SubmissionLanguage.class);
+    private final Set<String> containerIds = ConcurrentHashMap.newKeySet(); // 이 풀이 만든 컨테이너 (유휴 + 대여 중)
+    private final ExecutorService replenisher = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "container-pool-replenisher");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile boolean shuttingDown = false;
+
+    /**
+     * 애플리케이션 기동이 끝나면 언어별 최소 개수만큼 컨테이너를 미리 띄워 둠
+     * (Docker 데몬이 없어도 서버 기동 자체는 실패하지 않도록 경고만 남김)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reapOrphans();
+        for (SubmissionLanguage language : SubmissionLanguage.values()) {
+            LanguagePool pool = poolOf(language);
+            try {
+                fill(pool);
+                log.info("Container pool for {} warmed up ({} containers)", language, pool.idle.size());
+            } catch (Exception e) {
+                log.warn("Failed to warm up container pool for {}: {}", language, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 유휴 컨테이너를 하나 빌려옴. 유휴 컨테이너가 없고 최대 개수에 도달하지 않았다면 새로 생성하고,
+     * 최대 개수에 도달했다면 반납될 때까지 acquire-timeout 만큼 기다림
+     */
+    public PooledContainer acquire(SubmissionLanguage language) throws InterruptedException {
+        LanguagePool pool = poolOf(language);
+
+        String containerId = pool.idle.pollFirst();
+        if (containerId != null) {
+            return new PooledContainer(containerId, language);
+        }
+
+        if (pool.reserveSlot()) {
+            try {
+                return new PooledContainer(createContainer(language), language);
+            } catch (RuntimeException e) {
+                pool.total.decrementAndGet();
+                throw e;
+            }
+        }
+
+        containerId = pool.idle.pollFirst(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        if (containerId == null) {
+            throw new IllegalStateException("사용 가능한 코드 실행 컨테이너가 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return new PooledContainer(containerId, language);
+    }
+
+    /**
+     * 기다리지 않고 컨테이너를 빌려옴. 유휴 컨테이너도 없고 새로 만들 여유도 없으면 null 을 반환함
+     */
+    public PooledContainer tryAcquire(SubmissionLanguage language) {
+        LanguagePool pool = poolOf(language);
+
+        String containerId = pool.idle.pollFirst();
+        if (containerId != null) {
+            return new PooledContainer(containerId, language);
+        }
+        if (!pool.reserveSlot()) {
+            return null;
+        }
+        try {
+            return new PooledContainer(createContainer(language), language);
+        } catch (RuntimeException e) {
+            pool.total.decrementAndGet();
+            log.warn("Failed to create extra container for {}: {}", language, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 사용이 끝난 컨테이너를 반납함. 작업 디렉터리를 비우고 남은 프로세스를 정리한 뒤 풀에 되돌리며,
+     * 시간 초과 등으로 오염된 컨테이너는 폐기하고 새 컨테이너로 교체함
+     */
+    public void release(PooledContainer container) {
+        LanguagePool pool = poolOf(container.getLanguage());
+
+        if (shuttingDown || container.isTainted() || !wipe(container.getId())) {
+            destroy(pool, container.getId());
+            replenishAsync(pool);
+            return;
+        }
+        pool.idle.offerFirst(container.getId());
+    }
+
+    /**
+     * 유휴 컨테이너의 상태를 주기적으로 점검하여 죽은 컨테이너를 교체하고 최소 개수를 유지함
+     */
+    @Scheduled(fixedDelayString = "${judge.pool.health-check-interval-ms:30000}",
+               initialDelayString = "${judge.pool.health-check-interval-ms:30000}")
+    public void checkHealth() {
+        for (LanguagePool pool : pools.values()) {
+            List<String> snapshot = new ArrayList<>();
+            pool.idle.drainTo(snapshot);
+
+            for (String containerId : snapshot) {
+                if (isRunning(containerId)) {
+                    pool.idle.offerLast(containerId);
+                } else {
+                    log.warn("Container {} for {} is not healthy, replacing it", containerId, pool.language);
+                    destroy(pool, containerId);
+                }
+            }
+
+            try {
+                fill(pool);
+            } catch (Exception e) {
+                log.warn("Failed to refill container pool for {}: {}", pool.language, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 코드 실행 이미지로 만든 컨테이너 중 이 풀이 관리하지 않는 컨테이너(고아)를 지움.
+     * 서버가 채점 도중 종료되면 대여 중이던 컨테이너가 반납되지 않고 남으므로, 기동 시와 주기적으로 정리함
+     * - 이 서버의 노드 ID 로 만든 컨테이너: 풀에 없고 orphan-grace-ms 보다 오래된 경우
+     * - 다른 노드 ID 로 만든 컨테이너: reap-other-nodes=true 이고, 그 노드가 채점 작업(judge_jobs)에 남긴
+     *   마지막 하트비트가 dead-node-after-ms 보다 오래된 경우에만 종료된 서버가 남긴 것으로 보고 지움
+     *   (노드 ID 는 기동할 때마다 바뀌므로 재시작한 서버도 다른 노드임. 채점한 적이 없는 노드는 살아 있을 수 있으므로 두고 감)
+     * - 노드 표시가 없는 컨테이너: 표시를 붙이기 전 버전이 남긴 것으로 보고 지움
+     */
+    @Scheduled(fixedDelayString = "${judge.pool.reap-interval-ms:300000}",
+               initialDelayString = "${judge.pool.reap-interval-ms:300000}")
+    public void reapOrphans() {
+        List<Container> containers;
+        try {
+            containers = dockerClient.listContainersCmd()
+                    .withShowAll(true)
+                    .withAncestorFilter(List.of(image))
+                    .exec();
+        } catch (Exception e) {
+            log.warn("Failed to list executor containers: {}", e.getMessage());
+            return;
+        }
+
+        long graceBefore = System.currentTimeMillis() - orphanGraceMs;
+        Set<String> deadNodes = reapOtherNodes ? findDeadNodes(containers) : Set.of();
+        int reaped = 0;
+        for (Container container : containers) {
+            if (containerIds.contains(container.getId())) {
+                continue;
+            }
+            Map<String, String> labels = container.getLabels() != null ? container.getLabels() : Map.of();
+            String node = labels.get(LABEL_NODE);
+            boolean orphan;
+            if (judgeNode.getId().equals(node)) {
+                orphan = container.getCreated() != null && container.getCreated() * 1000 < graceBefore;
+            } else {
+                orphan = node == null || deadNodes.contains(node);
+            }
+            if (!orphan) {
+                continue;
+            }
+            try {
+                dockerClient.removeContainerCmd(container.getId()).withForce(true).exec();
+                reaped++;
+                log.info("Removed orphaned executor container {} (node {})", container.getId(), node);
+            } catch (Exception e) {
+                log.warn("Failed to remove orphaned container {}: {}", container.getId(), e.getMessage());
+            }
+        }
+        if (reaped > 0) {
+            log.warn("Removed {} orphaned executor containers", reaped);
+        }
+    }
+
+    /**
+     * 컨테이너를 만든 다른 노드 중 채점 작업의 하트비트가 dead-node-after-ms 동안 없었던 노드를 찾음
+     */
+    private Set<String> findDeadNodes(List<Container> containers) {
+        Set<String> otherNodes = new HashSet<>();
+        for (Container container : containers) {
+            String node = container.getLabels() != null ? container.getLabels().get(LABEL_NODE) : null;
+            if (node != null && !node.equals(judgeNode.getId())) {
+                otherNodes.add(node);
+            }
+        }
+        if (otherNodes.isEmpty()) {
+            return Set.of();
+        }
+
+        Map<String, LocalDateTime> lastHeartbeats;
+        try {
+            lastHeartbeats = judgeJobService.findLastHeartbeats(otherNodes);
+        } catch (Exception e) {
+            log.warn("Failed to read judge node heartbeats: {}", e.getMessage());
+            return Set.of();
+        }
+        LocalDateTime deadBefore = LocalDateTime.now().minus(deadNodeAfterMs, ChronoUnit.MILLIS);
+        Set<String> deadNodes = new HashSet<>();
+        lastHeartbeats.forEach((node, heartbeatAt) -> {
+            if (heartbeatAt.isBefore(deadBefore)) {
+                deadNodes.add(node);
+            }
+        });
+        return deadNodes;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        shuttingDown = true;
+        replenisher.shutdownNow();
+        for (LanguagePool pool : pools.values()) {
+            String containerId;
+            while ((containerId = pool.idle.pollFirst()) != null) {
+                destroy(pool, containerId);
+            }
+        }
+    }
+
+    private synchronized LanguagePool poolOf(SubmissionLanguage language) {
+        return pools.computeIfAbsent(language, lang -> {
+            String prefix = "judge.pool." + lang.name().toLowerCase() + ".";
+            int minSize = environment.getProperty(prefix + "min-size", Integer.class, defaultMinSize);
+            int maxSize = environment.getProperty(prefix + "max-size", Integer.class, defaultMaxSize);
+            return new LanguagePool(lang, minSize, Math.max(minSize, maxSize));
+        });
+    }
+
+    private void fill(LanguagePool pool) {
+        while (!shuttingDown && pool.total.get() < pool.minSize && pool.reserveSlot()) {
+            try {
+                pool.idle.offerLast(createContainer(pool.language));
+            } catch (RuntimeException e) {
+                pool.total.decrementAndGet();
+                throw e;
+            }
+        }
+    }
+
+    private void replenishAsync(LanguagePool pool) {
+        if (shuttingDown) {
+            return;
+        }
+        try {
+            replenisher.execute(() -> {
+                try {
+                    fill(pool);
+                } catch (Exception e) {
+                    log.warn("Failed to replenish container pool for {}: {}", pool.language, e.getMessage());
+                }
+            });
+        } catch (Exception e) {
+            log.warn("Container pool replenisher rejected task for {}", pool.language);
+        }
+    }
+
+    /**
+     * 풀과 별도로 쓰는 전용 컨테이너(컴파일 서버 등)를 같은 이미지로 만들고 시작함.
+     * 사용자 코드를 실행하지 않으므로 네트워크 없이 띄우며, 고아 정리에서 지워지지 않도록 이 풀이 만든 컨테이너로 기록함
+     * @param role 컨테이너 용도 (관리 표시 값)
+     * @param memoryMb 메모리 제한
+     * @param command 컨테이너의 주 프로세스로 실행할 명령
+     * @return 시작된 컨테이너 ID
+     */
+    public String createDedicatedContainer(String role, long memoryMb, List<String> command) {
+        CreateContainerResponse container = dockerClient.createContainerCmd(image)
+                .withHostConfig(HostConfig.newHostConfig()
+                        .withMemory(memoryMb * 1024 * 1024L)
+                        .withNetworkMode("none"))
+                .withLabels(Map.of(LABEL_MANAGED, role, LABEL_NODE, judgeNode.getId()))
+                .withCmd(command)
+                .exec();
+        String containerId = container.getId();
+        containerIds.add(containerId);
+        try {
+            dockerClient.startContainerCmd(containerId).exec();
+        } catch (RuntimeException e) {
+            removeQuietly(containerId);
+            throw e;
+        }
+        log.info("Created {} container {}", role, containerId);
+        return containerId;
+    }
+
+    /**
+     * 전용 컨테이너를 지움
+     */
+    public void removeDedicatedContainer(String containerId) {
+        removeQuietly(containerId);
+    }
+
+    private String createContainer(SubmissionLanguage language) {
+        CreateContainerResponse container = dockerClient.createContainerCmd(image)
+                .withHostConfig(HostConfig.newHostConfig().withMemory(memoryMb * 1024 * 1024L))
+                .withLabels(Map.of(LABEL_MANAGED, language.name(), LABEL_NODE, judgeNode.getId()))
+                .withTty(true)
+                .exec();
+        String containerId = container.getId();
+        containerIds.add(containerId);
+        try {
+            dockerClient.startContainerCmd(containerId).exec();
+        } catch (RuntimeException e) {
+            removeQuietly(containerId);
+            throw e;
+        }
+        log.debug("Created container {} for {}", containerId, language);
+        return containerId;
+    }
+
+    private boolean wipe(String containerId) {
+        try {
+            ExecCreateCmdResponse exec = dockerClient.execCreateCmd(containerId)
+                    .withCmd("sh", "-c", WIPE_COMMAND)
+                    .exec();
+            boolean completed = dockerClient.execStartCmd(exec.getId())
+                    .exec(new com.github.dockerjava.api.async.ResultCallback.Adapter<>())
+                    .awaitCompletion(WIPE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            return completed && isRunning(containerId);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            log.warn("Failed to wipe container {}: {}", containerId, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 컨테이너가 실행 중인지 확인함
+     */
+    public boolean isRunning(String containerId) {
+        try {
+            InspectContainerResponse inspect = dockerClient.inspectContainerCmd(containerId).exec();
+            return Boolean.TRUE.equals(inspect.getState().getRunning());
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private void destroy(LanguagePool pool, String containerId) {
+        pool.total.decrementAndGet();
+        removeQuietly(containerId);
+    }
+
+    private void removeQuietly(String containerId) {
+        containerIds.remove(containerId); // 지우지 못한 컨테이너는 고아 정리 때 다시 지움
+        try {
+            dockerClient.removeContainerCmd(containerId).withForce(true).exec();
+        } catch (Exception e) {
+            log.warn("Failed to remove container {}", containerId);
+        }
+    }
+
+    /**
+     * 풀에서 빌려준 컨테이너. 실행 도중 시간 초과 등으로 상태를 신뢰할 수 없게 되면 tainted 로 표시하여
+     * 반납 시 재사용하지 않고 폐기되도록 함
+     */
+    @Getter
+    public static class PooledContainer {
+        private final String id;
+        private final SubmissionLanguage language;
+        private boolean tainted;
+
+        private PooledContainer(String id, SubmissionLanguage language) {
+            this.id = id;
+            this.language = language;
+        }
+
+        public void markTainted() {
+            this.tainted = true;
+        }
+    }
+
+    private static class LanguagePool {
+        private final SubmissionLanguage language;
+        private final int minSize;
+        private final int maxSize;
+        private final BlockingDeque<String> idle = new LinkedBlockingDeque<>();
+        private final AtomicInteger total = new AtomicInteger();
+
+        private LanguagePool(SubmissionLanguage language, int minSize, int maxSize) {
+            this.language = language;
+            this.minSize = minSize;
+            this.maxSize = maxSize;
+        }
+
+        private boolean reserveSlot() {
+            int current;
+            do {
+                current = total.get();
+                if (current >= maxSize) {
+                    return false;
+                }
+            } while (!total.compareAndSet(current, current + 1));
+            return true;
+        }
+    }
+}
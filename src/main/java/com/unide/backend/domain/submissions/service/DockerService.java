@@ -1,100 +1,743 @@
-// Docker 컨테이너를 이용해 안전하게 코드를 실행하는 서비스
+// Docker 컨테이너를 이용해 안전하게 코드를 실행하는 서비스 (JudgeBackend 의 기본 구현)
 
 package com.unide.backend.domain.submissions.service;
 
+import com.unide.backend.domain.problems.entity.JavaRunProfile;
+import com.unide.backend.domain.problems.entity.OutputCompareMode;
 import com.unide.backend.domain.submissions.dto.CodeRunRequestDto;
 import com.unide.backend.domain.submissions.dto.CodeRunResponseDto;
+import com.unide.backend.domain.submissions.dto.JudgeLimitDto;
+import com.unide.backend.domain.submissions.dto.JudgeResultDto;
+import com.unide.backend.domain.submissions.dto.TestCaseResultDto;
 import com.unide.backend.domain.submissions.entity.SubmissionLanguage;
 import com.unide.backend.domain.submissions.entity.SubmissionStatus;
 
+import com.unide.backend.domain.submissions.service.ContainerPool.PooledContainer;
+
 import com.github.dockerjava.api.DockerClient;
-import com.github.dockerjava.api.command.CreateContainerResponse;
 import com.github.dockerjava.api.command.ExecCreateCmdResponse;
-import com.github.dockerjava.api.model.HostConfig;
-import com.github.dockerjava.core.DefaultDockerClientConfig;
-import com.github.dockerjava.core.DockerClientImpl;
-import com.github.dockerjava.zerodep.ZerodepDockerHttpClient;
 
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+
+import jakarta.annotation.PreDestroy;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 @Slf4j
 @Service
-public class DockerService {
+@ConditionalOnProperty(name = "judge.backend", havingValue = "docker", matchIfMissing = true)
+@RequiredArgsConstructor
+public class DockerService implements JudgeBackend {
+    private static final int DEFAULT_TIME_LIMIT_SECONDS = 5;
+    private static final String WORK_DIR = "/app";
+    private static final int TAR_BLOCK_SIZE = 512;
+    private static final String RUNNER = "judge-run"; // 실행 통계를 남기는 러너 (src/main/docker/judge-run.sh)
+    private static final String STATS_MARKER = "__JUDGE_STATS__";
+    private static final int KILLED_EXIT_CODE = 128 + 9; // SIGKILL 로 종료된 경우 (컨테이너 OOM Killer 등)
+    private static final long EXEC_GRACE_MS = 3000; // 러너가 스스로 종료하지 못했을 때를 대비한 exec 대기 여유 시간
+    private static final int OUTPUT_LIMIT_EXIT_CODE = 128 + 25; // SIGXFSZ 로 종료된 경우 (출력 제한 초과)
+    private static final int CAPTURE_LIMIT_BYTES = 64 * 1024; // exec 표준 출력/에러와 IDE 실행 출력을 보관할 최대 크기
+    private static final String COMPILE_STATS_MARKER = "__COMPILE_STATS__"; // 컴파일 서버 클라이언트가 남기는 컴파일 시간
+    private static final int COMPILE_SERVER_ERROR_EXIT_CODE = 2;       // 컴파일 서버 오류 또는 시간 초과 (서버를 교체함)
+    private static final int COMPILE_SERVER_UNAVAILABLE_EXIT_CODE = 3; // 컴파일 서버에 연결할 수 없음
+    private static final String OUT_OF_MEMORY_ERROR = "java.lang.OutOfMemoryError";
+    private static final int STARTUP_PROBE_RUNS = 3;        // JVM 기동 시간 측정 횟수 (가장 짧은 값을 씀)
+    private static final long STARTUP_PROBE_LIMIT_MS = 5000; // JVM 기동 시간 측정 실행의 시간 제한
+    private static final String PYTHON_FORK_SERVER = "/opt/judge/python-zygote.py"; // 파이썬 fork 서버 (src/main/docker/python-zygote.py)
+    private static final String PYTHON_FORK_CLIENT = "judge-pyfork";                  // fork 서버 클라이언트 (src/main/docker/judge-pyfork.c)
+    private static final String PYTHON_FORK_SOCKET = "/tmp/judge-pyzygote.sock";      // 컨테이너 반납 시 /tmp 와 함께 지워짐
+    private static final int PYTHON_FORK_READY_CHECKS = 40;                           // 50ms 간격으로 소켓이 생겼는지 확인하는 횟수
+
     private final DockerClient dockerClient;
-    private static final String DOCKER_IMAGE = "unide/code-executor";
+    private final ContainerPool containerPool;
+    private final CompiledArtifactCache artifactCache;
+    private final JavaCompileServerManager javaCompileServer;
+    private final JavaRunOptions javaRunOptions;
+    private final OutputComparator outputComparator;
 
-    public DockerService() {
-        DefaultDockerClientConfig config = DefaultDockerClientConfig.createDefaultConfigBuilder().build();
-        ZerodepDockerHttpClient httpClient = new ZerodepDockerHttpClient.Builder()
-                .dockerHost(config.getDockerHost())
-                .sslConfig(config.getSSLConfig())
-                .build();
-        this.dockerClient = DockerClientImpl.getInstance(config, httpClient);
-    }
+    @Value("${judge.case-parallelism:2}")
+    private int caseParallelism; // 제출 하나당 동시에 사용할 수 있는 최대 컨테이너 수
+
+    @Value("${judge.fail-fast:false}")
+    private boolean failFast; // 첫 실패 모드: 실패한 케이스 뒤의 케이스는 실행하지 않음
+
+    @Value("${judge.output-limit-kb:65536}")
+    private long outputLimitKb; // 프로그램 표준 출력의 최대 크기
 
+    @Value("${judge.time.wall-multiplier:2.0}")
+    private double wallMultiplier; // 실제 시간 제한 = CPU 시간 제한 x 배수 (입력 대기, sleep 등으로 CPU 를 쓰지 않는 경우 대비)
+
+    @Value("${judge.python.fork-server:false}")
+    private boolean pythonForkServer; // 파이썬 제출을 표준 모듈을 미리 불러온 fork 서버에서 케이스마다 fork 하여 실행
+
+    private final ExecutorService caseExecutor = Executors.newCachedThreadPool(r -> {
+        Thread thread = new Thread(r, "judge-case-slot");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Map<String, Long> jvmStartupMs = new ConcurrentHashMap<>(); // JVM 옵션 -> 측정한 기동 시간 (ms)
+
+    @Override
     public CodeRunResponseDto runCode(CodeRunRequestDto request) {
-        String containerId = null;
+        PooledContainer container = null;
         try {
-            CreateContainerResponse container = dockerClient.createContainerCmd(DOCKER_IMAGE)
-                    .withHostConfig(HostConfig.newHostConfig().withMemory(512 * 1024 * 1024L))
-                    .withTty(true)
-                    .exec();
-            containerId = container.getId();
-
-            dockerClient.startContainerCmd(containerId).exec();
-
-            String fileName = getFileName(request.getLanguage());
-            String fileCmd = "echo \"" + request.getCode().replace("\"", "\\\"").replace("$", "\\$") + "\" > " + fileName;
-            execCommand(containerId, "sh", "-c", fileCmd);
-
-            if (needsCompilation(request.getLanguage())) {
-                String compileCmd = getCompileCommand(request.getLanguage(), fileName);
-                ExecResult compileResult = execCommand(containerId, "sh", "-c", compileCmd);
-                if (compileResult.exitCode != 0) {
-                    return CodeRunResponseDto.builder()
-                            .isSuccess(false)
-                            .error("Compilation Error:\n" + compileResult.stderr)
-                            .status(SubmissionStatus.CE)
-                            .build();
-                }
+            container = containerPool.acquire(request.getLanguage());
+            String containerId = container.getId();
+
+            String fileName = LanguageCommands.fileName(request.getLanguage());
+            writeSource(containerId, fileName, request.getCode());
+
+            ExecResult compileResult = compile(container, request.getLanguage(), fileName, request.getCode());
+            if (compileResult != null) {
+                return CodeRunResponseDto.builder()
+                        .isSuccess(false)
+                        .error("Compilation Error:\n" + compileResult.output)
+                        .status(SubmissionStatus.CE)
+                        .build();
             }
 
-            String runCmd = getRunCommand(request.getLanguage(), fileName, request.getInput());
-            long startTime = System.currentTimeMillis();
-            int timeLimit = 5;
-            ExecResult runResult = execute(containerId, "sh", "-c", runCmd, timeLimit);
-            long endTime = System.currentTimeMillis();
+            boolean hasInput = writeInput(containerId, JudgeTestCase.of(request.getInput(), null));
+            String jvmOptions = jvmOptions(request.getLanguage(), null, 0);
+            ExecResult runResult = runProgram(container, LanguageCommands.runCommand(request.getLanguage(), fileName, jvmOptions),
+                    hasInput, DEFAULT_TIME_LIMIT_SECONDS * 1000L, jvmStartupOffset(container, request.getLanguage(), jvmOptions));
 
             return CodeRunResponseDto.builder()
                     .isSuccess(runResult.status == SubmissionStatus.CA)
-                    .output(runResult.output)
+                    .output(runResult.status == SubmissionStatus.CA ? readOutput(containerId) : runResult.output)
                     .error(runResult.status == SubmissionStatus.RE ? runResult.output : null)
-                    .executionTimeMs(endTime - startTime)
+                    .executionTimeMs(runResult.cpuTimeMs)
+                    .memoryKb(runResult.memoryKb)
                     .status(runResult.status)
                     .build();
 
         } catch (Exception e) {
             log.error("Docker execution failed", e);
+            if (container != null) {
+                container.markTainted();
+            }
             return CodeRunResponseDto.builder()
                     .isSuccess(false)
                     .error("System Error: " + e.getMessage())
                     .status(SubmissionStatus.RE)
+                    .systemError(true)
                     .build();
         } finally {
-            if (containerId != null) {
+            if (container != null) {
+                containerPool.release(container);
+            }
+        }
+    }
+
+    /**
+     * 제출 코드를 한 번만 작성/컴파일한 뒤, 컴파일 결과물을 공유하는 여러 컨테이너에서 테스트 케이스를 병렬로 실행하여 채점함.
+     * 첫 실패 모드(judge.fail-fast)에서는 최종 결과가 정해지는 순간 그보다 뒤의 케이스 실행을 중단함
+     * @param code 제출 코드
+     * @param language 제출 언어
+     * @param testCases 채점할 테스트 케이스 목록
+     * @param limits 문제의 시간/메모리 제한
+     * @param listener 컴파일 완료, 케이스별 채점 완료 시점을 전달받을 리스너
+     * @return 컴파일 결과와 테스트 케이스별 채점 결과 (케이스 순서대로, 중단된 케이스는 제외)
+     */
+    @Override
+    public JudgeResultDto runSubmission(String code, SubmissionLanguage language, List<JudgeTestCase> testCases, JudgeLimitDto limits,
+                                        JudgeProgressListener listener) {
+        PooledContainer container = null;
+        List<PooledContainer> extraContainers = new ArrayList<>();
+        try {
+            container = containerPool.acquire(language);
+
+            String fileName = LanguageCommands.fileName(language);
+            writeSource(container.getId(), fileName, code);
+
+            long compileStartedAt = System.nanoTime();
+            ExecResult compileResult = compile(container, language, fileName, code);
+            Integer compileTimeMs = LanguageCommands.needsCompilation(language)
+                    ? (int) ((System.nanoTime() - compileStartedAt) / 1_000_000) : null;
+            String compilerProfile = LanguageCommands.compilerProfile(language);
+            listener.onCompiled(compileResult == null);
+            if (compileResult != null) {
+                return JudgeResultDto.builder()
+                        .compileError(true)
+                        .compileOutput(compileResult.output)
+                        .compileTimeMs(compileTimeMs)
+                        .compilerProfile(compilerProfile)
+                        .caseResults(List.of())
+                        .build();
+            }
+
+            // 남는 컨테이너가 있을 때만 병렬 슬롯을 늘림 (캐시된 결과물을 복사하므로 다시 컴파일하지 않음)
+            int parallelism = Math.min(caseParallelism, testCases.size());
+            for (int i = 1; i < parallelism; i++) {
+                PooledContainer extra = containerPool.tryAcquire(language);
+                if (extra == null) {
+                    break;
+                }
+                extraContainers.add(extra);
+                writeSource(extra.getId(), fileName, code);
+                if (compile(extra, language, fileName, code) != null) {
+                    extraContainers.remove(extra);
+                    containerPool.release(extra);
+                    break;
+                }
+            }
+
+            boolean forkServer = language == SubmissionLanguage.PYTHON && pythonForkServer;
+            if (forkServer) {
+                startForkServer(container);
+                for (PooledContainer extra : extraContainers) {
+                    startForkServer(extra);
+                }
+            }
+
+            long timeLimitMs = (limits.getTimeLimit() > 0 ? limits.getTimeLimit() : DEFAULT_TIME_LIMIT_SECONDS) * 1000L;
+            long memoryLimitKb = limits.getMemoryLimit() > 0 ? limits.getMemoryLimit() * 1024L : 0;
+            String jvmOptions = jvmOptions(language, limits.getJavaRunProfile(), limits.getMemoryLimit());
+            String runCommand = forkServer
+                    ? PYTHON_FORK_CLIENT + " " + PYTHON_FORK_SOCKET + " " + fileName
+                    : LanguageCommands.runCommand(language, fileName, jvmOptions);
+            CaseRun caseRun = new CaseRun(runCommand,
+                    jvmStartupOffset(container, language, jvmOptions), testCases, timeLimitMs, memoryLimitKb,
+                    limits.getCompareMode(), listener);
+
+            List<Future<?>> slots = new ArrayList<>();
+            for (PooledContainer extra : extraContainers) {
+                slots.add(caseExecutor.submit(() -> {
+                    caseRun.runSlot(extra);
+                    return null;
+                }));
+            }
+            caseRun.runSlot(container);
+            for (Future<?> slot : slots) {
+                slot.get();
+            }
+
+            return JudgeResultDto.builder()
+                    .compileTimeMs(compileTimeMs)
+                    .compilerProfile(compilerProfile)
+                    .caseResults(caseRun.collectResults())
+                    .build();
+
+        } catch (Exception e) {
+            log.error("Docker judging failed", e);
+            if (container != null) {
+                container.markTainted();
+            }
+            // 아직 실행 중일 수 있는 다른 슬롯의 컨테이너는 재사용하지 않고 폐기함
+            extraContainers.forEach(PooledContainer::markTainted);
+            return JudgeResultDto.builder()
+                    .systemError("System Error: " + e.getMessage())
+                    .caseResults(List.of())
+                    .build();
+        } finally {
+            if (container != null) {
+                containerPool.release(container);
+            }
+            extraContainers.forEach(containerPool::release);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        caseExecutor.shutdownNow();
+    }
+
+    /**
+     * 제출 하나의 테스트 케이스들을 여러 컨테이너(슬롯)가 나누어 실행하는 작업 단위.
+     * 각 슬롯은 아직 실행되지 않은 가장 앞 번호의 케이스를 가져가 실행하며, 결과는 케이스 번호 위치에 기록됨
+     */
+    private class CaseRun {
+        private final String runCommand;
+        private final long startupOffsetMs; // 실행 시간에서 뺄 JVM 기동 시간 (0 이면 빼지 않음)
+        private final List<JudgeTestCase> testCases;
+        private final long timeLimitMs;
+        private final long memoryLimitKb; // 0 이면 제한 없음
+        private final OutputCompareMode compareMode;
+        private final JudgeProgressListener listener;
+
+        private final AtomicInteger nextIndex = new AtomicInteger();
+        private final AtomicInteger firstFailure = new AtomicInteger(Integer.MAX_VALUE);
+        private final AtomicReferenceArray<TestCaseResultDto> results;
+        private final Map<PooledContainer, Integer> running = new ConcurrentHashMap<>();
+
+        private CaseRun(String runCommand, long startupOffsetMs, List<JudgeTestCase> testCases, long timeLimitMs, long memoryLimitKb,
+                        OutputCompareMode compareMode, JudgeProgressListener listener) {
+            this.runCommand = runCommand;
+            this.startupOffsetMs = startupOffsetMs;
+            this.testCases = testCases;
+            this.timeLimitMs = timeLimitMs;
+            this.memoryLimitKb = memoryLimitKb;
+            this.compareMode = compareMode;
+            this.listener = listener;
+            this.results = new AtomicReferenceArray<>(testCases.size());
+        }
+
+        private void runSlot(PooledContainer container) throws InterruptedException, IOException {
+            try {
+                while (true) {
+                    int index = nextIndex.getAndIncrement();
+                    if (index >= testCases.size() || index > firstFailure.get()) {
+                        return;
+                    }
+
+                    running.put(container, index);
+                    TestCaseResultDto result = runCase(container, index);
+                    running.remove(container);
+
+                    if (index > firstFailure.get()) {
+                        return; // 앞선 케이스의 실패로 중단된 케이스
+                    }
+                    results.set(index, result);
+                    listener.onCaseFinished(result);
+
+                    if (failFast && result.getStatus() != SubmissionStatus.CA) {
+                        cancelAfter(index, container);
+                    }
+                }
+            } catch (InterruptedException | IOException | RuntimeException e) {
+                container.markTainted();
+                throw e;
+            }
+        }
+
+        private TestCaseResultDto runCase(PooledContainer container, int index) throws InterruptedException, IOException {
+            JudgeTestCase testCase = testCases.get(index);
+            boolean hasInput = writeInput(container.getId(), testCase);
+            ExecResult runResult = runProgram(container, runCommand, hasInput, timeLimitMs, startupOffsetMs);
+
+            SubmissionStatus caseStatus = runResult.status;
+            String error = caseStatus == SubmissionStatus.RE ? runResult.output : null;
+            if (caseStatus != SubmissionStatus.TLE && isMemoryExceeded(runResult, memoryLimitKb)) {
+                caseStatus = SubmissionStatus.MLE;
+                error = null;
+            } else if (caseStatus == SubmissionStatus.CA) {
+                OutputComparator.Result comparison = compareOutput(container.getId(), testCase, compareMode);
+                if (comparison.isOutputLimitExceeded()) {
+                    caseStatus = SubmissionStatus.RE;
+                    error = comparison.getDiff();
+                } else if (!comparison.isAccepted()) {
+                    caseStatus = SubmissionStatus.WA;
+                    error = comparison.getDiff();
+                }
+            }
+
+            return TestCaseResultDto.builder()
+                    .testCaseIndex(index + 1)
+                    .status(caseStatus)
+                    .runtime((int) runResult.cpuTimeMs)
+                    .memory((int) runResult.memoryKb)
+                    .error(error)
+                    .build();
+        }
+
+        /**
+         * index 번째 케이스의 실패로 최종 결과가 정해졌으므로, 그보다 뒤 번호를 실행 중인 다른 슬롯의 프로세스를 중단시킴
+         */
+        private void cancelAfter(int index, PooledContainer self) {
+            firstFailure.accumulateAndGet(index, Math::min);
+            running.forEach((other, runningIndex) -> {
+                if (other != self && runningIndex > index) {
+                    killProcesses(other);
+                }
+            });
+        }
+
+        private List<TestCaseResultDto> collectResults() {
+            List<TestCaseResultDto> collected = new ArrayList<>();
+            int last = Math.min(firstFailure.get(), testCases.size() - 1);
+            for (int i = 0; i <= last; i++) {
+                TestCaseResultDto result = results.get(i);
+                if (result != null) {
+                    collected.add(result);
+                }
+            }
+            return collected;
+        }
+    }
+
+    private void writeSource(String containerId, String fileName, String code) {
+        byte[] content = code.getBytes(StandardCharsets.UTF_8);
+        copyToContainer(containerId, fileName, new ByteArrayInputStream(content), content.length);
+    }
+
+    /**
+     * 테스트 입력을 작업 디렉터리의 입력 파일로 복사함. 실행 명령은 이 파일을 표준 입력으로 리다이렉트하여 읽음
+     * (캐시된 입력 버퍼를 그대로 스트림으로 보내므로 입력을 다시 복사하지 않음)
+     * @return 복사할 입력이 있었는지 여부
+     */
+    private boolean writeInput(String containerId, JudgeTestCase testCase) {
+        if (testCase.getInputSize() == 0) {
+            return false;
+        }
+        copyToContainer(containerId, LanguageCommands.INPUT_FILE, testCase.openInput(), testCase.getInputSize());
+        return true;
+    }
+
+    /**
+     * 파일 하나를 tar 스트림으로 만들어 컨테이너의 작업 디렉터리에 복사함.
+     * 내용을 셸 명령줄에 싣지 않으므로 인자 길이 제한이나 이스케이프 문제가 없고, 내용 자체도 다시 복사하지 않음
+     */
+    private void copyToContainer(String containerId, String fileName, InputStream content, long size) {
+        copyToContainer(containerId, WORK_DIR, fileName, content, size);
+    }
+
+    private void copyToContainer(String containerId, String remotePath, String fileName, InputStream content, long size) {
+        TarArchiveEntry entry = new TarArchiveEntry(fileName);
+        entry.setSize(size);
+        entry.setMode(0644);
+        entry.setModTime(System.currentTimeMillis());
+
+        byte[] header = new byte[TAR_BLOCK_SIZE];
+        entry.writeEntryHeader(header);
+        int padding = (int) ((TAR_BLOCK_SIZE - size % TAR_BLOCK_SIZE) % TAR_BLOCK_SIZE);
+        byte[] trailer = new byte[padding + TAR_BLOCK_SIZE * 2]; // 마지막 블록 채움 + 아카이브 끝 표시
+
+        InputStream tar = new SequenceInputStream(Collections.enumeration(List.of(
+                new ByteArrayInputStream(header),
+                content,
+                new ByteArrayInputStream(trailer))));
+
+        dockerClient.copyArchiveToContainerCmd(containerId)
+                .withTarInputStream(tar)
+                .withRemotePath(remotePath)
+                .exec();
+    }
+
+    /**
+     * 컴파일이 필요한 언어라면 컴파일을 수행함. 같은 코드를 같은 옵션으로 컴파일한 결과물이 캐시에 있으면
+     * 컴파일 대신 캐시된 결과물을 컨테이너에 복사하고, 새로 컴파일에 성공하면 결과물을 캐시에 저장함.
+     * 자바는 상주 컴파일 서버를 먼저 사용하고, 서버를 쓸 수 없으면 컨테이너에서 javac 로 컴파일함
+     * @return 컴파일에 실패했다면 그 결과, 성공했거나 컴파일이 필요 없다면 null
+     */
+    private ExecResult compile(PooledContainer container, SubmissionLanguage language, String fileName, String code) throws InterruptedException {
+        if (!LanguageCommands.needsCompilation(language)) {
+            return null;
+        }
+
+        String containerId = container.getId();
+        String compileCmd = LanguageCommands.compileCommand(language, fileName);
+        String cacheKey = artifactCache.keyOf(code, language, compileCmd);
+
+        if (restoreArtifact(containerId, cacheKey)) {
+            return null;
+        }
+
+        if (language == SubmissionLanguage.JAVA) {
+            ExecResult serverResult = compileOnServer(fileName, code, cacheKey);
+            if (serverResult != null && serverResult.exitCode != 0) {
+                return serverResult;
+            }
+            if (serverResult != null && restoreArtifact(containerId, cacheKey)) {
+                return null;
+            }
+        }
+
+        ExecResult compileResult = execCommand(containerId, "sh", "-c", compileCmd);
+        if (compileResult.status == SubmissionStatus.TLE) {
+            container.markTainted();
+        }
+        if (compileResult.exitCode != 0) {
+            return compileResult;
+        }
+
+        try (InputStream archive = dockerClient.copyArchiveFromContainerCmd(containerId, WORK_DIR + "/" + LanguageCommands.OUTPUT_DIR).exec()) {
+            artifactCache.put(cacheKey, archive);
+        } catch (Exception e) {
+            log.warn("Failed to cache compiled artifact {}: {}", cacheKey, e.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * 캐시된 컴파일 결과물이 있으면 컨테이너의 작업 디렉터리에 복사함
+     * @return 복사했는지 여부
+     */
+    private boolean restoreArtifact(String containerId, String cacheKey) {
+        Path cached = artifactCache.get(cacheKey);
+        if (cached == null) {
+            return false;
+        }
+        try (InputStream archive = Files.newInputStream(cached)) {
+            dockerClient.copyArchiveToContainerCmd(containerId)
+                    .withTarInputStream(archive)
+                    .withRemotePath(WORK_DIR)
+                    .exec();
+            return true;
+        } catch (Exception e) {
+            log.warn("Failed to restore compiled artifact {}, compiling again: {}", cacheKey, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 상주 컴파일 서버 컨테이너의 작업 디렉터리에 소스를 복사해 컴파일하고, 성공하면 결과물을 캐시에 저장함
+     * (결과물은 코드 실행 컨테이너에서 컴파일했을 때와 같은 out 디렉터리 아카이브이므로 캐시를 그대로 함께 씀)
+     * @return 컴파일 결과 (종료 코드 0 이면 성공), 서버를 쓸 수 없었다면 null
+     */
+    private ExecResult compileOnServer(String fileName, String code, String cacheKey) throws InterruptedException {
+        String serverId = javaCompileServer.getContainerId();
+        if (serverId == null) {
+            return null;
+        }
+
+        String job = UUID.randomUUID().toString();
+        String jobDir = JavaCompileServerManager.JOB_ROOT + "/" + job;
+        try {
+            byte[] content = code.getBytes(StandardCharsets.UTF_8);
+            copyToContainer(serverId, JavaCompileServerManager.JOB_ROOT, job + "/" + fileName,
+                    new ByteArrayInputStream(content), content.length);
+
+            ExecResult result = execCommand(serverId, "sh", "-c", JavaCompileServerManager.CLIENT + " " + jobDir);
+            if (result.status == SubmissionStatus.TLE || result.exitCode == COMPILE_SERVER_ERROR_EXIT_CODE) {
+                javaCompileServer.restart(serverId);
+                return null;
+            }
+            if (result.exitCode == COMPILE_SERVER_UNAVAILABLE_EXIT_CODE) {
+                return null; // 서버가 아직 예열 중인 경우 등
+            }
+            if (result.exitCode != 0) {
+                return result;
+            }
+
+            log.debug("Compiled {} on Java compile server in {} ms", job, parseCompileTime(result.output));
+            try (InputStream archive = dockerClient.copyArchiveFromContainerCmd(serverId, jobDir + "/" + LanguageCommands.OUTPUT_DIR).exec()) {
+                artifactCache.put(cacheKey, archive);
+            }
+            return result;
+        } catch (InterruptedException e) {
+            throw e;
+        } catch (Exception e) {
+            log.warn("Java compile server failed, compiling with javac: {}", e.getMessage());
+            if (!containerPool.isRunning(serverId)) {
+                javaCompileServer.restart(serverId);
+            }
+            return null;
+        } finally {
+            removeJobDir(serverId, jobDir);
+        }
+    }
+
+    /**
+     * 클라이언트가 표준 출력에 남긴 서버 측 컴파일 시간을 읽음 (없으면 -1)
+     */
+    private static long parseCompileTime(String output) {
+        int markerIndex = output != null ? output.lastIndexOf(COMPILE_STATS_MARKER) : -1;
+        if (markerIndex < 0) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(output.substring(markerIndex + COMPILE_STATS_MARKER.length()).trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * 컴파일 서버의 작업 디렉터리를 채점과 별도로 지움 (지우지 못한 디렉터리는 서버가 오래되면 지움)
+     */
+    private void removeJobDir(String serverId, String jobDir) {
+        try {
+            caseExecutor.execute(() -> {
                 try {
-                    dockerClient.removeContainerCmd(containerId).withForce(true).exec();
+                    execCommand(serverId, "sh", "-c", "rm -rf " + jobDir);
                 } catch (Exception e) {
-                    log.warn("Failed to remove container {}", containerId);
+                    log.debug("Failed to remove compile job {}: {}", jobDir, e.getMessage());
                 }
+            });
+        } catch (Exception e) {
+            log.debug("Failed to schedule removal of compile job {}", jobDir);
+        }
+    }
+
+    /**
+     * 러너를 통해 프로그램을 실행함. CPU 시간(user+sys)이 제한을 넘었거나 실제 시간 제한에 걸려 강제 종료되었다면
+     * 시간 초과로 판정하고, 컨테이너에 남은 프로세스를 정리하여 다음 실행에 영향을 주지 않게 함.
+     * JVM 기동 시간을 빼는 경우 그만큼 제한을 늘려 실행하고, 판정과 보고하는 실행 시간에서는 뺌
+     */
+    private ExecResult runProgram(PooledContainer container, String runCommand, boolean hasInput,
+                                  long timeLimitMs, long startupOffsetMs) throws InterruptedException {
+        long cpuLimitMs = timeLimitMs + startupOffsetMs;
+        long wallLimitMs = Math.max((long) (timeLimitMs * wallMultiplier), timeLimitMs) + startupOffsetMs;
+        String runCmd = getRunCommand(runCommand, hasInput, cpuLimitMs, wallLimitMs);
+        int execTimeoutSeconds = (int) ((wallLimitMs + EXEC_GRACE_MS + 999) / 1000);
+
+        ExecResult runResult = execute(container.getId(), "sh", "-c", runCmd, execTimeoutSeconds);
+        long cpuTimeMs = Math.max(runResult.cpuTimeMs - startupOffsetMs, 0);
+        if (runResult.status == SubmissionStatus.TLE
+                || cpuTimeMs > timeLimitMs
+                || runResult.wallTimeMs >= wallLimitMs) {
+            killProcesses(container);
+            return ExecResult.builder()
+                    .status(SubmissionStatus.TLE)
+                    .output("Time Limit Exceeded")
+                    .exitCode(runResult.exitCode)
+                    .memoryKb(runResult.memoryKb)
+                    .cpuTimeMs(Math.max(cpuTimeMs, timeLimitMs))
+                    .wallTimeMs(runResult.wallTimeMs)
+                    .build();
+        }
+        if (runResult.exitCode == OUTPUT_LIMIT_EXIT_CODE) {
+            // SubmissionStatus 에 출력 초과가 따로 없으므로 런타임 에러로 판정하고 메시지로 구분함
+            return ExecResult.builder()
+                    .status(SubmissionStatus.RE)
+                    .output("Output Limit Exceeded")
+                    .exitCode(runResult.exitCode)
+                    .memoryKb(runResult.memoryKb)
+                    .cpuTimeMs(cpuTimeMs)
+                    .wallTimeMs(runResult.wallTimeMs)
+                    .build();
+        }
+        if (startupOffsetMs > 0) {
+            return runResult.toBuilder()
+                    .cpuTimeMs(cpuTimeMs)
+                    .build();
+        }
+        return runResult;
+    }
+
+    /**
+     * 컨테이너에 파이썬 fork 서버를 띄우고 소켓이 준비될 때까지 잠시 기다림.
+     * 서버는 컨테이너를 반납할 때(또는 시간 초과 후 프로세스를 정리할 때) 함께 종료되며,
+     * 서버가 없거나 준비되지 않았다면 클라이언트가 python3 로 직접 실행하므로 실패해도 채점은 계속함
+     */
+    private void startForkServer(PooledContainer container) throws InterruptedException {
+        try {
+            // 분리 실행한 exec 는 종료 후 Docker 가 회수하므로 좀비로 남지 않음
+            ExecCreateCmdResponse server = dockerClient.execCreateCmd(container.getId())
+                    .withCmd("python3", PYTHON_FORK_SERVER, PYTHON_FORK_SOCKET)
+                    .exec();
+            dockerClient.execStartCmd(server.getId())
+                    .withDetach(true)
+                    .exec(new com.github.dockerjava.api.async.ResultCallback.Adapter<>())
+                    .awaitCompletion(LanguageCommands.COMPILE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+            ExecResult ready = execCommand(container.getId(), "sh", "-c",
+                    "for i in $(seq " + PYTHON_FORK_READY_CHECKS + "); do [ -S " + PYTHON_FORK_SOCKET + " ] && exit 0; sleep 0.05; done; exit 1");
+            if (ready.exitCode != 0) {
+                log.warn("Python fork server in container {} is not ready, running with python3", container.getId());
+            }
+        } catch (InterruptedException e) {
+            throw e;
+        } catch (Exception e) {
+            log.warn("Failed to start Python fork server in container {}: {}", container.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 자바 제출 실행에 붙일 JVM 옵션 (자바가 아니면 빈 문자열)
+     */
+    private String jvmOptions(SubmissionLanguage language, JavaRunProfile profile, int memoryLimitMb) {
+        return language == SubmissionLanguage.JAVA ? javaRunOptions.options(profile, memoryLimitMb) : "";
+    }
+
+    /**
+     * 자바 실행의 JVM 기동 시간(빈 main 을 실행하는 데 드는 CPU 시간)을 JVM 옵션별로 한 번 측정해 둠
+     * @return 실행 시간에서 뺄 기동 시간 (judge.java.subtract-startup 이 꺼져 있거나 자바가 아니거나 측정하지 못했다면 0)
+     */
+    private long jvmStartupOffset(PooledContainer container, SubmissionLanguage language, String jvmOptions) throws InterruptedException {
+        if (language != SubmissionLanguage.JAVA || !javaRunOptions.isSubtractStartup()) {
+            return 0;
+        }
+        Long measured = jvmStartupMs.get(jvmOptions);
+        if (measured != null) {
+            return measured;
+        }
+
+        String probeCmd = RUNNER + " " + STARTUP_PROBE_LIMIT_MS + " " + STARTUP_PROBE_LIMIT_MS + " " + outputLimitKb
+                + " /dev/null java " + jvmOptions + " " + JavaRunOptions.STARTUP_PROBE;
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < STARTUP_PROBE_RUNS; i++) {
+            ExecResult probe = execute(container.getId(), "sh", "-c", probeCmd, LanguageCommands.COMPILE_TIMEOUT_SECONDS);
+            if (probe.exitCode == 0) {
+                best = Math.min(best, probe.cpuTimeMs);
+            }
+        }
+        if (best == Long.MAX_VALUE) {
+            log.warn("Failed to measure JVM startup time for options [{}]", jvmOptions);
+            return 0;
+        }
+        jvmStartupMs.putIfAbsent(jvmOptions, best);
+        log.info("Measured JVM startup time {} ms for options [{}]", best, jvmOptions);
+        return best;
+    }
+
+    /**
+     * 컨테이너의 출력 파일을 tar 스트림으로 받아 정답 출력과 비교함 (출력 전체를 메모리에 올리지 않음)
+     */
+    private OutputComparator.Result compareOutput(String containerId, JudgeTestCase testCase, OutputCompareMode mode) throws IOException {
+        try (InputStream archive = dockerClient.copyArchiveFromContainerCmd(containerId, WORK_DIR + "/" + LanguageCommands.OUTPUT_FILE).exec();
+             TarArchiveInputStream tar = new TarArchiveInputStream(archive)) {
+            if (tar.getNextEntry() == null) {
+                throw new IOException("Output file is missing");
+            }
+            return outputComparator.compare(testCase.openExpectedOutput(), tar, mode, outputLimitKb * 1024);
+        }
+    }
+
+    /**
+     * IDE 실행 결과로 보여줄 출력 파일의 앞부분을 읽음
+     */
+    private String readOutput(String containerId) throws IOException {
+        try (InputStream archive = dockerClient.copyArchiveFromContainerCmd(containerId, WORK_DIR + "/" + LanguageCommands.OUTPUT_FILE).exec();
+             TarArchiveInputStream tar = new TarArchiveInputStream(archive)) {
+            if (tar.getNextEntry() == null) {
+                return "";
+            }
+            byte[] head = tar.readNBytes(CAPTURE_LIMIT_BYTES);
+            String output = new String(head, StandardCharsets.UTF_8).trim();
+            return tar.read() != -1 ? output + "\n... (출력이 너무 길어 일부만 표시합니다)" : output;
+        }
+    }
+
+    /**
+     * 측정된 최대 메모리(RSS)가 문제의 메모리 제한을 넘었거나, 컨테이너 메모리 한도에 걸려 강제 종료되었다면 메모리 초과로 판정함.
+     * 자바는 최대 힙을 메모리 제한에 맞춰 실행하므로 힙 부족(OutOfMemoryError)으로 종료된 경우도 메모리 초과로 봄
+     */
+    private boolean isMemoryExceeded(ExecResult runResult, long memoryLimitKb) {
+        if (runResult.status == SubmissionStatus.RE && runResult.exitCode == KILLED_EXIT_CODE) {
+            return true;
+        }
+        if (runResult.status == SubmissionStatus.RE && runResult.stderr != null
+                && runResult.stderr.contains(OUT_OF_MEMORY_ERROR)) {
+            return true;
+        }
+        return memoryLimitKb > 0 && runResult.memoryKb > memoryLimitKb;
+    }
+
+    private void killProcesses(PooledContainer container) {
+        try {
+            ExecResult killResult = execCommand(container.getId(), "sh", "-c", "kill -9 -1 2>/dev/null; true");
+            if (killResult.exitCode != 0) {
+                container.markTainted();
             }
+        } catch (Exception e) {
+            container.markTainted();
         }
     }
 
@@ -105,8 +748,8 @@ public class DockerService {
                 .withCmd(shell, option, command)
                 .exec();
 
-        ByteArrayOutputStream stdoutStream = new ByteArrayOutputStream();
-        ByteArrayOutputStream stderrStream = new ByteArrayOutputStream();
+        CaptureBuffer stdoutStream = new CaptureBuffer();
+        CaptureBuffer stderrStream = new CaptureBuffer();
 
         dockerClient.execStartCmd(execResponse.getId())
                 .exec(new com.github.dockerjava.api.async.ResultCallback.Adapter<>() {
@@ -127,6 +770,23 @@ public class DockerService {
         String stdout = stdoutStream.toString(StandardCharsets.UTF_8).trim();
         String stderr = stderrStream.toString(StandardCharsets.UTF_8).trim();
 
+        // 러너가 표준 출력에 남긴 실행 통계를 분리함 (러너 없이 실행한 명령이라면 없음)
+        long memoryKb = 0;
+        long cpuTimeMs = 0;
+        long wallTimeMs = 0;
+        int markerIndex = stdout.lastIndexOf(STATS_MARKER);
+        if (markerIndex >= 0) {
+            String[] stats = stdout.substring(markerIndex + STATS_MARKER.length()).trim().split("\\s+");
+            try {
+                memoryKb = Long.parseLong(stats[0]);
+                cpuTimeMs = Math.round((Double.parseDouble(stats[2]) + Double.parseDouble(stats[3])) * 1000);
+                wallTimeMs = Math.round(Double.parseDouble(stats[4]) * 1000);
+            } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+                log.warn("Malformed judge stats: {}", stdout.substring(markerIndex));
+            }
+            stdout = stdout.substring(0, markerIndex).trim();
+        }
+
         if (exitCode == null) { 
             return ExecResult.builder()
                     .status(SubmissionStatus.TLE)
@@ -139,62 +799,67 @@ public class DockerService {
             return ExecResult.builder()
                     .status(SubmissionStatus.RE)
                     .output(stderr.isEmpty() ? "Runtime Error (Exit code: " + exitCode + ")" : stderr)
+                    .stderr(stderr)
                     .exitCode(exitCode.intValue())
+                    .memoryKb(memoryKb)
+                    .cpuTimeMs(cpuTimeMs)
+                    .wallTimeMs(wallTimeMs)
                     .build();
         }
 
         return ExecResult.builder()
                 .status(SubmissionStatus.CA)
                 .output(stdout)
+                .stderr(stderr)
                 .exitCode(0)
+                .memoryKb(memoryKb)
+                .cpuTimeMs(cpuTimeMs)
+                .wallTimeMs(wallTimeMs)
                 .build();
     }
     
     private ExecResult execCommand(String containerId, String... command) throws InterruptedException {
-        return execute(containerId, command[0], command[1], command[2], 10);
+        return execute(containerId, command[0], command[1], command[2], LanguageCommands.COMPILE_TIMEOUT_SECONDS);
+    }
+
+    /**
+     * 앞부분 CAPTURE_LIMIT_BYTES 만 보관하고 나머지는 버리는 버퍼 (출력을 많이 하는 프로그램으로부터 서버 메모리를 보호)
+     */
+    private static class CaptureBuffer extends ByteArrayOutputStream {
+        @Override
+        public synchronized void write(byte[] b, int off, int len) {
+            int room = CAPTURE_LIMIT_BYTES - count;
+            if (room > 0) {
+                super.write(b, off, Math.min(len, room));
+            }
+        }
+
+        @Override
+        public synchronized void write(int b) {
+            if (count < CAPTURE_LIMIT_BYTES) {
+                super.write(b);
+            }
+        }
     }
 
     @Getter
-    @Builder
+    @Builder(toBuilder = true)
     private static class ExecResult {
         private String output;
         private String stderr;
         private int exitCode;
         private SubmissionStatus status;
+        private long memoryKb;   // 최대 메모리 사용량 (KB, 러너로 실행한 경우에만 측정됨)
+        private long cpuTimeMs;  // 사용한 CPU 시간 (user+sys, ms, 러너로 실행한 경우에만 측정됨)
+        private long wallTimeMs; // 실제 경과 시간 (ms, 러너로 실행한 경우에만 측정됨)
     }
-    
-    private String getFileName(SubmissionLanguage language) {
-        return switch (language) {
-            case JAVA -> "Main.java";
-            case PYTHON -> "solution.py";
-            case CPP -> "main.cpp";
-            default -> "script.txt";
-        };
-    }
-
-    private boolean needsCompilation(SubmissionLanguage language) {
-        return language == SubmissionLanguage.JAVA || language == SubmissionLanguage.CPP;
-    }
-
-    private String getCompileCommand(SubmissionLanguage language, String fileName) {
-        return switch (language) {
-            case JAVA -> "javac " + fileName;
-            case CPP -> "g++ " + fileName + " -o main";
-            default -> "";
-        };
-    }
-
-    private String getRunCommand(SubmissionLanguage language, String fileName, String input) {
-        String cmd = switch (language) {
-            case JAVA -> "java Main";
-            case PYTHON -> "python3 " + fileName;
-            case CPP -> "./main";
-            default -> "";
-        };
-        
-        if (input != null && !input.isEmpty()) {
-            return "echo \"" + input.replace("\"", "\\\"") + "\" | " + cmd;
+
+    private String getRunCommand(String runCommand, boolean hasInput, long timeLimitMs, long wallLimitMs) {
+        String cmd = RUNNER + " " + timeLimitMs + " " + wallLimitMs + " " + outputLimitKb + " "
+                + LanguageCommands.OUTPUT_FILE + " " + runCommand;
+        if (hasInput) {
+            return cmd + " < " + LanguageCommands.INPUT_FILE;
         }
         return cmd;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,163 @@
+// Idempotency-Key 헤더로 같은 요청의 중복 처리를 막는 서비스
+// 처음 요청은 키를 처리 중으로 등록한 뒤 실행하고, 응답을 저장해 두었다가 같은 키로 다시 온 요청에 그대로 돌려줌
+// 여러 서버가 함께 쓰도록 idempotency_keys 테이블의 유니크 제약으로 처리 권한을 정함
+
+package com.unide.backend.domain.submissions.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unide.backend.domain.submissions.entity.IdempotencyRecord;
+import com.unide.backend.domain.submissions.entity.IdempotencyStatus;
+import com.unide.backend.domain.submissions.repository.IdempotencyRecordRepository;
+import com.unide.backend.global.exception.IdempotencyConflictException;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IdempotencyService {
+    public static final String HEADER = "Idempotency-Key";
+    private static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.idempotency.ttl-seconds:600}")
+    private long ttlSeconds; // 키와 응답을 보관하는 기간 (처리 중인 키도 이 기간이 지나면 다시 사용할 수 있음)
+
+    /**
+     * 같은 사용자가 같은 키로 보낸 요청을 한 번만 실행함
+     * @param userId 요청한 사용자 ID
+     * @param endpoint 키를 구분할 API 이름
+     * @param key Idempotency-Key 헤더 값 (없으면 그대로 실행)
+     * @param request 요청 본문 (같은 키로 다른 요청을 보냈는지 확인하는 데 사용)
+     * @param action 실제 처리
+     * @return 처리 결과, 또는 같은 키로 처리가 끝난 요청의 저장된 응답 (Idempotent-Replayed: true 헤더 포함)
+     * @throws IdempotencyConflictException 같은 키의 요청이 아직 처리 중인 경우
+     */
+    public <T> ResponseEntity<?> execute(Long userId, String endpoint, String key, Object request, Supplier<T> action) {
+        return execute(userId, endpoint, key, request, action, response -> true);
+    }
+
+    /**
+     * 같은 사용자가 같은 키로 보낸 요청을 한 번만 실행하되, storable 이 false 인 응답은 저장하지 않고 키를 지움
+     * (서버 문제로 실패한 응답처럼 다시 시도하면 달라질 수 있는 응답을 보관 기간 내내 재전송하지 않도록)
+     * @param storable 응답을 저장해 재전송해도 되는지 여부
+     */
+    public <T> ResponseEntity<?> execute(Long userId, String endpoint, String key, Object request, Supplier<T> action,
+                                         Predicate<? super T> storable) {
+        if (key == null || key.isBlank()) {
+            return ResponseEntity.ok(action.get());
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException(HEADER + " 는 " + MAX_KEY_LENGTH + "자 이하여야 합니다.");
+        }
+
+        String requestHash = hash(request);
+        IdempotencyRecord record = null;
+        for (int attempt = 0; attempt < 3 && record == null; attempt++) {
+            try {
+                record = idempotencyRecordRepository.saveAndFlush(IdempotencyRecord.builder()
+                        .userId(userId)
+                        .endpoint(endpoint)
+                        .idempotencyKey(key)
+                        .requestHash(requestHash)
+                        .expiresAt(LocalDateTime.now().plusSeconds(ttlSeconds))
+                        .build());
+            } catch (DataIntegrityViolationException e) {
+                IdempotencyRecord existing = idempotencyRecordRepository
+                        .findByUserIdAndEndpointAndIdempotencyKey(userId, endpoint, key)
+                        .orElse(null);
+                if (existing == null) {
+                    continue; // 그 사이에 지워진 경우 다시 등록
+                }
+                if (existing.isExpired(LocalDateTime.now())) {
+                    idempotencyRecordRepository.deleteById(existing.getId());
+                    continue;
+                }
+                if (!existing.getRequestHash().equals(requestHash)) {
+                    throw new IllegalArgumentException("같은 " + HEADER + " 로 다른 내용의 요청을 보낼 수 없습니다.");
+                }
+                if (existing.getStatus() == IdempotencyStatus.IN_PROGRESS) {
+                    throw new IdempotencyConflictException("같은 요청을 처리하고 있습니다. 잠시 후 다시 시도해주세요.");
+                }
+                return replay(existing);
+            }
+        }
+        if (record == null) {
+            throw new IdempotencyConflictException("같은 요청을 처리하고 있습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        T response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            // 실패한 요청은 저장하지 않으므로 같은 키로 다시 시도할 수 있음
+            idempotencyRecordRepository.deleteById(record.getId());
+            throw e;
+        }
+        if (!storable.test(response)) {
+            idempotencyRecordRepository.deleteById(record.getId());
+            return ResponseEntity.ok(response);
+        }
+        try {
+            idempotencyRecordRepository.complete(record.getId(), objectMapper.writeValueAsString(response),
+                    LocalDateTime.now().plusSeconds(ttlSeconds));
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to store idempotent response for key {}: {}", key, e.getMessage());
+            idempotencyRecordRepository.deleteById(record.getId());
+        }
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 보관 기간이 지난 키를 주기적으로 지움
+     */
+    @Scheduled(fixedDelayString = "${app.idempotency.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        try {
+            int deleted = idempotencyRecordRepository.deleteExpired(LocalDateTime.now());
+            if (deleted > 0) {
+                log.debug("Purged {} expired idempotency keys", deleted);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to purge expired idempotency keys: {}", e.getMessage());
+        }
+    }
+
+    private ResponseEntity<?> replay(IdempotencyRecord record) {
+        try {
+            return ResponseEntity.ok()
+                    .header(REPLAYED_HEADER, "true")
+                    .body(objectMapper.readTree(record.getResponseBody()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 응답을 읽을 수 없습니다.", e);
+        }
+    }
+
+    private String hash(Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(objectMapper.writeValueAsString(request).getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException("요청 해시를 계산할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+// 자바 제출을 컴파일하는 상주 컴파일 서버 컨테이너를 띄우고 관리하는 컴포넌트
+// 컴파일 서버(src/main/docker/JavaCompileServer.java)는 사용자 코드를 실행하지 않는 전용 컨테이너에서 실행되며,
+// 서버를 쓸 수 없으면 DockerService 는 코드 실행 컨테이너에서 javac 로 직접 컴파일함
+
+package com.unide.backend.domain.submissions.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "judge.backend", havingValue = "docker", matchIfMissing = true)
+@RequiredArgsConstructor
+public class JavaCompileServerManager {
+    static final String JOB_ROOT = "/jobs";            // 컴파일 서버 컨테이너 안의 작업 디렉터리 위치
+    static final String CLIENT = "judge-compile";      // 컴파일 요청 클라이언트 (src/main/docker/judge-compile.sh)
+    private static final String ROLE = "java-compile-server";
+    private static final int PORT = 7070;              // 클라이언트의 기본 포트와 같아야 함
+    private static final long SERVER_TIMEOUT_MARGIN_MS = 1000; // 서버가 exec 대기 시간보다 먼저 시간 초과를 알리도록 둔 여유
+
+    private final ContainerPool containerPool;
+
+    @Value("${judge.java-compile-server.enabled:true}")
+    private boolean enabled;
+
+    @Value("${judge.java-compile-server.memory-mb:1024}")
+    private long memoryMb;
+
+    @Value("${judge.java-compile-server.workers:4}")
+    private int workers; // 서버가 동시에 처리할 컴파일 수
+
+    @Value("${judge.java-compile-server.retry-interval-ms:30000}")
+    private long retryIntervalMs; // 서버를 띄우지 못했을 때 다시 시도하기까지 javac 로 컴파일하는 시간
+
+    private String containerId;
+    private long lastFailureAt = 0;
+
+    /**
+     * 애플리케이션 기동이 끝나면 컴파일 서버를 미리 띄워 둠 (서버 JVM 의 예열에 몇 초가 걸림)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (enabled) {
+            getContainerId();
+        }
+    }
+
+    /**
+     * 실행 중인 컴파일 서버 컨테이너 ID 를 반환함. 아직 없으면 새로 띄움
+     * @return 컨테이너 ID (사용하지 않도록 설정했거나 띄우지 못했다면 null)
+     */
+    public synchronized String getContainerId() {
+        if (!enabled) {
+            return null;
+        }
+        if (containerId != null) {
+            return containerId;
+        }
+        if (System.currentTimeMillis() - lastFailureAt < retryIntervalMs) {
+            return null;
+        }
+        try {
+            containerId = containerPool.createDedicatedContainer(ROLE, memoryMb, List.of(
+                    "java", "-XX:+UseSerialGC", "-cp", "/opt/judge", "JavaCompileServer",
+                    String.valueOf(PORT), String.valueOf(workers),
+                    String.valueOf(LanguageCommands.COMPILE_TIMEOUT_SECONDS * 1000L - SERVER_TIMEOUT_MARGIN_MS)));
+        } catch (Exception e) {
+            lastFailureAt = System.currentTimeMillis();
+            log.warn("Failed to start Java compile server, falling back to javac: {}", e.getMessage());
+        }
+        return containerId;
+    }
+
+    /**
+     * 응답하지 않거나 종료된 컴파일 서버를 지움. 다음 요청 때 새로 띄움
+     * @param failedId 실패한 컨테이너 ID (이미 교체되었다면 무시함)
+     */
+    public synchronized void restart(String failedId) {
+        if (failedId == null || !failedId.equals(containerId)) {
+            return;
+        }
+        log.warn("Java compile server {} is not responding, replacing it", failedId);
+        containerPool.removeDedicatedContainer(failedId);
+        containerId = null;
+    }
+
+    /**
+     * 컴파일 서버 컨테이너가 죽었는지 주기적으로 확인하여 교체함
+     */
+    @Scheduled(fixedDelayString = "${judge.pool.health-check-interval-ms:30000}",
+               initialDelayString = "${judge.pool.health-check-interval-ms:30000}")
+    public void checkHealth() {
+        String current;
+        synchronized (this) {
+            current = containerId;
+        }
+        if (current != null && !containerPool.isRunning(current)) {
+            restart(current);
+            getContainerId();
+        }
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (containerId != null) {
+            containerPool.removeDedicatedContainer(containerId);
+            containerId = null;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+// 자바 제출을 실행할 JVM 옵션을 실행 프로파일과 문제의 메모리 제한으로 정하는 컴포넌트
+// 실행 이미지의 CDS 아카이브(src/main/docker/Dockerfile)로 JDK 클래스 로딩을 줄이고, 힙 크기는 메모리 제한에 맞춤
+
+package com.unide.backend.domain.submissions.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.unide.backend.domain.problems.entity.JavaRunProfile;
+
+import lombok.Getter;
+
+@Component
+public class JavaRunOptions {
+    static final String STARTUP_PROBE = "-cp /opt/judge JvmStartupProbe"; // 빈 main 만 있는 클래스 (JVM 기동 비용 측정용)
+
+    @Value("${judge.java.profile:STANDARD}")
+    private JavaRunProfile defaultProfile; // 문제에 실행 프로파일이 없을 때 사용할 프로파일
+
+    @Value("${judge.java.cds-archive:/opt/judge/java-cds.jsa}")
+    private String cdsArchive; // 비워 두면 CDS 아카이브를 지정하지 않음 (JDK 기본 아카이브만 사용)
+
+    @Value("${judge.java.default-heap-mb:256}")
+    private int defaultHeapMb; // 메모리 제한이 없는 문제와 IDE 실행의 최대 힙 크기
+
+    @Value("${judge.java.stack-size-mb:64}")
+    private int stackSizeMb; // 깊은 재귀를 쓰는 제출을 위한 스레드 스택 크기
+
+    @Getter
+    @Value("${judge.java.subtract-startup:false}")
+    private boolean subtractStartup; // true 면 측정한 JVM 기동 시간을 실행 시간에서 빼고 그만큼 시간 제한을 늘림
+
+    /**
+     * 자바 제출 실행에 붙일 JVM 옵션을 만듦.
+     * 최대 힙은 문제의 메모리 제한과 같게 두어 JVM 기본값(컨테이너 메모리의 1/4)보다 작게 잡히지 않게 하고,
+     * JVM 경고는 표준 출력 대신 표준 에러로 보내 채점 출력에 섞이지 않게 함
+     * @param profile 문제의 실행 프로파일 (null 이면 기본 프로파일)
+     * @param memoryLimitMb 문제의 메모리 제한 (0 이면 기본 힙 크기)
+     */
+    public String options(JavaRunProfile profile, int memoryLimitMb) {
+        List<String> options = new ArrayList<>();
+        options.add("-Xshare:auto");
+        if (cdsArchive != null && !cdsArchive.isBlank()) {
+            options.add("-XX:SharedArchiveFile=" + cdsArchive);
+        }
+        options.add("-XX:+UseSerialGC");
+        if ((profile != null ? profile : defaultProfile) == JavaRunProfile.QUICK_START) {
+            options.add("-XX:TieredStopAtLevel=1");
+        }
+        options.add("-Xmx" + (memoryLimitMb > 0 ? memoryLimitMb : defaultHeapMb) + "m");
+        options.add("-Xss" + stackSizeMb + "m");
+        options.add("-Xlog:disable");
+        options.add("-Xlog:all=warning:stderr");
+        return String.join(" ", options);
+    }
+}
@@ -0,0 +1,33 @@
+// 코드를 컴파일/실행하여 채점하는 실행 환경의 공통 인터페이스 (judge.backend 설정으로 구현체를 선택함)
+
+package com.unide.backend.domain.submissions.service;
+
+import java.util.List;
+
+import com.unide.backend.domain.submissions.dto.CodeRunRequestDto;
+import com.unide.backend.domain.submissions.dto.CodeRunResponseDto;
+import com.unide.backend.domain.submissions.dto.JudgeLimitDto;
+import com.unide.backend.domain.submissions.dto.JudgeResultDto;
+import com.unide.backend.domain.submissions.entity.SubmissionLanguage;
+
+public interface JudgeBackend {
+
+    /**
+     * 코드를 주어진 입력으로 한 번 실행함 (IDE 실행)
+     * @param request 코드, 언어, 입력값
+     * @return 실행 결과
+     */
+    CodeRunResponseDto runCode(CodeRunRequestDto request);
+
+    /**
+     * 제출 코드를 컴파일한 뒤 테스트 케이스들로 채점함
+     * @param code 제출 코드
+     * @param language 제출 언어
+     * @param testCases 채점할 테스트 케이스 목록
+     * @param limits 문제의 시간/메모리 제한
+     * @param listener 컴파일 완료, 케이스별 채점 완료 시점을 전달받을 리스너
+     * @return 컴파일 결과와 테스트 케이스별 채점 결과 (케이스 순서대로)
+     */
+    JudgeResultDto runSubmission(String code, SubmissionLanguage language, List<JudgeTestCase> testCases, JudgeLimitDto limits,
+                                 JudgeProgressListener listener);
+}
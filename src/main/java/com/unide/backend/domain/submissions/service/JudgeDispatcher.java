@@ -0,0 +1,195 @@
+// judge_jobs 대기열에서 채점 작업을 가져와 전용 채점 워커 스레드 풀에서 비동기로 채점하는 컴포넌트
+
+package com.unide.backend.domain.submissions.service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.unide.backend.domain.submissions.entity.JudgeJob;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JudgeDispatcher {
+    private final SubmissionJudgeService submissionJudgeService;
+    private final JudgeJobService judgeJobService;
+
+    @Value("${judge.executor.workers:4}")
+    private int workers;
+
+    @Value("${judge.queue.poll-interval-ms:1000}")
+    private long pollIntervalMs;
+
+    @Value("${judge.recovery.stale-after-ms:300000}")
+    private long staleAfterMs; // 채점 대기/채점 중 상태로 이 시간보다 오래 남은 제출을 복구 대상으로 봄
+
+    @Value("${judge.recovery.batch-size:100}")
+    private int recoveryBatchSize;
+
+    @Value("${judge.rejudge.max-workers:1}")
+    private int rejudgeWorkers; // 재채점에 쓸 수 있는 최대 워커 수 (일반 채점이 먼저 자리를 차지함)
+
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private final Set<Long> rejudgesInFlight = ConcurrentHashMap.newKeySet();
+    private final Object pollSignal = new Object();
+    private ThreadPoolExecutor executor;
+    private Thread poller;
+    private volatile boolean running;
+
+    /**
+     * 애플리케이션 기동이 끝나면 채점 워커 스레드 풀과 대기열 폴링 스레드를 시작함
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+                workers, workers,
+                0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                r -> new Thread(r, "judge-worker-" + threadNumber.incrementAndGet()));
+
+        running = true;
+        poller = new Thread(this::pollLoop, "judge-poller");
+        poller.setDaemon(true);
+        poller.start();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        if (poller != null) {
+            poller.interrupt();
+        }
+        if (executor != null) {
+            executor.shutdown();
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                // 끝내지 못한 작업은 임대가 만료되면 다른 서버(또는 재시작된 이 서버)가 다시 가져감
+                log.warn("Judge workers did not finish in time, {} submissions will be re-leased", inFlight.size());
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 대기열 폴링을 즉시 깨워서, 방금 등록한 작업이 폴링 주기를 기다리지 않게 함
+     */
+    public void wakeUpAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            wakeUp();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                wakeUp();
+            }
+        });
+    }
+
+    /**
+     * 이 서버가 채점 중인 작업들의 임대를 주기적으로 연장하여, 정상 동작 중인 작업을 다른 서버가 가져가지 않게 함
+     */
+    @Scheduled(fixedDelayString = "${judge.queue.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        try {
+            judgeJobService.heartbeat(Set.copyOf(inFlight));
+        } catch (Exception e) {
+            log.warn("Failed to extend judge job leases: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 서버 재시작 등으로 채점이 끊긴 채 진행 중인 채점 작업도 없이 남은 제출을 찾아 다시 대기열에 넣음 (기동 직후와 주기적으로 실행)
+     * 임대 중에 서버가 죽은 작업은 임대 만료로 다른 서버가 가져가므로 여기서는 작업이 없거나 끝난 경우만 처리함
+     */
+    @Scheduled(fixedDelayString = "${judge.recovery.interval-ms:300000}")
+    public void recoverStaleSubmissions() {
+        try {
+            LocalDateTime before = LocalDateTime.now().minus(staleAfterMs, ChronoUnit.MILLIS);
+            int recovered = judgeJobService.recoverStale(before, recoveryBatchSize);
+            if (recovered > 0) {
+                log.warn("Recovered {} stale submissions", recovered);
+                wakeUp();
+            }
+        } catch (Exception e) {
+            log.warn("Failed to recover stale submissions: {}", e.getMessage());
+        }
+    }
+
+    private void wakeUp() {
+        synchronized (pollSignal) {
+            pollSignal.notifyAll();
+        }
+    }
+
+    private void pollLoop() {
+        while (running) {
+            try {
+                poll();
+                synchronized (pollSignal) {
+                    pollSignal.wait(pollIntervalMs);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.warn("Failed to poll judge queue: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void poll() {
+        int free = workers - inFlight.size();
+        if (free <= 0) {
+            return;
+        }
+
+        List<JudgeJob> jobs = judgeJobService.claim(free, Math.max(0, rejudgeWorkers - rejudgesInFlight.size()));
+        for (JudgeJob job : jobs) {
+            Long submissionId = job.getSubmissionId();
+            Long rejudgeJobId = job.getRejudgeJobId();
+            int attempt = job.getAttempts();
+            inFlight.add(submissionId);
+            if (rejudgeJobId != null) {
+                rejudgesInFlight.add(submissionId);
+            }
+            executor.execute(() -> judge(submissionId, rejudgeJobId, attempt));
+        }
+    }
+
+    private void judge(Long submissionId, Long rejudgeJobId, int attempt) {
+        try {
+            submissionJudgeService.judge(submissionId, rejudgeJobId, attempt);
+        } catch (Exception e) {
+            log.error("Judging submission {} failed", submissionId, e);
+            try {
+                judgeJobService.retryOrFail(submissionId, attempt, e.getMessage());
+            } catch (Exception retryException) {
+                log.warn("Failed to re-queue submission {}: {}", submissionId, retryException.getMessage());
+            }
+        } finally {
+            inFlight.remove(submissionId);
+            rejudgesInFlight.remove(submissionId);
+            wakeUp();
+        }
+    }
+}
@@ -0,0 +1,240 @@
+// judge_jobs 테이블을 이용해 여러 서버가 채점 작업을 나누어 가져가도록 임대(lease)를 관리하는 서비스
+
+package com.unide.backend.domain.submissions.service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.unide.backend.domain.submissions.entity.JudgeJob;
+import com.unide.backend.domain.submissions.entity.JudgeJobStatus;
+import com.unide.backend.domain.submissions.entity.SubmissionStatus;
+import com.unide.backend.domain.submissions.repository.JudgeJobRepository;
+import com.unide.backend.domain.submissions.repository.RejudgeJobRepository;
+import com.unide.backend.domain.submissions.repository.SubmissionsRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class JudgeJobService {
+    private static final String GIVE_UP_MESSAGE = "채점 중 시스템 오류가 반복되어 채점을 중단했습니다.";
+
+    private final JudgeJobRepository judgeJobRepository;
+    private final SubmissionsRepository submissionsRepository;
+    private final RejudgeJobRepository rejudgeJobRepository;
+    private final JudgeNode judgeNode;
+
+    @Value("${judge.queue.lease-ms:60000}")
+    private long leaseMs;
+
+    @Value("${judge.queue.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${judge.queue.capacity:100}")
+    private long capacity;
+
+    /** 제출 코드를 채점 대기열에 등록 (제출 저장과 같은 트랜잭션에서 호출) */
+    @Transactional
+    public void enqueue(Long submissionId) {
+        judgeJobRepository.save(JudgeJob.builder()
+                .submissionId(submissionId)
+                .build());
+    }
+
+    /**
+     * 채점이 끝난 제출들을 재채점 작업의 일부로 다시 대기열에 넣음 (일반 채점보다 낮은 우선순위)
+     * @param rejudgeJobId 재채점 작업 ID
+     * @param submissionIds 다시 채점할 제출 ID 목록
+     */
+    @Transactional
+    public void enqueueRejudge(Long rejudgeJobId, Collection<Long> submissionIds) {
+        Map<Long, JudgeJob> existing = judgeJobRepository.findAllBySubmissionIdIn(submissionIds).stream()
+                .collect(Collectors.toMap(JudgeJob::getSubmissionId, Function.identity()));
+        List<JudgeJob> created = new ArrayList<>();
+        for (Long submissionId : submissionIds) {
+            JudgeJob job = existing.get(submissionId);
+            if (job != null) {
+                job.rejudge(rejudgeJobId);
+            } else {
+                // 대기열 도입 전에 채점된 제출은 작업이 없으므로 새로 만듦
+                created.add(JudgeJob.builder()
+                        .submissionId(submissionId)
+                        .rejudgeJobId(rejudgeJobId)
+                        .build());
+            }
+        }
+        judgeJobRepository.saveAll(created);
+    }
+
+    /** 대기 중인 일반 채점 작업 수가 한도에 도달해 새 제출을 받을 수 없는지 확인 (0 이하면 무제한, 재채점 작업은 세지 않음) */
+    public boolean isSaturated() {
+        return capacity > 0 && judgeJobRepository.countByStatusAndRejudgeJobIdIsNull(JudgeJobStatus.QUEUED) >= capacity;
+    }
+
+    /**
+     * 대기 중이거나 임대가 만료된 작업을 최대 size 개까지 이 서버 몫으로 점유함.
+     * 일반 채점 작업을 먼저 가져가고, 남는 자리가 있으면 재채점 작업을 최대 rejudgeSize 개까지 가져감.
+     * 재시도 횟수를 넘긴 작업은 실패 처리하고 제출 결과도 오류로 마감함
+     * @return 이 서버가 채점할 작업 목록
+     */
+    @Transactional
+    public List<JudgeJob> claim(int size, int rejudgeSize) {
+        LocalDateTime now = LocalDateTime.now();
+        List<JudgeJob> claimed = new ArrayList<>();
+
+        lease(judgeJobRepository.findClaimableForUpdate(now, size), now, claimed);
+        int rejudgeFree = Math.min(rejudgeSize, size - claimed.size());
+        if (rejudgeFree > 0) {
+            lease(judgeJobRepository.findClaimableRejudgesForUpdate(now, rejudgeFree), now, claimed);
+        }
+        return claimed;
+    }
+
+    private void lease(List<JudgeJob> jobs, LocalDateTime now, List<JudgeJob> claimed) {
+        for (JudgeJob job : jobs) {
+            if (job.getAttempts() >= maxAttempts) {
+                log.warn("Judge job for submission {} exceeded {} attempts, giving up", job.getSubmissionId(), maxAttempts);
+                job.fail(GIVE_UP_MESSAGE);
+                failSubmission(job);
+                continue;
+            }
+            if (job.getStatus() == JudgeJobStatus.LEASED) {
+                log.warn("Lease of submission {} held by {} expired, re-queueing", job.getSubmissionId(), job.getLeaseOwner());
+            }
+            job.lease(judgeNode.getId(), now, now.plus(leaseMs, ChronoUnit.MILLIS));
+            claimed.add(job);
+        }
+    }
+
+    /**
+     * 채점 대기/채점 중 상태로 before 이전부터 남아 있지만 진행 중인 채점 작업이 없는 제출을 다시 대기열에 넣음.
+     * 재시도 횟수를 넘긴 제출은 오류로 마감함
+     * @return 다시 대기열에 넣거나 마감한 제출 수
+     */
+    @Transactional
+    public int recoverStale(LocalDateTime before, int limit) {
+        List<Long> submissionIds = submissionsRepository.findStaleUnqueuedIds(before, PageRequest.of(0, limit));
+        if (submissionIds.isEmpty()) {
+            return 0;
+        }
+        Map<Long, JudgeJob> jobs = judgeJobRepository.findAllBySubmissionIdIn(submissionIds).stream()
+                .collect(Collectors.toMap(JudgeJob::getSubmissionId, Function.identity()));
+        for (Long submissionId : submissionIds) {
+            JudgeJob job = jobs.get(submissionId);
+            if (job == null) {
+                log.warn("Submission {} has no judge job, enqueueing it", submissionId);
+                enqueue(submissionId);
+            } else if (job.getAttempts() >= maxAttempts) {
+                log.warn("Stale submission {} exceeded {} attempts, giving up", submissionId, maxAttempts);
+                job.fail(GIVE_UP_MESSAGE);
+                markFailed(submissionId);
+            } else {
+                log.warn("Submission {} is stuck with a {} judge job, re-queueing", submissionId, job.getStatus());
+                job.requeue("채점이 끝나지 않은 채로 남아 있어 다시 대기열에 넣었습니다.");
+            }
+        }
+        return submissionIds.size();
+    }
+
+    /** 채점 중인 작업들의 임대 기간을 연장 */
+    @Transactional
+    public void heartbeat(Collection<Long> submissionIds) {
+        if (submissionIds.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        judgeJobRepository.extendLeases(submissionIds, judgeNode.getId(), now, now.plus(leaseMs, ChronoUnit.MILLIS));
+    }
+
+    /**
+     * 노드별로 채점 작업에 남긴 마지막 하트비트 시각을 조회함 (채점 작업을 점유한 적이 없는 노드는 결과에 없음)
+     * @param nodeIds 조회할 노드 ID 목록
+     * @return 노드 ID -> 마지막 하트비트 시각
+     */
+    public Map<String, LocalDateTime> findLastHeartbeats(Collection<String> nodeIds) {
+        if (nodeIds.isEmpty()) {
+            return Map.of();
+        }
+        return judgeJobRepository.findLastHeartbeats(nodeIds).stream()
+                .filter(row -> row[1] != null)
+                .collect(Collectors.toMap(row -> (String) row[0], row -> (LocalDateTime) row[1]));
+    }
+
+    /**
+     * 이 서버가 attempt 번째로 점유한 임대를 아직 가지고 있는지 확인하고, 현재 트랜잭션이 끝날 때까지 작업을 잠금.
+     * 채점이 임대 기간을 넘겨 다른 서버가 같은 제출을 다시 가져간 경우 false 이며, 이때 결과를 저장하면 안 됨
+     */
+    @Transactional
+    public boolean holdsLease(Long submissionId, int attempt) {
+        return judgeJobRepository.findBySubmissionIdForUpdate(submissionId)
+                .map(job -> job.isLeasedBy(judgeNode.getId(), attempt))
+                .orElse(false);
+    }
+
+    /** 채점 완료 처리 (채점 결과 저장과 같은 트랜잭션에서 호출, 이 서버가 점유한 임대가 아니면 무시함) */
+    @Transactional
+    public void complete(Long submissionId, int attempt) {
+        judgeJobRepository.findBySubmissionIdForUpdate(submissionId)
+                .filter(job -> job.isLeasedBy(judgeNode.getId(), attempt))
+                .ifPresent(JudgeJob::complete);
+    }
+
+    /**
+     * 이 서버가 점유한 작업을 시도 횟수를 소모하지 않고 대기열에 돌려놓아, delayMs 뒤에 다시 가져가도록 함
+     * (이 서버가 점유한 임대가 아니면 무시함)
+     */
+    @Transactional
+    public void defer(Long submissionId, int attempt, long delayMs) {
+        judgeJobRepository.findBySubmissionIdForUpdate(submissionId)
+                .filter(job -> job.isLeasedBy(judgeNode.getId(), attempt))
+                .ifPresent(job -> job.defer(LocalDateTime.now().plus(delayMs, ChronoUnit.MILLIS)));
+    }
+
+    /**
+     * 채점 도중 오류가 난 작업을 재시도 횟수가 남아 있으면 다시 대기열에 넣고, 아니면 실패 처리
+     * (이 서버가 점유한 임대가 아니면 다른 서버가 채점 중이므로 무시함)
+     */
+    @Transactional
+    public void retryOrFail(Long submissionId, int attempt, String error) {
+        judgeJobRepository.findBySubmissionIdForUpdate(submissionId)
+                .filter(job -> job.isLeasedBy(judgeNode.getId(), attempt))
+                .ifPresent(job -> {
+                    if (job.getAttempts() >= maxAttempts) {
+                        job.fail(error);
+                        failSubmission(job);
+                    } else {
+                        job.requeue(error);
+                    }
+                });
+    }
+
+    private void failSubmission(JudgeJob job) {
+        if (job.isRejudge()) {
+            // 재채점은 실패한 채점의 변경이 모두 롤백되므로 기존 결과를 그대로 둠
+            rejudgeJobRepository.increaseProcessed(job.getRejudgeJobId(), false);
+            return;
+        }
+        markFailed(job.getSubmissionId());
+    }
+
+    private void markFailed(Long submissionId) {
+        submissionsRepository.findById(submissionId).ifPresent(submission -> {
+            submission.updateResult(SubmissionStatus.RE, 0, 0, 0, GIVE_UP_MESSAGE);
+            submission.updateCodeHash(null); // 시스템 오류 결과는 재사용하지 않음
+        });
+    }
+}
@@ -0,0 +1,32 @@
+// 여러 백엔드 서버 중 현재 서버(노드)를 식별하기 위한 컴포넌트
+
+package com.unide.backend.domain.submissions.service;
+
+import java.net.InetAddress;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import lombok.Getter;
+
+@Getter
+@Component
+public class JudgeNode {
+    private final String id;
+
+    public JudgeNode(@Value("${judge.node-id:}") String configuredId) {
+        this.id = StringUtils.hasText(configuredId) ? configuredId : generateId();
+    }
+
+    private static String generateId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -0,0 +1,24 @@
+// 채점 도중 컴파일 완료, 테스트 케이스 채점 완료 시점을 전달받는 리스너
+
+package com.unide.backend.domain.submissions.service;
+
+import com.unide.backend.domain.submissions.dto.TestCaseResultDto;
+
+public interface JudgeProgressListener {
+    JudgeProgressListener NONE = new JudgeProgressListener() {
+    };
+
+    /**
+     * 컴파일이 끝났을 때 호출됨 (컴파일이 필요 없는 언어도 실행 준비가 끝나면 호출됨)
+     * @param success 컴파일 성공 여부
+     */
+    default void onCompiled(boolean success) {
+    }
+
+    /**
+     * 테스트 케이스 하나의 채점이 끝났을 때 호출됨 (병렬 채점 시 케이스 순서와 다르게, 여러 스레드에서 호출될 수 있음)
+     * @param result 해당 케이스의 채점 결과
+     */
+    default void onCaseFinished(TestCaseResultDto result) {
+    }
+}
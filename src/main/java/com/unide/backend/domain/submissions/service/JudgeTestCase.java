@@ -0,0 +1,95 @@
+// 채점에 사용하는 테스트 케이스 하나의 입력/정답 바이트 (힙 배열 또는 메모리 매핑된 파일을 감쌈)
+
+package com.unide.backend.domain.submissions.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+public final class JudgeTestCase {
+    private final ByteBuffer input;          // 끝에 줄바꿈이 보장된 입력 (입력이 없으면 빈 버퍼)
+    private final ByteBuffer expectedOutput; // 정답 출력
+
+    JudgeTestCase(ByteBuffer input, ByteBuffer expectedOutput) {
+        this.input = input.asReadOnlyBuffer();
+        this.expectedOutput = expectedOutput.asReadOnlyBuffer();
+    }
+
+    /**
+     * 문자열 입력/정답으로 힙에 보관하는 테스트 케이스를 만듦
+     * (기존 echo 파이프와 같이 입력 끝에 줄바꿈이 없으면 붙여 줌)
+     */
+    public static JudgeTestCase of(String input, String expectedOutput) {
+        return new JudgeTestCase(ByteBuffer.wrap(normalizeInput(input)),
+                ByteBuffer.wrap((expectedOutput != null ? expectedOutput : "").getBytes(StandardCharsets.UTF_8)));
+    }
+
+    static byte[] normalizeInput(String input) {
+        if (input == null || input.isEmpty()) {
+            return new byte[0];
+        }
+        return (input.endsWith("\n") ? input : input + "\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 입력을 처음부터 읽는 스트림을 엶 (여러 스레드가 동시에 열어도 서로 영향을 주지 않음)
+     */
+    public InputStream openInput() {
+        return new ByteBufferInputStream(input.duplicate());
+    }
+
+    /**
+     * 입력 전체를 채널에 씀 (메모리 매핑된 입력은 힙 배열을 거치지 않음)
+     */
+    public void transferInputTo(WritableByteChannel channel) throws IOException {
+        ByteBuffer buffer = input.duplicate();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    public InputStream openExpectedOutput() {
+        return new ByteBufferInputStream(expectedOutput.duplicate());
+    }
+
+    public long getInputSize() {
+        return input.remaining();
+    }
+
+    public long getExpectedOutputSize() {
+        return expectedOutput.remaining();
+    }
+
+    private static class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
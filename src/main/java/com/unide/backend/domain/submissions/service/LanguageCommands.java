@@ -0,0 +1,75 @@
+// 언어별 소스 파일 이름과 컴파일/실행 명령을 정의한 클래스 (모든 채점 백엔드가 같은 명령을 사용함)
+
+package com.unide.backend.domain.submissions.service;
+
+import com.unide.backend.domain.submissions.entity.SubmissionLanguage;
+
+final class LanguageCommands {
+    static final String OUTPUT_DIR = "out"; // 컴파일 결과물 디렉터리 (캐시 단위)
+    static final String INPUT_FILE = "input.txt";
+    static final String OUTPUT_FILE = "output.txt";
+    static final int COMPILE_TIMEOUT_SECONDS = 10;
+
+    // C++ 컴파일 옵션 (실행 이미지의 미리 컴파일된 bits/stdc++.h 도 같은 옵션으로 만들어야 g++ 가 자동으로 사용함, src/main/docker/Dockerfile)
+    static final String CPP_FLAGS = "-O2 -std=gnu++17 -DONLINE_JUDGE";
+    // javac 는 짧게 실행되므로 C1 컴파일러만 사용해 JIT 비용을 줄임
+    static final String JAVAC_FLAGS = "-encoding UTF-8 -J-XX:TieredStopAtLevel=1";
+
+    private LanguageCommands() {
+    }
+
+    static String fileName(SubmissionLanguage language) {
+        return switch (language) {
+            case JAVA -> "Main.java";
+            case PYTHON -> "solution.py";
+            case CPP -> "main.cpp";
+            default -> "script.txt";
+        };
+    }
+
+    static boolean needsCompilation(SubmissionLanguage language) {
+        return language == SubmissionLanguage.JAVA || language == SubmissionLanguage.CPP;
+    }
+
+    /**
+     * 작업 디렉터리에서 실행할 컴파일 명령 (결과물은 OUTPUT_DIR 아래에 생성됨)
+     */
+    static String compileCommand(SubmissionLanguage language, String fileName) {
+        return switch (language) {
+            case JAVA -> "mkdir -p " + OUTPUT_DIR + " && javac " + JAVAC_FLAGS + " -d " + OUTPUT_DIR + " " + fileName;
+            case CPP -> "mkdir -p " + OUTPUT_DIR + " && g++ " + CPP_FLAGS + " " + fileName + " -o " + OUTPUT_DIR + "/main";
+            default -> "";
+        };
+    }
+
+    /**
+     * 언어별 컴파일 옵션 묶음(프로파일)의 이름과 버전. 옵션이나 실행 이미지의 미리 컴파일된 헤더를 바꾸면 버전을 올려
+     * 제출 기록에서 어떤 옵션으로 컴파일되었는지 구분할 수 있게 함
+     */
+    static String compilerProfile(SubmissionLanguage language) {
+        return switch (language) {
+            case JAVA -> "javac17-c1/1";
+            case CPP -> "gnu++17-O2-pch/1";
+            default -> null;
+        };
+    }
+
+    /**
+     * 작업 디렉터리에서 실행할 프로그램 실행 명령 (자원 제한과 입력 리다이렉트는 각 백엔드가 덧붙임)
+     */
+    static String runCommand(SubmissionLanguage language, String fileName) {
+        return runCommand(language, fileName, "");
+    }
+
+    /**
+     * JVM 옵션을 붙인 프로그램 실행 명령 (자바가 아닌 언어는 옵션을 무시함)
+     */
+    static String runCommand(SubmissionLanguage language, String fileName, String jvmOptions) {
+        return switch (language) {
+            case JAVA -> "java " + (jvmOptions.isEmpty() ? "" : jvmOptions + " ") + "-cp " + OUTPUT_DIR + " Main";
+            case PYTHON -> "python3 " + fileName;
+            case CPP -> "./" + OUTPUT_DIR + "/main";
+            default -> "";
+        };
+    }
+}
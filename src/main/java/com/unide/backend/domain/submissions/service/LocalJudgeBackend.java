@@ -0,0 +1,405 @@
+// Docker 없이 서버의 임시 디렉터리에서 자식 프로세스로 코드를 실행하는 채점 실행 환경
+// (Docker 데몬이 없는 서버, 신뢰할 수 있는 내부 작업, CI 에서의 채점 테스트용. 격리 수준은 Docker 보다 낮음)
+
+package com.unide.backend.domain.submissions.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import com.unide.backend.domain.submissions.dto.CodeRunRequestDto;
+import com.unide.backend.domain.submissions.dto.CodeRunResponseDto;
+import com.unide.backend.domain.submissions.dto.JudgeLimitDto;
+import com.unide.backend.domain.submissions.dto.JudgeResultDto;
+import com.unide.backend.domain.submissions.dto.TestCaseResultDto;
+import com.unide.backend.domain.submissions.entity.SubmissionLanguage;
+import com.unide.backend.domain.submissions.entity.SubmissionStatus;
+
+import jakarta.annotation.PostConstruct;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "judge.backend", havingValue = "local")
+@RequiredArgsConstructor
+public class LocalJudgeBackend implements JudgeBackend {
+    private static final int DEFAULT_TIME_LIMIT_SECONDS = 5;
+    private static final String STATS_FILE = ".judge-stats";
+    private static final String STDERR_FILE = ".stderr";
+    private static final int KILLED_EXIT_CODE = 128 + 9;
+    private static final int OUTPUT_LIMIT_EXIT_CODE = 128 + 25;
+    private static final long KILL_GRACE_MS = 3000;
+    private static final int CAPTURE_LIMIT_BYTES = 64 * 1024;
+    // 주소 공간 제한에 걸려 메모리 할당에 실패한 프로그램이 표준 에러에 남기는 메시지 (메모리 초과로 판정)
+    private static final List<String> OUT_OF_MEMORY_MARKERS = List.of("MemoryError", "std::bad_alloc", "java.lang.OutOfMemoryError");
+
+    @Value("${judge.local.work-dir:${java.io.tmpdir}/unide-judge}")
+    private String workDir;
+
+    @Value("${judge.local.time-command:/usr/bin/time}")
+    private String timeCommand; // 최대 메모리와 CPU 시간을 측정할 GNU time
+
+    @Value("${judge.output-limit-kb:65536}")
+    private long outputLimitKb;
+
+    @Value("${judge.time.wall-multiplier:2.0}")
+    private double wallMultiplier;
+
+    @Value("${judge.fail-fast:false}")
+    private boolean failFast;
+
+    @Value("${judge.local.memory-mb:512}")
+    private long defaultMemoryMb; // 메모리 제한이 없는 문제와 IDE 실행의 메모리 상한
+
+    @Value("${judge.local.address-space-headroom-mb:64}")
+    private long addressSpaceHeadroomMb; // 주소 공간 제한에 더할 여유분 (인터프리터와 공유 라이브러리가 예약하는 영역)
+
+    private final OutputComparator outputComparator;
+
+    private Path root;
+
+    @PostConstruct
+    public void init() throws IOException {
+        root = Paths.get(workDir).toAbsolutePath().normalize();
+        Files.createDirectories(root);
+        log.info("Local judge backend uses {}", root);
+    }
+
+    @Override
+    public CodeRunResponseDto runCode(CodeRunRequestDto request) {
+        Path dir = null;
+        try {
+            dir = Files.createTempDirectory(root, "run-");
+            String fileName = LanguageCommands.fileName(request.getLanguage());
+            Files.writeString(dir.resolve(fileName), request.getCode(), StandardCharsets.UTF_8);
+
+            ProcessResult compileResult = compile(dir, request.getLanguage(), fileName);
+            if (compileResult != null) {
+                return CodeRunResponseDto.builder()
+                        .isSuccess(false)
+                        .error("Compilation Error:\n" + compileResult.output)
+                        .status(SubmissionStatus.CE)
+                        .build();
+            }
+
+            ProcessResult runResult = runProgram(dir, request.getLanguage(), fileName, JudgeTestCase.of(request.getInput(), null),
+                    DEFAULT_TIME_LIMIT_SECONDS * 1000L, 0);
+
+            return CodeRunResponseDto.builder()
+                    .isSuccess(runResult.status == SubmissionStatus.CA)
+                    .output(runResult.status == SubmissionStatus.CA
+                            ? readHead(dir.resolve(LanguageCommands.OUTPUT_FILE)) : runResult.output)
+                    .error(runResult.status == SubmissionStatus.RE ? runResult.output : null)
+                    .executionTimeMs(runResult.cpuTimeMs)
+                    .memoryKb(runResult.memoryKb)
+                    .status(runResult.status)
+                    .build();
+
+        } catch (Exception e) {
+            log.error("Local execution failed", e);
+            return CodeRunResponseDto.builder()
+                    .isSuccess(false)
+                    .error("System Error: " + e.getMessage())
+                    .status(SubmissionStatus.RE)
+                    .systemError(true)
+                    .build();
+        } finally {
+            deleteQuietly(dir);
+        }
+    }
+
+    @Override
+    public JudgeResultDto runSubmission(String code, SubmissionLanguage language, List<JudgeTestCase> testCases, JudgeLimitDto limits,
+                                        JudgeProgressListener listener) {
+        Path dir = null;
+        try {
+            dir = Files.createTempDirectory(root, "judge-");
+            String fileName = LanguageCommands.fileName(language);
+            Files.writeString(dir.resolve(fileName), code, StandardCharsets.UTF_8);
+
+            long compileStartedAt = System.nanoTime();
+            ProcessResult compileResult = compile(dir, language, fileName);
+            Integer compileTimeMs = LanguageCommands.needsCompilation(language)
+                    ? (int) ((System.nanoTime() - compileStartedAt) / 1_000_000) : null;
+            String compilerProfile = LanguageCommands.compilerProfile(language);
+            listener.onCompiled(compileResult == null);
+            if (compileResult != null) {
+                return JudgeResultDto.builder()
+                        .compileError(true)
+                        .compileOutput(compileResult.output)
+                        .compileTimeMs(compileTimeMs)
+                        .compilerProfile(compilerProfile)
+                        .caseResults(List.of())
+                        .build();
+            }
+
+            long timeLimitMs = (limits.getTimeLimit() > 0 ? limits.getTimeLimit() : DEFAULT_TIME_LIMIT_SECONDS) * 1000L;
+            long memoryLimitKb = limits.getMemoryLimit() > 0 ? limits.getMemoryLimit() * 1024L : 0;
+
+            List<TestCaseResultDto> caseResults = new ArrayList<>();
+            for (int i = 0; i < testCases.size(); i++) {
+                JudgeTestCase testCase = testCases.get(i);
+                ProcessResult runResult = runProgram(dir, language, fileName, testCase, timeLimitMs, memoryLimitKb);
+
+                SubmissionStatus caseStatus = runResult.status;
+                String error = caseStatus == SubmissionStatus.RE ? runResult.output : null;
+                if (caseStatus != SubmissionStatus.TLE && isMemoryExceeded(runResult, memoryLimitKb)) {
+                    caseStatus = SubmissionStatus.MLE;
+                    error = null;
+                } else if (caseStatus == SubmissionStatus.CA) {
+                    OutputComparator.Result comparison;
+                    try (InputStream expected = testCase.openExpectedOutput();
+                         InputStream actual = Files.newInputStream(dir.resolve(LanguageCommands.OUTPUT_FILE))) {
+                        comparison = outputComparator.compare(expected, actual, limits.getCompareMode(), outputLimitKb * 1024);
+                    }
+                    if (comparison.isOutputLimitExceeded()) {
+                        caseStatus = SubmissionStatus.RE;
+                        error = comparison.getDiff();
+                    } else if (!comparison.isAccepted()) {
+                        caseStatus = SubmissionStatus.WA;
+                        error = comparison.getDiff();
+                    }
+                }
+
+                TestCaseResultDto caseResult = TestCaseResultDto.builder()
+                        .testCaseIndex(i + 1)
+                        .status(caseStatus)
+                        .runtime((int) runResult.cpuTimeMs)
+                        .memory((int) runResult.memoryKb)
+                        .error(error)
+                        .build();
+                caseResults.add(caseResult);
+                listener.onCaseFinished(caseResult);
+
+                if (failFast && caseStatus != SubmissionStatus.CA) {
+                    break;
+                }
+            }
+
+            return JudgeResultDto.builder()
+                    .compileTimeMs(compileTimeMs)
+                    .compilerProfile(compilerProfile)
+                    .caseResults(caseResults)
+                    .build();
+
+        } catch (Exception e) {
+            log.error("Local judging failed", e);
+            return JudgeResultDto.builder()
+                    .systemError("System Error: " + e.getMessage())
+                    .caseResults(List.of())
+                    .build();
+        } finally {
+            deleteQuietly(dir);
+        }
+    }
+
+    /**
+     * 컴파일이 필요한 언어라면 작업 디렉터리에서 컴파일함
+     * @return 컴파일에 실패했다면 그 결과, 성공했거나 컴파일이 필요 없다면 null
+     */
+    private ProcessResult compile(Path dir, SubmissionLanguage language, String fileName) throws IOException, InterruptedException {
+        if (!LanguageCommands.needsCompilation(language)) {
+            return null;
+        }
+
+        Process process = new ProcessBuilder("sh", "-c", LanguageCommands.compileCommand(language, fileName))
+                .directory(dir.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(dir.resolve(LanguageCommands.OUTPUT_FILE).toFile())
+                .start();
+
+        if (!process.waitFor(LanguageCommands.COMPILE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            killTree(process);
+            return ProcessResult.builder()
+                    .status(SubmissionStatus.TLE)
+                    .output("Compilation Time Limit Exceeded")
+                    .exitCode(-1)
+                    .build();
+        }
+        if (process.exitValue() != 0) {
+            return ProcessResult.builder()
+                    .status(SubmissionStatus.CE)
+                    .output(readHead(dir.resolve(LanguageCommands.OUTPUT_FILE)))
+                    .exitCode(process.exitValue())
+                    .build();
+        }
+        return null;
+    }
+
+    /**
+     * CPU 시간 제한(RLIMIT_CPU)을 건 셸에서 GNU time 으로 프로그램을 실행하고, 실제 시간 제한을 넘기면 프로그램을 강제 종료함.
+     * time 의 자식 프로세스만 종료하므로 time 은 최대 메모리와 CPU 시간을 통계 파일에 기록할 수 있음
+     * @param memoryLimitKb 문제의 메모리 제한 (0 이면 judge.local.memory-mb)
+     */
+    private ProcessResult runProgram(Path dir, SubmissionLanguage language, String fileName, JudgeTestCase testCase, long timeLimitMs,
+                                     long memoryLimitKb) throws IOException, InterruptedException {
+        long wallLimitMs = Math.max((long) (timeLimitMs * wallMultiplier), timeLimitMs);
+
+        Path inputFile = dir.resolve(LanguageCommands.INPUT_FILE);
+        try (FileChannel channel = FileChannel.open(inputFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            testCase.transferInputTo(channel);
+        }
+        Files.deleteIfExists(dir.resolve(STATS_FILE));
+
+        String command = "ulimit -t " + ((timeLimitMs + 999) / 1000 + 1) + "; "
+                + "exec " + timeCommand + " -q -f '%M %x %U %S %e' -o " + STATS_FILE + " "
+                + limitedRunCommand(language, fileName, memoryLimitKb > 0 ? memoryLimitKb : defaultMemoryMb * 1024);
+
+        Process process = new ProcessBuilder("sh", "-c", command)
+                .directory(dir.toFile())
+                .redirectInput(inputFile.toFile())
+                .redirectOutput(dir.resolve(LanguageCommands.OUTPUT_FILE).toFile())
+                .redirectError(dir.resolve(STDERR_FILE).toFile())
+                .start();
+
+        boolean wallExceeded = false;
+        if (!process.waitFor(wallLimitMs, TimeUnit.MILLISECONDS)) {
+            wallExceeded = true;
+            process.descendants().forEach(ProcessHandle::destroyForcibly);
+            if (!process.waitFor(KILL_GRACE_MS, TimeUnit.MILLISECONDS)) {
+                killTree(process);
+            }
+        }
+        // 프로그램이 남긴 자식 프로세스 정리
+        process.descendants().forEach(ProcessHandle::destroyForcibly);
+
+        long memoryKb = 0;
+        long cpuTimeMs = 0;
+        File statsFile = dir.resolve(STATS_FILE).toFile();
+        if (statsFile.exists()) {
+            String[] stats = readTrimmed(statsFile.toPath()).split("\\s+");
+            try {
+                memoryKb = Long.parseLong(stats[0]);
+                cpuTimeMs = Math.round((Double.parseDouble(stats[2]) + Double.parseDouble(stats[3])) * 1000);
+            } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+                log.warn("Malformed judge stats: {}", String.join(" ", stats));
+            }
+        }
+
+        int exitCode = process.exitValue();
+        if (wallExceeded || cpuTimeMs > timeLimitMs) {
+            return ProcessResult.builder()
+                    .status(SubmissionStatus.TLE)
+                    .output("Time Limit Exceeded")
+                    .exitCode(exitCode)
+                    .memoryKb(memoryKb)
+                    .cpuTimeMs(Math.max(cpuTimeMs, timeLimitMs))
+                    .build();
+        }
+
+        if (exitCode == OUTPUT_LIMIT_EXIT_CODE) {
+            return ProcessResult.builder()
+                    .status(SubmissionStatus.RE)
+                    .output("Output Limit Exceeded")
+                    .exitCode(exitCode)
+                    .memoryKb(memoryKb)
+                    .cpuTimeMs(cpuTimeMs)
+                    .build();
+        }
+
+        if (exitCode != 0) {
+            String stderr = readHead(dir.resolve(STDERR_FILE));
+            return ProcessResult.builder()
+                    .status(SubmissionStatus.RE)
+                    .output(stderr.isEmpty() ? "Runtime Error (Exit code: " + exitCode + ")" : stderr)
+                    .exitCode(exitCode)
+                    .memoryKb(memoryKb)
+                    .cpuTimeMs(cpuTimeMs)
+                    .build();
+        }
+
+        return ProcessResult.builder()
+                .status(SubmissionStatus.CA)
+                .exitCode(0)
+                .memoryKb(memoryKb)
+                .cpuTimeMs(cpuTimeMs)
+                .build();
+    }
+
+    /**
+     * 출력 크기와 메모리를 제한한 실행 명령.
+     * 서버의 메모리를 다 쓰기 전에 할당이 실패하도록 주소 공간(RLIMIT_AS)을 제한하며, 주소 공간을 미리 크게 예약하는
+     * JVM 은 주소 공간 대신 최대 힙을 제한함 (판정은 측정한 최대 메모리로 함)
+     */
+    private String limitedRunCommand(SubmissionLanguage language, String fileName, long memoryCapKb) {
+        if (language == SubmissionLanguage.JAVA) {
+            return "prlimit --fsize=" + outputLimitKb * 1024 + " -- "
+                    + LanguageCommands.runCommand(language, fileName, "-Xmx" + Math.max(memoryCapKb / 1024, 1) + "m");
+        }
+        return "prlimit --fsize=" + outputLimitKb * 1024 + " --as=" + (memoryCapKb + addressSpaceHeadroomMb * 1024) * 1024 + " -- "
+                + LanguageCommands.runCommand(language, fileName);
+    }
+
+    private boolean isMemoryExceeded(ProcessResult runResult, long memoryLimitKb) {
+        if (runResult.status == SubmissionStatus.RE && runResult.exitCode == KILLED_EXIT_CODE) {
+            return true;
+        }
+        if (runResult.status == SubmissionStatus.RE && runResult.output != null
+                && OUT_OF_MEMORY_MARKERS.stream().anyMatch(runResult.output::contains)) {
+            return true;
+        }
+        return memoryLimitKb > 0 && runResult.memoryKb > memoryLimitKb;
+    }
+
+    private void killTree(Process process) {
+        process.descendants().forEach(ProcessHandle::destroyForcibly);
+        process.destroyForcibly();
+    }
+
+    private String readTrimmed(Path file) throws IOException {
+        return Files.exists(file) ? Files.readString(file, StandardCharsets.UTF_8).trim() : "";
+    }
+
+    /**
+     * 출력 파일의 앞부분 CAPTURE_LIMIT_BYTES 만 읽음 (출력을 많이 하는 프로그램으로부터 서버 메모리를 보호)
+     */
+    private String readHead(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return "";
+        }
+        try (InputStream in = Files.newInputStream(file)) {
+            String head = new String(in.readNBytes(CAPTURE_LIMIT_BYTES), StandardCharsets.UTF_8).trim();
+            return in.read() != -1 ? head + "\n... (출력이 너무 길어 일부만 표시합니다)" : head;
+        }
+    }
+
+    private void deleteQuietly(Path dir) {
+        if (dir == null) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            log.warn("Failed to delete judge work directory {}", dir);
+        }
+    }
+
+    @Getter
+    @Builder
+    private static class ProcessResult {
+        private String output;
+        private int exitCode;
+        private SubmissionStatus status;
+        private long memoryKb;  // 최대 메모리 사용량 (KB)
+        private long cpuTimeMs; // 사용한 CPU 시간 (user+sys, ms)
+    }
+}
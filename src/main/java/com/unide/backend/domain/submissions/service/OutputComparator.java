@@ -0,0 +1,393 @@
+// 프로그램 출력과 정답 출력을 스트림으로 읽으면서 비교하는 컴포넌트 (출력 전체를 메모리에 올리지 않음)
+
+package com.unide.backend.domain.submissions.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.unide.backend.domain.problems.entity.OutputCompareMode;
+
+import lombok.Getter;
+
+@Component
+public class OutputComparator {
+    private static final int SNIPPET_BYTES = 40;     // 오답 비교 내용에 보여줄 앞뒤 바이트 수
+    private static final int MAX_NUMBER_BYTES = 64;  // 실수로 해석을 시도할 토큰의 최대 길이
+
+    @Value("${judge.compare.float-tolerance:1e-6}")
+    private double floatTolerance; // 실수 비교 허용 오차 (절대 오차 또는 상대 오차)
+
+    /**
+     * 정답 출력과 프로그램 출력을 비교함
+     * @param expected 정답 출력
+     * @param actual 프로그램 출력
+     * @param mode 비교 방식 (null 이면 EXACT)
+     * @param outputLimitBytes 프로그램 출력의 최대 크기 (이 크기를 넘으면 출력 초과로 판정, 0 이면 제한 없음)
+     * @return 비교 결과
+     */
+    public Result compare(InputStream expected, InputStream actual, OutputCompareMode mode, long outputLimitBytes)
+            throws IOException {
+        InputStream expectedStream = new LimitedInputStream(expected, 0);
+        InputStream actualStream = new LimitedInputStream(actual, outputLimitBytes);
+        try {
+            return switch (mode != null ? mode : OutputCompareMode.EXACT) {
+                case EXACT -> compareLines(expectedStream, actualStream);
+                case TOKEN -> compareTokens(expectedStream, actualStream, false);
+                case FLOAT -> compareTokens(expectedStream, actualStream, true);
+            };
+        } catch (OutputLimitExceededException e) {
+            return Result.OUTPUT_LIMIT_EXCEEDED;
+        }
+    }
+
+    /**
+     * 출력 앞의 공백과 빈 줄, 줄 끝 공백, 마지막 빈 줄을 제거한 두 출력을 바이트 단위로 비교함
+     * (출력 전체를 trim() 하여 비교하던 이전 방식에서 정답이던 출력은 그대로 정답임).
+     * 공백을 모아 두지 않고 두 출력을 함께 읽다가 달라진 곳에서만 남은 공백을 건너뛰어 보므로,
+     * 공백이 아무리 길어도 메모리를 더 쓰지 않음
+     */
+    private Result compareLines(InputStream expected, InputStream actual) throws IOException {
+        Snippet expectedSnippet = new Snippet();
+        Snippet actualSnippet = new Snippet();
+        int e = skipLeading(expected);
+        int a = skipLeading(actual);
+        long line = 1;
+
+        while (true) {
+            if (e != a) {
+                // 공백에서 달라졌으면 양쪽의 남은 공백을 건너뜀. 둘 다 줄 끝에 닿으면 줄 끝 공백이므로 무시함
+                if (isSpace(e)) {
+                    e = skipSpaces(expected, e, expectedSnippet);
+                }
+                if (isSpace(a)) {
+                    a = skipSpaces(actual, a, actualSnippet);
+                }
+                if (!isLineEnd(e) || !isLineEnd(a)) {
+                    return Result.wrong(line + "번째 줄이 다릅니다.",
+                            expectedSnippet.finish(e, expected), actualSnippet.finish(a, actual));
+                }
+                if (e != a) {
+                    // 한쪽만 줄이 더 있음: 남은 줄이 모두 빈 줄이면 같고, 아니면 내용이 있는 줄을 보여줌
+                    boolean expectedLonger = e == '\n';
+                    InputStream longer = expectedLonger ? expected : actual;
+                    Snippet snippet = expectedLonger ? expectedSnippet : actualSnippet;
+                    snippet.reset();
+                    line++;
+                    int b = longer.read();
+                    while (isSpace(b) || b == '\n') {
+                        if (b == '\n') {
+                            line++;
+                            snippet.reset();
+                        } else {
+                            snippet.add(b);
+                        }
+                        b = longer.read();
+                    }
+                    if (b == -1) {
+                        return Result.ACCEPTED;
+                    }
+                    String extra = snippet.finish(b, longer);
+                    return Result.wrong(line + "번째 줄이 다릅니다.",
+                            expectedLonger ? extra : "(출력 끝)", expectedLonger ? "(출력 끝)" : extra);
+                }
+            }
+            if (e == -1) {
+                return Result.ACCEPTED;
+            }
+            if (e == '\n') {
+                line++;
+                expectedSnippet.reset();
+                actualSnippet.reset();
+            } else {
+                expectedSnippet.add(e);
+                actualSnippet.add(a);
+            }
+            e = expected.read();
+            a = actual.read();
+        }
+    }
+
+    /**
+     * 출력 앞의 공백 문자(trim() 과 같이 0x20 이하의 바이트)를 건너뛰고 첫 바이트를 돌려줌
+     */
+    private static int skipLeading(InputStream in) throws IOException {
+        int b = in.read();
+        while (b != -1 && b <= ' ') {
+            b = in.read();
+        }
+        return b;
+    }
+
+    /**
+     * first 부터 이어지는 줄 안의 공백을 스니펫에만 남기고 건너뛴 뒤, 공백이 아닌 첫 바이트를 돌려줌
+     */
+    private static int skipSpaces(InputStream in, int first, Snippet snippet) throws IOException {
+        int b = first;
+        while (isSpace(b)) {
+            snippet.add(b);
+            b = in.read();
+        }
+        return b;
+    }
+
+    private static boolean isSpace(int b) {
+        return b == ' ' || b == '\t' || b == '\r';
+    }
+
+    private static boolean isLineEnd(int b) {
+        return b == '\n' || b == -1;
+    }
+
+    /**
+     * 공백으로 구분한 토큰을 하나씩 비교함. numeric 이면 두 토큰이 모두 실수일 때 오차 범위 안의 차이를 허용함
+     */
+    private Result compareTokens(InputStream expected, InputStream actual, boolean numeric) throws IOException {
+        TokenReader expectedTokens = new TokenReader(expected);
+        TokenReader actualTokens = new TokenReader(actual);
+        long index = 0;
+
+        while (true) {
+            boolean hasExpected = expectedTokens.nextToken();
+            boolean hasActual = actualTokens.nextToken();
+            index++;
+            if (!hasExpected && !hasActual) {
+                return Result.ACCEPTED;
+            }
+
+            TokenBuffer expectedToken = new TokenBuffer();
+            TokenBuffer actualToken = new TokenBuffer();
+            boolean same = hasExpected == hasActual;
+            while (true) {
+                int e = hasExpected ? expectedTokens.read() : -1;
+                int a = hasActual ? actualTokens.read() : -1;
+                if (e == -1 && a == -1) {
+                    break;
+                }
+                same &= e == a;
+                if (e != -1) {
+                    expectedToken.add(e);
+                } else {
+                    hasExpected = false;
+                }
+                if (a != -1) {
+                    actualToken.add(a);
+                } else {
+                    hasActual = false;
+                }
+            }
+
+            if (!same && !(numeric && isClose(expectedToken, actualToken))) {
+                return Result.wrong(index + "번째 토큰이 다릅니다.", expectedToken.toString(), actualToken.toString());
+            }
+        }
+    }
+
+    private boolean isClose(TokenBuffer expectedToken, TokenBuffer actualToken) {
+        Double expected = expectedToken.toNumber();
+        Double actual = actualToken.toNumber();
+        if (expected == null || actual == null) {
+            return false;
+        }
+        double diff = Math.abs(expected - actual);
+        return diff <= floatTolerance || diff <= floatTolerance * Math.abs(expected);
+    }
+
+    /**
+     * 비교 결과. 정답이 아니면 처음 달라진 위치와 양쪽 출력 일부를 담음
+     */
+    @Getter
+    public static class Result {
+        private static final Result ACCEPTED = new Result(true, false, null);
+        private static final Result OUTPUT_LIMIT_EXCEEDED = new Result(false, true, "Output Limit Exceeded");
+
+        private final boolean accepted;
+        private final boolean outputLimitExceeded;
+        private final String diff; // 오답일 때 보여줄 비교 내용 (정답이면 null)
+
+        private Result(boolean accepted, boolean outputLimitExceeded, String diff) {
+            this.accepted = accepted;
+            this.outputLimitExceeded = outputLimitExceeded;
+            this.diff = diff;
+        }
+
+        private static Result wrong(String position, String expected, String actual) {
+            return new Result(false, false, position + "\n기대한 출력: " + expected + "\n실제 출력: " + actual);
+        }
+    }
+
+    private static class OutputLimitExceededException extends IOException {
+    }
+
+    /**
+     * 버퍼를 두고 한 바이트씩 읽으며, 읽은 바이트 수가 출력 제한을 넘으면 예외를 던지는 스트림
+     * (prlimit --fsize 와 같이 제한 크기만큼은 출력할 수 있음)
+     */
+    private static class LimitedInputStream extends InputStream {
+        private final InputStream in;
+        private final long limit;
+        private final byte[] buffer = new byte[8192];
+        private int pos = 0;
+        private int size = 0;
+        private long count = 0;
+
+        private LimitedInputStream(InputStream in, long limit) {
+            this.in = in;
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (pos == size) {
+                size = in.read(buffer);
+                pos = 0;
+                if (size <= 0) {
+                    size = 0;
+                    return -1;
+                }
+            }
+            if (limit > 0 && ++count > limit) {
+                throw new OutputLimitExceededException();
+            }
+            return buffer[pos++] & 0xff;
+        }
+    }
+
+    /**
+     * 공백으로 구분된 토큰을 바이트 단위로 읽는 리더
+     */
+    private static class TokenReader {
+        private final InputStream in;
+        private int lookahead = -1;
+        private boolean inToken = false;
+
+        private TokenReader(InputStream in) {
+            this.in = in;
+        }
+
+        /**
+         * 다음 토큰의 시작으로 이동함 (읽다 만 토큰은 건너뜀)
+         * @return 토큰이 더 있으면 true
+         */
+        private boolean nextToken() throws IOException {
+            while (inToken) {
+                read();
+            }
+            int b;
+            do {
+                b = in.read();
+            } while (b != -1 && Character.isWhitespace(b));
+            if (b == -1) {
+                return false;
+            }
+            lookahead = b;
+            inToken = true;
+            return true;
+        }
+
+        /**
+         * 현재 토큰의 다음 바이트를 읽음
+         * @return 토큰이 끝났으면 -1
+         */
+        private int read() throws IOException {
+            if (!inToken) {
+                return -1;
+            }
+            if (lookahead != -1) {
+                int b = lookahead;
+                lookahead = -1;
+                return b;
+            }
+            int b = in.read();
+            if (b == -1 || Character.isWhitespace(b)) {
+                inToken = false;
+                return -1;
+            }
+            return b;
+        }
+    }
+
+    /**
+     * 토큰의 앞부분만 보관하는 버퍼 (실수 해석과 오답 비교 내용 표시용)
+     */
+    private static class TokenBuffer {
+        private final byte[] head = new byte[MAX_NUMBER_BYTES];
+        private long length = 0;
+
+        private void add(int b) {
+            if (length < head.length) {
+                head[(int) length] = (byte) b;
+            }
+            length++;
+        }
+
+        private Double toNumber() {
+            if (length == 0 || length > head.length) {
+                return null;
+            }
+            for (int i = 0; i < length; i++) {
+                if ("0123456789+-.eE".indexOf(head[i]) < 0) {
+                    return null;
+                }
+            }
+            try {
+                return Double.parseDouble(new String(head, 0, (int) length, StandardCharsets.US_ASCII));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        @Override
+        public String toString() {
+            if (length == 0) {
+                return "(출력 없음)";
+            }
+            String text = new String(head, 0, (int) Math.min(length, head.length), StandardCharsets.UTF_8);
+            return length > head.length ? text + "..." : text;
+        }
+    }
+
+    /**
+     * 현재 줄에서 최근 SNIPPET_BYTES 바이트를 보관하다가, 다른 부분이 나오면 그 뒤 일부를 이어 붙여 보여줌
+     */
+    private static class Snippet {
+        private final byte[] ring = new byte[SNIPPET_BYTES];
+        private long count = 0;
+
+        private void add(int b) {
+            ring[(int) (count++ % SNIPPET_BYTES)] = (byte) b;
+        }
+
+        private void reset() {
+            count = 0;
+        }
+
+        private String finish(int mismatch, InputStream rest) throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            if (count > SNIPPET_BYTES) {
+                out.writeBytes("...".getBytes(StandardCharsets.UTF_8));
+            }
+            long start = Math.max(0, count - SNIPPET_BYTES);
+            for (long i = start; i < count; i++) {
+                out.write(ring[(int) (i % SNIPPET_BYTES)]);
+            }
+
+            int b = mismatch;
+            for (int i = 0; i < SNIPPET_BYTES && b != -1 && b != '\n'; i++) {
+                out.write(b);
+                b = rest.read();
+            }
+            if (b != -1 && b != '\n') {
+                out.writeBytes("...".getBytes(StandardCharsets.UTF_8));
+            }
+            if (out.size() == 0) {
+                return mismatch == -1 ? "(출력 끝)" : "(빈 줄)";
+            }
+            return out.toString(StandardCharsets.UTF_8);
+        }
+    }
+}
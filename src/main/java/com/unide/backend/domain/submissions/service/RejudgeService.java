@@ -0,0 +1,160 @@
+// 문제의 제출 코드를 일괄 재채점하는 작업을 관리하고, 정해진 속도로 채점 대기열에 넣는 서비스
+// 재채점 작업은 일반 채점보다 낮은 우선순위로 처리되며 judge.rejudge.max-workers 개까지만 워커를 사용함
+
+package com.unide.backend.domain.submissions.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.unide.backend.domain.problems.repository.ProblemsRepository;
+import com.unide.backend.domain.submissions.dto.RejudgeJobResponseDto;
+import com.unide.backend.domain.submissions.dto.RejudgeRequestDto;
+import com.unide.backend.domain.submissions.entity.JudgeJobStatus;
+import com.unide.backend.domain.submissions.entity.RejudgeJob;
+import com.unide.backend.domain.submissions.entity.RejudgeJobStatus;
+import com.unide.backend.domain.submissions.repository.JudgeJobRepository;
+import com.unide.backend.domain.submissions.repository.RejudgeJobRepository;
+import com.unide.backend.domain.submissions.repository.SubmissionsRepository;
+import com.unide.backend.domain.user.entity.User;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RejudgeService {
+    private static final List<JudgeJobStatus> ACTIVE_STATUSES = List.of(JudgeJobStatus.QUEUED, JudgeJobStatus.LEASED);
+
+    private final RejudgeJobRepository rejudgeJobRepository;
+    private final JudgeJobRepository judgeJobRepository;
+    private final SubmissionsRepository submissionsRepository;
+    private final ProblemsRepository problemsRepository;
+    private final JudgeJobService judgeJobService;
+    private final JudgeDispatcher judgeDispatcher;
+
+    @Value("${judge.rejudge.batch-size:20}")
+    private int batchSize; // 한 주기에 대기열에 넣을 최대 제출 수
+
+    @Value("${judge.rejudge.max-queued:50}")
+    private int maxQueued; // 대기열에 동시에 넣어 둘 재채점 작업의 최대 수
+
+    /**
+     * 문제의 재채점 작업을 생성함 (실제 재채점은 스케줄러가 차례로 진행함)
+     * @param problemId 재채점할 문제 ID
+     * @param requester 요청한 관리자
+     * @param requestDto 대상 제출 필터
+     * @return 생성된 재채점 작업
+     */
+    @Transactional
+    public RejudgeJobResponseDto createRejudgeJob(Long problemId, User requester, RejudgeRequestDto requestDto) {
+        if (!problemsRepository.existsById(problemId)) {
+            throw new IllegalArgumentException("존재하지 않는 문제입니다.");
+        }
+        if (requestDto.getFrom() != null && requestDto.getTo() != null && !requestDto.getFrom().isBefore(requestDto.getTo())) {
+            throw new IllegalArgumentException("재채점 기간의 시작 시각은 종료 시각보다 앞서야 합니다.");
+        }
+
+        long totalCount = submissionsRepository.countRejudgeTargets(problemId,
+                requestDto.getStatus(), requestDto.getLanguage(), requestDto.getFrom(), requestDto.getTo());
+        RejudgeJob job = rejudgeJobRepository.save(RejudgeJob.builder()
+                .problemId(problemId)
+                .requestedBy(requester.getId())
+                .statusFilter(requestDto.getStatus())
+                .languageFilter(requestDto.getLanguage())
+                .submittedFrom(requestDto.getFrom())
+                .submittedTo(requestDto.getTo())
+                .totalCount((int) totalCount)
+                .build());
+        log.info("Rejudge job {} created for problem {} ({} submissions)", job.getId(), problemId, totalCount);
+        return RejudgeJobResponseDto.from(job);
+    }
+
+    public RejudgeJobResponseDto getRejudgeJob(Long rejudgeJobId) {
+        return rejudgeJobRepository.findById(rejudgeJobId)
+                .map(RejudgeJobResponseDto::from)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 재채점 작업입니다."));
+    }
+
+    /** 재채점 작업을 일시 중지함 (이미 대기열에 넣은 제출은 계속 채점됨) */
+    @Transactional
+    public RejudgeJobResponseDto pauseRejudgeJob(Long rejudgeJobId) {
+        RejudgeJob job = findJob(rejudgeJobId);
+        if (job.getStatus() != RejudgeJobStatus.RUNNING) {
+            throw new IllegalStateException("진행 중인 재채점 작업만 일시 중지할 수 있습니다.");
+        }
+        job.pause();
+        return RejudgeJobResponseDto.from(job);
+    }
+
+    /** 일시 중지한 재채점 작업을 마지막으로 대기열에 넣은 제출 다음부터 이어서 진행함 */
+    @Transactional
+    public RejudgeJobResponseDto resumeRejudgeJob(Long rejudgeJobId) {
+        RejudgeJob job = findJob(rejudgeJobId);
+        if (job.getStatus() != RejudgeJobStatus.PAUSED) {
+            throw new IllegalStateException("일시 중지된 재채점 작업만 재개할 수 있습니다.");
+        }
+        job.resume();
+        return RejudgeJobResponseDto.from(job);
+    }
+
+    /** 재채점 작업을 취소함 (아직 채점하지 않은 제출은 기존 결과를 유지함) */
+    @Transactional
+    public RejudgeJobResponseDto cancelRejudgeJob(Long rejudgeJobId) {
+        RejudgeJob job = findJob(rejudgeJobId);
+        if (job.isFinished()) {
+            throw new IllegalStateException("이미 끝난 재채점 작업입니다.");
+        }
+        job.cancel();
+        int dropped = judgeJobRepository.completeQueuedRejudges(rejudgeJobId);
+        log.info("Rejudge job {} cancelled, {} queued submissions dropped", rejudgeJobId, dropped);
+        return RejudgeJobResponseDto.from(job);
+    }
+
+    /**
+     * 진행 중인 재채점 작업 중 가장 오래된 작업의 다음 대상 제출들을 채점 대기열에 넣고 체크포인트를 저장함.
+     * 대기열에 남은 재채점 작업이 judge.rejudge.max-queued 개 이상이면 이번 주기는 건너뜀.
+     * 대상 제출을 모두 넣고 채점까지 끝나면 작업을 완료 처리함
+     */
+    @Scheduled(fixedDelayString = "${judge.rejudge.interval-ms:5000}")
+    @Transactional
+    public void advance() {
+        RejudgeJob job = rejudgeJobRepository.findRunningForUpdate().orElse(null);
+        if (job == null) {
+            return;
+        }
+
+        long active = judgeJobRepository.countByRejudgeJobIdAndStatusIn(job.getId(), ACTIVE_STATUSES);
+        int size = (int) Math.min(batchSize, maxQueued - active);
+        if (size <= 0) {
+            return;
+        }
+
+        List<Long> submissionIds = submissionsRepository.findRejudgeTargetIds(job.getProblemId(), job.getLastSubmissionId(),
+                job.getStatusFilter(), job.getLanguageFilter(), job.getSubmittedFrom(), job.getSubmittedTo(),
+                PageRequest.of(0, size));
+        if (submissionIds.isEmpty()) {
+            if (active == 0) {
+                job.complete();
+                log.info("Rejudge job {} for problem {} completed: {} processed, {} changed",
+                        job.getId(), job.getProblemId(), job.getProcessedCount(), job.getChangedCount());
+            }
+            return;
+        }
+
+        judgeJobService.enqueueRejudge(job.getId(), submissionIds);
+        job.advance(submissionIds.get(submissionIds.size() - 1), submissionIds.size());
+        judgeDispatcher.wakeUpAfterCommit();
+    }
+
+    private RejudgeJob findJob(Long rejudgeJobId) {
+        return rejudgeJobRepository.findByIdForUpdate(rejudgeJobId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 재채점 작업입니다."));
+    }
+}
@@ -0,0 +1,49 @@
+// 같은 채점 결과가 나오는 제출을 찾기 위한 해시 계산기
+// (문제, 테스트 케이스 버전, 시간/메모리 제한, 언어, 자바 실행 프로파일, 정규화한 코드)를 SHA-256 으로 묶음
+// 정규화: 줄바꿈을 \n 으로 통일하고 파일 끝의 공백/빈 줄을 제거 (코드 안의 공백은 결과에 영향을 줄 수 있으므로 그대로 둠)
+
+package com.unide.backend.domain.submissions.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import com.unide.backend.domain.problems.entity.Problems;
+import com.unide.backend.domain.submissions.entity.SubmissionLanguage;
+
+final class SubmissionCodeHash {
+    private SubmissionCodeHash() {
+    }
+
+    static String of(Problems problem, SubmissionLanguage language, String code) {
+        String key = problem.getId()
+                + ":" + (problem.getTestCaseVersion() != null ? problem.getTestCaseVersion() : 0)
+                + ":" + problem.getTimeLimit()
+                + ":" + problem.getMemoryLimit()
+                + ":" + language.name()
+                + javaRunProfileOf(problem, language)
+                + "\n" + normalize(code);
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(key.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 실행 프로파일을 지정한 문제의 자바 제출만 키에 덧붙임 (지정하지 않은 문제는 기존 해시를 그대로 씀)
+     */
+    private static String javaRunProfileOf(Problems problem, SubmissionLanguage language) {
+        if (language != SubmissionLanguage.JAVA || problem.getJavaRunProfile() == null) {
+            return "";
+        }
+        return ":" + problem.getJavaRunProfile().name();
+    }
+
+    static String normalize(String code) {
+        String normalized = code.replace("\r\n", "\n").replace('\r', '\n');
+        return normalized.stripTrailing();
+    }
+}
@@ -0,0 +1,183 @@
+// 채점 진행 상황(컴파일 완료, 테스트 케이스별 결과, 최종 결과)을 Server-Sent Events 로 구독자에게 전달하는 서비스
+// (구독 하나당 스레드나 DB 커넥션을 점유하지 않고, 제출 ID별 구독 목록에만 보관함)
+
+package com.unide.backend.domain.submissions.service;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.unide.backend.domain.submissions.dto.SubmissionCaseEventDto;
+import com.unide.backend.domain.submissions.dto.SubmissionStatusResponseDto;
+import com.unide.backend.domain.submissions.dto.TestCaseResultDto;
+import com.unide.backend.domain.submissions.entity.Submissions;
+import com.unide.backend.domain.submissions.repository.SubmissionsRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SubmissionEventService {
+    private static final String EVENT_COMPILED = "compiled";
+    private static final String EVENT_CASE = "case";
+    private static final String EVENT_RESULT = "result";
+
+    private final SubmissionsRepository submissionsRepository;
+
+    @Value("${judge.events.timeout-ms:300000}")
+    private long timeoutMs;
+
+    private final Map<Long, Set<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+
+    /**
+     * 제출의 채점 진행 이벤트를 구독함. 이미 채점이 끝났다면 최종 결과를 바로 보내고 스트림을 닫음
+     * @param current 구독 시점의 채점 상태 (권한 확인을 마친 값)
+     */
+    public SseEmitter subscribe(SubmissionStatusResponseDto current) {
+        Long submissionId = current.getSubmissionId();
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+
+        if (current.isFinished()) {
+            send(submissionId, emitter, EVENT_RESULT, current);
+            emitter.complete();
+            return emitter;
+        }
+
+        subscribers.computeIfAbsent(submissionId, id -> new CopyOnWriteArraySet<>()).add(emitter);
+        emitter.onCompletion(() -> remove(submissionId, emitter));
+        emitter.onTimeout(() -> remove(submissionId, emitter));
+        emitter.onError(e -> remove(submissionId, emitter));
+        return emitter;
+    }
+
+    /**
+     * 채점 스레드에서 사용할 진행 리스너를 만듦 (구독자가 없으면 아무것도 보내지 않음)
+     */
+    public JudgeProgressListener listenerFor(Long submissionId) {
+        return new JudgeProgressListener() {
+            @Override
+            public void onCompiled(boolean success) {
+                broadcast(submissionId, EVENT_COMPILED, Map.of("submissionId", submissionId, "success", success));
+            }
+
+            @Override
+            public void onCaseFinished(TestCaseResultDto result) {
+                broadcast(submissionId, EVENT_CASE, SubmissionCaseEventDto.of(submissionId, result));
+            }
+        };
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 최종 결과를 보내고 구독을 종료함 (커밋 전에 보내면 클라이언트가 이전 상태를 조회할 수 있음)
+     */
+    public void publishResultAfterCommit(Submissions submission) {
+        publishResultAfterCommit(submission, List.of());
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 테스트 케이스별 결과를 차례로 보내고 최종 결과를 보냄
+     * (같은 코드의 채점 결과를 재사용해 실행 없이 끝난 제출도 구독자가 케이스별 결과를 받도록 함)
+     */
+    public void publishResultAfterCommit(Submissions submission, List<TestCaseResultDto> caseResults) {
+        Long submissionId = submission.getId();
+        SubmissionStatusResponseDto result = SubmissionStatusResponseDto.from(submission);
+        Runnable publish = () -> {
+            for (TestCaseResultDto caseResult : caseResults) {
+                broadcast(submissionId, EVENT_CASE, SubmissionCaseEventDto.of(submissionId, caseResult));
+            }
+            finish(result);
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish.run();
+            }
+        });
+    }
+
+    /**
+     * 다른 서버에서 채점이 끝난 제출의 최종 결과를 전달하고, 끊어진 연결을 정리함.
+     * 구독 중인 제출들을 한 번의 쿼리로 확인하므로 구독자 수와 관계없이 주기마다 쿼리는 한 번임
+     */
+    @Scheduled(fixedDelayString = "${judge.events.sweep-interval-ms:2000}")
+    public void sweep() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        try {
+            List<Submissions> finished = submissionsRepository.findFinishedByIdIn(Set.copyOf(subscribers.keySet()));
+            for (Submissions submission : finished) {
+                finish(SubmissionStatusResponseDto.from(submission));
+            }
+        } catch (Exception e) {
+            log.warn("Failed to sweep submission event subscribers: {}", e.getMessage());
+        }
+
+        // 주석 이벤트로 연결 상태를 확인하여 끊어진 구독을 정리함
+        subscribers.forEach((submissionId, emitters) -> {
+            for (SseEmitter emitter : emitters) {
+                try {
+                    emitter.send(SseEmitter.event().comment("keep-alive"));
+                } catch (IOException | IllegalStateException e) {
+                    remove(submissionId, emitter);
+                }
+            }
+        });
+    }
+
+    private void finish(SubmissionStatusResponseDto result) {
+        Set<SseEmitter> emitters = subscribers.remove(result.getSubmissionId());
+        if (emitters == null) {
+            return;
+        }
+        for (SseEmitter emitter : emitters) {
+            if (send(result.getSubmissionId(), emitter, EVENT_RESULT, result)) {
+                emitter.complete();
+            }
+        }
+    }
+
+    private void broadcast(Long submissionId, String eventName, Object data) {
+        Set<SseEmitter> emitters = subscribers.get(submissionId);
+        if (emitters == null) {
+            return;
+        }
+        for (SseEmitter emitter : emitters) {
+            send(submissionId, emitter, eventName, data);
+        }
+    }
+
+    private boolean send(Long submissionId, SseEmitter emitter, String eventName, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(eventName).data(data));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결이 끊어진 경우
+            remove(submissionId, emitter);
+            return false;
+        }
+    }
+
+    private void remove(Long submissionId, SseEmitter emitter) {
+        subscribers.computeIfPresent(submissionId, (id, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+}
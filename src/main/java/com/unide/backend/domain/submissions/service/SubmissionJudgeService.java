@@ -0,0 +1,306 @@
+// 채점 대기열에서 꺼낸 제출 코드를 실제로 채점하고 결과를 저장하는 서비스
+
+package com.unide.backend.domain.submissions.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.unide.backend.domain.mypage.service.StatsService;
+import com.unide.backend.domain.problems.entity.Problems;
+import com.unide.backend.domain.submissions.dto.JudgeLimitDto;
+import com.unide.backend.domain.submissions.dto.JudgeResultDto;
+import com.unide.backend.domain.submissions.dto.TestCaseResultDto;
+import com.unide.backend.domain.submissions.entity.SubmissionLanguage;
+import com.unide.backend.domain.submissions.entity.SubmissionRecord;
+import com.unide.backend.domain.submissions.entity.SubmissionStatus;
+import com.unide.backend.domain.submissions.entity.Submissions;
+import com.unide.backend.domain.submissions.repository.RejudgeJobRepository;
+import com.unide.backend.domain.submissions.repository.SubmissionRecordRepository;
+import com.unide.backend.domain.submissions.repository.SubmissionsRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SubmissionJudgeService {
+    private final SubmissionsRepository submissionsRepository;
+    private final TestCaseCache testCaseCache;
+    private final SubmissionRecordRepository submissionRecordRepository;
+    private final JudgeBackend judgeBackend;
+    private final StatsService statsService;
+    private final JudgeJobService judgeJobService;
+    private final SubmissionEventService submissionEventService;
+    private final RejudgeJobRepository rejudgeJobRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${judge.records.compact:false}")
+    private boolean compactRecords; // true 면 케이스별 결과를 submission_records 대신 submissions.case_results 에 저장
+
+    @Value("${judge.queue.duplicate-delay-ms:1000}")
+    private long duplicateDelayMs; // 같은 코드가 이 서버에서 채점 중일 때 작업을 다시 가져가기까지 미루는 시간
+
+    private final Set<String> runningCodeHashes = ConcurrentHashMap.newKeySet(); // 이 서버에서 채점 중인 일반 제출의 코드 해시
+
+    /**
+     * 대기열에서 점유한 제출 코드를 채점하고 결과와 테스트 케이스별 기록을 저장한 뒤 채점 작업을 완료 처리함
+     * (다른 서버가 채점하다 중단된 GRADING 상태의 제출도 다시 채점함)
+     * 채점 준비와 결과 저장만 각각 짧은 트랜잭션으로 처리하고, 코드를 실행하는 동안에는 DB 커넥션을 잡지 않음
+     * @param submissionId 채점할 제출 ID
+     * @param rejudgeJobId 재채점 작업으로 넣은 경우 그 작업 ID (채점이 끝난 제출도 다시 채점함), 아니면 null
+     * @param attempt 이 서버가 작업을 점유한 시도 번호 (결과를 저장할 때 임대를 아직 가지고 있는지 확인함)
+     */
+    public void judge(Long submissionId, Long rejudgeJobId, int attempt) {
+        JudgeTarget target = transactionTemplate.execute(status -> prepare(submissionId, rejudgeJobId, attempt));
+        if (target == null) {
+            return;
+        }
+
+        String runningHash = rejudgeJobId == null ? target.codeHash() : null;
+        if (runningHash != null && !runningCodeHashes.add(runningHash)) {
+            // 같은 코드를 이 서버에서 채점 중이면 워커를 붙잡아 두지 않고 작업을 잠시 대기열에 돌려놓음
+            // (다시 가져갔을 때 먼저 끝난 채점 결과를 재사용하고, 그 채점이 실패했으면 직접 채점함)
+            log.info("Defer submission {}: the same code is being judged on this node", submissionId);
+            judgeJobService.defer(submissionId, attempt, duplicateDelayMs);
+            return;
+        }
+        try {
+            List<JudgeTestCase> testCases = testCaseCache.get(target.problem());
+            JudgeResultDto judgeResult = judgeBackend.runSubmission(
+                    target.code(),
+                    target.language(),
+                    testCases,
+                    JudgeLimitDto.from(target.problem()),
+                    submissionEventService.listenerFor(submissionId)
+            );
+
+            transactionTemplate.executeWithoutResult(status -> saveResult(submissionId, rejudgeJobId, attempt, target, judgeResult));
+        } finally {
+            // 결과가 커밋된 뒤에 해시를 지워야 미뤄 둔 제출이 그 결과를 재사용할 수 있음
+            if (runningHash != null) {
+                runningCodeHashes.remove(runningHash);
+            }
+        }
+    }
+
+    /**
+     * 채점할 제출을 읽고 채점 중으로 표시함. 채점할 필요가 없거나 같은 코드의 결과를 재사용한 경우 null 을 반환함
+     */
+    private JudgeTarget prepare(Long submissionId, Long rejudgeJobId, int attempt) {
+        if (!judgeJobService.holdsLease(submissionId, attempt)) {
+            log.warn("Skip judging submission {}: lease was taken over by another node", submissionId);
+            return null;
+        }
+        Submissions submission = submissionsRepository.findById(submissionId).orElse(null);
+        boolean rejudge = rejudgeJobId != null;
+        if (submission == null || !isJudgeable(submission.getStatus(), rejudge)) {
+            log.warn("Skip judging submission {}: already finished", submissionId);
+            judgeJobService.complete(submissionId, attempt);
+            if (rejudge) {
+                rejudgeJobRepository.increaseProcessed(rejudgeJobId, false);
+            }
+            return null;
+        }
+
+        // 트랜잭션이 끝난 뒤에도 쓸 수 있도록 프록시가 아닌 엔터티로 읽어 둠
+        Problems problem = Hibernate.unproxy(submission.getProblem(), Problems.class);
+        String codeHash = submission.getCodeHash();
+        if (rejudge) {
+            // 바뀐 테스트 케이스 버전 기준으로 해시를 다시 계산하여, 재채점 결과도 이후 제출에 재사용되게 함
+            // (재채점 중에는 이전 결과가 그대로 보이도록 채점 중으로 표시하지 않음)
+            codeHash = SubmissionCodeHash.of(problem, submission.getLanguage(), submission.getCode());
+        } else {
+            if (codeHash != null) {
+                // 대기하는 동안 같은 코드의 다른 제출 채점이 끝났으면 그 결과를 사용함
+                Submissions source = findReusable(codeHash).orElse(null);
+                if (source != null) {
+                    List<TestCaseResultDto> caseResults = reuseVerdict(submission, source);
+                    Long userId = submission.getUser().getId();
+                    statsService.updateStats(userId);
+                    statsService.onCodeSubmitted(userId);
+                    judgeJobService.complete(submissionId, attempt);
+                    submissionEventService.publishResultAfterCommit(submission, caseResults);
+                    return null;
+                }
+            }
+            submission.startGrading();
+        }
+        return new JudgeTarget(problem, submission.getCode(), submission.getLanguage(), codeHash);
+    }
+
+    /**
+     * 채점 결과와 케이스별 기록을 저장하고 통계를 갱신한 뒤 채점 작업을 완료 처리함.
+     * 채점이 임대 기간을 넘겨 다른 서버가 같은 작업을 다시 가져갔다면 결과를 버림 (그 서버가 저장함)
+     * 채점 시스템 오류는 제출의 결과로 저장하지 않고 작업을 다시 대기열에 넣음
+     * (재시도 횟수를 넘기면 JudgeJobService 가 처음 채점하는 제출만 오류로 마감하고, 재채점은 이전 결과를 그대로 둠)
+     */
+    private void saveResult(Long submissionId, Long rejudgeJobId, int attempt, JudgeTarget target, JudgeResultDto judgeResult) {
+        if (!judgeJobService.holdsLease(submissionId, attempt)) {
+            log.warn("Discard result of submission {}: lease was taken over by another node", submissionId);
+            return;
+        }
+        boolean rejudge = rejudgeJobId != null;
+        Submissions submission = submissionsRepository.findById(submissionId).orElse(null);
+        if (submission == null || !isJudgeable(submission.getStatus(), rejudge)) {
+            // 채점하는 동안 제출이 삭제되었거나 이미 결과가 저장된 경우
+            log.warn("Discard result of submission {}: finished while judging", submissionId);
+            judgeJobService.complete(submissionId, attempt);
+            return;
+        }
+        if (judgeResult.getSystemError() != null) {
+            log.warn("System error while judging submission {} (attempt {}): {}", submissionId, attempt, judgeResult.getSystemError());
+            judgeJobService.retryOrFail(submissionId, attempt, judgeResult.getSystemError());
+            return;
+        }
+        SubmissionStatus previousStatus = submission.getStatus();
+        if (rejudge) {
+            // 이전 채점의 케이스별 기록을 지움 (커밋 전까지는 다른 요청에서 이전 결과가 그대로 보임)
+            submissionRecordRepository.deleteAllBySubmission(submission);
+            submission.updateCaseResults(null);
+            submission.updateCodeHash(target.codeHash());
+        }
+
+        SubmissionStatus finalStatus = SubmissionStatus.CA;
+        long maxRuntime = 0;
+        int maxMemory = 0;
+        int passedCount = 0;
+        String compileOutput = null;
+
+        if (judgeResult.isCompileError()) {
+            finalStatus = SubmissionStatus.CE;
+            compileOutput = judgeResult.getCompileOutput();
+        }
+
+        List<SubmissionRecord> records = new ArrayList<>();
+        for (TestCaseResultDto caseResult : judgeResult.getCaseResults()) {
+            SubmissionStatus caseStatus = caseResult.getStatus(); // 채점 결과 (CA, WA, TLE, MLE, RE)
+            int caseRuntime = caseResult.getRuntime();
+
+            records.add(SubmissionRecord.builder()
+                    .submission(submission)
+                    .testCaseIndex(caseResult.getTestCaseIndex())
+                    .status(caseStatus)
+                    .runtime(caseRuntime)
+                    .memory(caseResult.getMemory())
+                    .error(caseResult.getError())
+                    .build());
+
+            if (caseStatus != SubmissionStatus.CA) {
+                if (finalStatus == SubmissionStatus.CA || finalStatus == SubmissionStatus.WA) {
+                    finalStatus = caseStatus;
+                } else if (finalStatus == SubmissionStatus.TLE && caseStatus == SubmissionStatus.RE) {
+                    finalStatus = SubmissionStatus.RE;
+                }
+            } else {
+                passedCount++;
+                maxRuntime = Math.max(maxRuntime, caseRuntime);
+                maxMemory = Math.max(maxMemory, caseResult.getMemory());
+            }
+        }
+
+        // 케이스별 기록은 케이스마다 INSERT 하지 않고 한 번에 저장함
+        if (compactRecords) {
+            submission.updateCaseResults(SubmissionRecordCodec.encode(judgeResult.getCaseResults()));
+        } else {
+            submissionRecordRepository.insertAll(records);
+        }
+
+        submission.updateCompileInfo(judgeResult.getCompileTimeMs(), judgeResult.getCompilerProfile());
+        submission.updateResult(
+                finalStatus,
+                (int) maxRuntime,
+                maxMemory,
+                passedCount,
+                compileOutput
+        );
+
+        // 통계는 사용자의 제출 전체로 다시 계산하므로 재채점된 결과도 바로 반영됨
+        // (효율 랭킹은 조회할 때마다 제출 결과로 계산함)
+        Long userId = submission.getUser().getId();
+        statsService.updateStats(userId);
+        if (rejudge) {
+            rejudgeJobRepository.increaseProcessed(rejudgeJobId, finalStatus != previousStatus);
+        } else {
+            statsService.onCodeSubmitted(userId);
+        }
+
+        judgeJobService.complete(submissionId, attempt);
+        submissionEventService.publishResultAfterCommit(submission);
+    }
+
+    /**
+     * 같은 해시의 제출 중 채점이 끝난 가장 최근 제출을 찾음
+     * @param codeHash 문제, 테스트 케이스 버전, 언어, 코드로 계산한 해시
+     */
+    public Optional<Submissions> findReusable(String codeHash) {
+        return submissionsRepository.findFinishedByCodeHash(codeHash, PageRequest.of(0, 1)).stream().findFirst();
+    }
+
+    /**
+     * 같은 코드의 다른 제출에서 채점 결과와 케이스별 기록을 복사함 (Docker 를 사용하지 않음)
+     * 통계 갱신과 결과 이벤트 발행은 호출하는 쪽에서 함
+     * @return 복사한 케이스별 결과 (진행 이벤트로 보낼 때 사용)
+     */
+    public List<TestCaseResultDto> reuseVerdict(Submissions target, Submissions source) {
+        List<TestCaseResultDto> caseResults;
+        if (source.getCaseResults() != null) {
+            target.updateCaseResults(source.getCaseResults());
+            caseResults = SubmissionRecordCodec.decode(source.getCaseResults()).stream()
+                    .map(record -> TestCaseResultDto.builder()
+                            .testCaseIndex(record.getTestCaseIndex())
+                            .status(record.getStatus())
+                            .runtime(record.getRuntime())
+                            .memory(record.getMemory())
+                            .error(record.getError())
+                            .build())
+                    .toList();
+        } else {
+            List<SubmissionRecord> records = submissionRecordRepository.findAllBySubmissionOrderByTestCaseIndexAsc(source).stream()
+                    .map(record -> SubmissionRecord.builder()
+                            .submission(target)
+                            .testCaseIndex(record.getTestCaseIndex())
+                            .status(record.getStatus())
+                            .runtime(record.getRuntime())
+                            .memory(record.getMemory())
+                            .error(record.getError())
+                            .build())
+                    .toList();
+            submissionRecordRepository.insertAll(records);
+            caseResults = records.stream()
+                    .map(record -> TestCaseResultDto.builder()
+                            .testCaseIndex(record.getTestCaseIndex())
+                            .status(record.getStatus())
+                            .runtime(record.getRuntime())
+                            .memory(record.getMemory())
+                            .error(record.getError())
+                            .build())
+                    .toList();
+        }
+        target.reuseResult(source);
+        log.info("Submission {} reused the verdict of submission {}", target.getId(), source.getId());
+        return caseResults;
+    }
+
+    /**
+     * 채점 준비 트랜잭션에서 읽어 둔, 트랜잭션 밖에서 채점하는 데 필요한 값
+     */
+    private record JudgeTarget(Problems problem, String code, SubmissionLanguage language, String codeHash) {
+    }
+
+    private static boolean isJudgeable(SubmissionStatus status, boolean rejudge) {
+        if (status == SubmissionStatus.PENDING || status == SubmissionStatus.GRADING) {
+            return true;
+        }
+        return rejudge && status != SubmissionStatus.DRAFT;
+    }
+}
@@ -0,0 +1,75 @@
+// 테스트 케이스별 채점 결과를 submissions.case_results 컬럼 하나에 담기 위한 압축 문자열 형식 변환기
+// 형식: "케이스번호:결과:실행시간:메모리[:에러]" 를 쉼표로 이어 붙임 (예: "1:CA:12:2048,2:WA:10:2050:64yI67K...")
+// 에러 메시지(RE 의 표준 에러, WA 의 비교 내용)가 있으면 구분자와 섞이지 않도록 URL-safe Base64 로 인코딩해 붙임
+// 인코딩한 에러는 모두 합쳐 MAX_ERROR_LENGTH 까지만 담고, 넘치는 케이스의 에러는 생략함 (컬럼 크기를 넘지 않도록)
+
+package com.unide.backend.domain.submissions.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import com.unide.backend.domain.submissions.dto.SubmissionRecordDto;
+import com.unide.backend.domain.submissions.dto.TestCaseResultDto;
+import com.unide.backend.domain.submissions.entity.SubmissionRecord;
+import com.unide.backend.domain.submissions.entity.SubmissionStatus;
+
+final class SubmissionRecordCodec {
+    private static final char RECORD_SEPARATOR = ',';
+    private static final char FIELD_SEPARATOR = ':';
+    static final int MAX_ERROR_LENGTH = 1 << 20; // 인코딩한 에러 전체 길이 상한 (MEDIUMTEXT 16MB 보다 충분히 작게)
+
+    private SubmissionRecordCodec() {
+    }
+
+    static String encode(List<TestCaseResultDto> results) {
+        StringBuilder sb = new StringBuilder(results.size() * 16);
+        int errorBudget = MAX_ERROR_LENGTH;
+        for (TestCaseResultDto result : results) {
+            if (sb.length() > 0) {
+                sb.append(RECORD_SEPARATOR);
+            }
+            sb.append(result.getTestCaseIndex()).append(FIELD_SEPARATOR)
+                    .append(result.getStatus().name()).append(FIELD_SEPARATOR)
+                    .append(result.getRuntime()).append(FIELD_SEPARATOR)
+                    .append(result.getMemory());
+            String error = SubmissionRecord.truncateError(result.getError());
+            if (error != null && !error.isEmpty()) {
+                String encodedError = Base64.getUrlEncoder().withoutPadding()
+                        .encodeToString(error.getBytes(StandardCharsets.UTF_8));
+                if (encodedError.length() <= errorBudget) {
+                    sb.append(FIELD_SEPARATOR).append(encodedError);
+                    errorBudget -= encodedError.length();
+                }
+            }
+        }
+        return sb.toString();
+    }
+
+    static List<SubmissionRecordDto> decode(String encoded) {
+        List<SubmissionRecordDto> records = new ArrayList<>();
+        if (encoded == null || encoded.isEmpty()) {
+            return records;
+        }
+        for (String record : encoded.split(String.valueOf(RECORD_SEPARATOR))) {
+            String[] fields = record.split(String.valueOf(FIELD_SEPARATOR));
+            if (fields.length != 4 && fields.length != 5) {
+                throw new IllegalStateException("잘못된 채점 기록 형식입니다: " + record);
+            }
+            try {
+                records.add(SubmissionRecordDto.builder()
+                        .testCaseIndex(Integer.parseInt(fields[0]))
+                        .status(SubmissionStatus.valueOf(fields[1]))
+                        .runtime(Integer.parseInt(fields[2]))
+                        .memory(Integer.parseInt(fields[3]))
+                        .error(fields.length == 5
+                                ? new String(Base64.getUrlDecoder().decode(fields[4]), StandardCharsets.UTF_8) : null)
+                        .build());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalStateException("잘못된 채점 기록 형식입니다: " + record, e);
+            }
+        }
+        return records;
+    }
+}
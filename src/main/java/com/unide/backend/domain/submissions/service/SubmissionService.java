@@ -15,14 +15,11 @@ import com.unide.backend.domain.efficiency.dto.SubmissionEfficiencyDto;
 import com.unide.backend.domain.efficiency.service.EfficiencyService;
 import com.unide.backend.domain.mypage.service.StatsService;
 import com.unide.backend.domain.problems.entity.Problems;
-import com.unide.backend.domain.problems.entity.TestCase;
 import com.unide.backend.domain.problems.repository.ProblemsRepository;
 import com.unide.backend.domain.problems.repository.TestCaseRepository;
 import com.unide.backend.domain.submissions.dto.CodeDraftResponseDto;
 import com.unide.backend.domain.submissions.dto.CodeDraftSaveRequestDto;
 import com.unide.backend.domain.submissions.dto.CodeDraftSaveResponseDto;
-import com.unide.backend.domain.submissions.dto.CodeRunRequestDto;
-import com.unide.backend.domain.submissions.dto.CodeRunResponseDto;
 import com.unide.backend.domain.submissions.dto.LongestTimeResponseDto;
 import com.unide.backend.domain.submissions.dto.SubmissionDetailResponseDto;
 import com.unide.backend.domain.submissions.dto.SubmissionHistoryDto;
@@ -34,12 +31,14 @@ import com.unide.backend.domain.submissions.dto.SubmissionShareRequestDto;
 import com.unide.backend.domain.submissions.dto.SubmissionShareResponseDto;
 import com.unide.backend.domain.submissions.dto.SubmissionSolutionDto;
 import com.unide.backend.domain.submissions.dto.SubmissionSolutionListDto;
+import com.unide.backend.domain.submissions.dto.SubmissionStatusResponseDto;
 import com.unide.backend.domain.submissions.entity.SubmissionRecord;
 import com.unide.backend.domain.submissions.entity.SubmissionStatus;
 import com.unide.backend.domain.submissions.entity.Submissions;
 import com.unide.backend.domain.submissions.repository.SubmissionRecordRepository;
 import com.unide.backend.domain.submissions.repository.SubmissionsRepository;
 import com.unide.backend.domain.user.entity.User;
+import com.unide.backend.global.exception.JudgeQueueFullException;
 
 import lombok.RequiredArgsConstructor;
 
@@ -50,10 +49,13 @@ public class SubmissionService {
     private final SubmissionsRepository submissionsRepository;
     private final ProblemsRepository problemsRepository;
     private final TestCaseRepository testCaseRepository;
-    private final DockerService dockerService;
+    private final JudgeJobService judgeJobService;
+    private final JudgeDispatcher judgeDispatcher;
     private final EfficiencyService efficiencyService;
-    private final StatsService statsService;
     private final SubmissionRecordRepository submissionRecordRepository;
+    private final SubmissionJudgeService submissionJudgeService;
+    private final SubmissionEventService submissionEventService;
+    private final StatsService statsService;
     
     @Transactional
     public CodeDraftSaveResponseDto saveCodeDraft(User user, CodeDraftSaveRequestDto requestDto) {
@@ -104,99 +106,69 @@ public class SubmissionService {
         Problems problem = problemsRepository.findById(requestDto.getProblemId())
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 문제 ID입니다: " + requestDto.getProblemId()));
 
-        List<TestCase> testCases = testCaseRepository.findAllByProblem(problem);
-        if (testCases.isEmpty()) {
+        long testCaseCount = testCaseRepository.countByProblem(problem);
+        if (testCaseCount == 0) {
             throw new IllegalStateException("해당 문제에 대한 테스트 케이스가 존재하지 않습니다.");
         }
 
+        // 같은 문제, 테스트 케이스 버전, 언어로 똑같은 코드가 이미 채점되었으면 채점하지 않고 그 결과를 사용함
+        String codeHash = SubmissionCodeHash.of(problem, requestDto.getLanguage(), requestDto.getCode());
+        Submissions reusable = submissionJudgeService.findReusable(codeHash).orElse(null);
+        if (reusable == null && judgeJobService.isSaturated()) {
+            throw new JudgeQueueFullException("채점 대기열이 가득 찼습니다. 잠시 후 다시 제출해주세요.");
+        }
+
         Submissions submission = Submissions.builder()
                 .user(user)
                 .problem(problem)
                 .code(requestDto.getCode())
                 .language(requestDto.getLanguage())
-                .status(SubmissionStatus.GRADING)
+                .status(SubmissionStatus.PENDING)
                 .isShared(false)
-                .totalTestCases(testCases.size())
+                .totalTestCases((int) testCaseCount)
+                .codeHash(codeHash)
                 .build();
         submissionsRepository.save(submission);
 
-        SubmissionStatus finalStatus = SubmissionStatus.CA;
-        long maxRuntime = 0;
-        int passedCount = 0;
-        String compileOutput = null;
-        int index = 1;
-
-        for (TestCase testCase : testCases) {
-            CodeRunRequestDto runRequest = new CodeRunRequestDto(
-                    requestDto.getCode(), 
-                    requestDto.getLanguage(), 
-                    testCase.getInput()
-            );
-            
-            CodeRunResponseDto runResult = dockerService.runCode(runRequest);
-            
-            SubmissionStatus caseStatus = runResult.getStatus(); // 기본적으로 Docker 실행 결과 따름 (CA, TLE, RE, CE)
-            int caseRuntime = (int) runResult.getExecutionTimeMs();
-
-            if (caseStatus == SubmissionStatus.CA) {
-                String actualOutput = runResult.getOutput().trim();
-                String expectedOutput = testCase.getOutput().trim();
-                if (!actualOutput.equals(expectedOutput)) {
-                    caseStatus = SubmissionStatus.WA;
-                }
-            }
-
-            SubmissionRecord record = SubmissionRecord.builder()
-                    .submission(submission)
-                    .testCaseIndex(index++)
-                    .status(caseStatus)
-                    .runtime(caseRuntime)
-                    .memory(0)
+        if (reusable != null) {
+            // 기록과 통계에는 별도의 제출로 남김
+            submissionJudgeService.reuseVerdict(submission, reusable);
+            statsService.updateStats(user.getId());
+            statsService.onCodeSubmitted(user.getId());
+            submissionEventService.publishResultAfterCommit(submission);
+
+            return SubmissionResponseDto.builder()
+                    .submissionId(submission.getId())
+                    .status(submission.getStatus())
+                    .passedTestCases(submission.getPassedTestCases())
+                    .totalTestCases(submission.getTotalTestCases())
+                    .message("이전에 채점된 같은 코드의 결과를 사용했습니다.")
                     .build();
-            submissionRecordRepository.save(record);
-
-            if (caseStatus == SubmissionStatus.CE) {
-                finalStatus = SubmissionStatus.CE;
-                compileOutput = runResult.getError();
-                passedCount = 0;
-                break;
-            }
-
-            if (caseStatus != SubmissionStatus.CA) {
-                if (finalStatus == SubmissionStatus.CA || finalStatus == SubmissionStatus.WA) {
-                    finalStatus = caseStatus;
-                } else if (finalStatus == SubmissionStatus.TLE && caseStatus == SubmissionStatus.RE) {
-                    finalStatus = SubmissionStatus.RE;
-                }
-            } else {
-                passedCount++;
-                maxRuntime = Math.max(maxRuntime, caseRuntime);
-            }
         }
 
-        submission.updateResult(
-                finalStatus,
-                (int) maxRuntime,
-                0, 
-                passedCount,
-                compileOutput
-        );
-        
-        statsService.updateStats(user.getId());       
-        statsService.onCodeSubmitted(user.getId());   
+        judgeJobService.enqueue(submission.getId());
+        judgeDispatcher.wakeUpAfterCommit();
 
         return SubmissionResponseDto.builder()
                 .submissionId(submission.getId())
-                .status(finalStatus)
-                .runtime(submission.getRuntime())
-                .memory(submission.getMemory())
+                .status(submission.getStatus())
                 .passedTestCases(submission.getPassedTestCases())
                 .totalTestCases(submission.getTotalTestCases())
-                .compileOutput(submission.getCompileOutput())
-                .message("채점이 완료되었습니다.")
+                .message("채점 대기열에 등록되었습니다.")
                 .build();
     }
 
+    public SubmissionStatusResponseDto getSubmissionStatus(Long submissionId, User user) {
+        Submissions submission = submissionsRepository.findById(submissionId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 제출 기록입니다: " + submissionId));
+
+        if (!submission.getUser().getId().equals(user.getId()) && !submission.isShared()) {
+            throw new IllegalArgumentException("해당 제출 기록을 볼 권한이 없습니다.");
+        }
+
+        return SubmissionStatusResponseDto.from(submission);
+    }
+
     public LongestTimeResponseDto getLongestRuntime(User user, Long problemId) {
         Problems problem = problemsRepository.findById(problemId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 문제 ID입니다: " + problemId));
@@ -217,15 +189,22 @@ public class SubmissionService {
             throw new IllegalArgumentException("해당 제출 기록을 볼 권한이 없습니다.");
         }
 
-        List<SubmissionRecord> records = submissionRecordRepository.findAllBySubmissionOrderByTestCaseIndexAsc(submission);
-        List<SubmissionRecordDto> recordDtos = records.stream()
-                .map(r -> SubmissionRecordDto.builder()
-                        .testCaseIndex(r.getTestCaseIndex())
-                        .status(r.getStatus())
-                        .runtime(r.getRuntime())
-                        .memory(r.getMemory())
-                        .build())
-                .collect(Collectors.toList());
+        List<SubmissionRecordDto> recordDtos;
+        if (submission.getCaseResults() != null) {
+            // 압축 저장된 제출은 submission_records 를 조회하지 않음
+            recordDtos = SubmissionRecordCodec.decode(submission.getCaseResults());
+        } else {
+            List<SubmissionRecord> records = submissionRecordRepository.findAllBySubmissionOrderByTestCaseIndexAsc(submission);
+            recordDtos = records.stream()
+                    .map(r -> SubmissionRecordDto.builder()
+                            .testCaseIndex(r.getTestCaseIndex())
+                            .status(r.getStatus())
+                            .runtime(r.getRuntime())
+                            .memory(r.getMemory())
+                            .error(r.getError())
+                            .build())
+                    .collect(Collectors.toList());
+        }
 
         return SubmissionDetailResponseDto.builder()
                 .submissionId(submission.getId())
@@ -240,6 +219,8 @@ public class SubmissionService {
                 .isShared(submission.isShared())
                 .passedTestCases(submission.getPassedTestCases())
                 .totalTestCases(submission.getTotalTestCases())
+                .compileTimeMs(submission.getCompileTimeMs())
+                .compilerProfile(submission.getCompilerProfile())
                 .records(recordDtos)
                 .build();
     }
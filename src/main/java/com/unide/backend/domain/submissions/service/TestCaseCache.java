@@ -0,0 +1,254 @@
+// 문제별 테스트 케이스를 채점 서버 메모리에 보관하는 LRU 캐시 (바이트 크기 기준으로 용량을 제한함)
+// 항목마다 문제의 테스트 케이스 버전을 함께 저장하여, 다른 서버에서 테스트 케이스가 수정된 경우에도 다시 불러옴
+
+package com.unide.backend.domain.submissions.service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.unide.backend.domain.problems.entity.Problems;
+import com.unide.backend.domain.problems.entity.TestCase;
+import com.unide.backend.domain.problems.repository.TestCaseRepository;
+import com.unide.backend.domain.problems.service.TestCaseStore;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TestCaseCache {
+    private final TestCaseRepository testCaseRepository;
+    private final TestCaseStore testCaseStore;
+
+    @Value("${judge.testcase-cache.max-size-mb:256}")
+    private long maxSizeMb; // 힙에 보관할 테스트 케이스의 최대 크기
+
+    @Value("${judge.testcase-cache.spill-dir:cache/testcases}")
+    private String spillDir;
+
+    @Value("${judge.testcase-cache.spill-threshold-kb:256}")
+    private long spillThresholdKb; // 입력+정답이 이 크기 이상인 케이스는 파일로 내리고 메모리 매핑하여 사용
+
+    @Value("${judge.testcase-cache.max-spill-size-mb:2048}")
+    private long maxSpillSizeMb; // 파일로 내린 테스트 케이스의 최대 크기
+
+    private Path spillRoot;
+    private long heapBytes = 0;
+    private long spillBytes = 0;
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true); // 문제 ID -> 항목 (접근 순서)
+
+    /**
+     * 파일로 내릴 디렉터리를 준비함 (재시작 전에 남은 파일은 더 이상 쓰이지 않으므로 지움)
+     */
+    @PostConstruct
+    public void init() throws IOException {
+        spillRoot = Paths.get(spillDir).toAbsolutePath().normalize();
+        Files.createDirectories(spillRoot);
+        try (Stream<Path> stream = Files.list(spillRoot)) {
+            stream.forEach(TestCaseCache::deleteQuietly);
+        }
+    }
+
+    /**
+     * 문제의 테스트 케이스를 반환함. 캐시에 없거나 캐시된 버전이 문제의 현재 버전과 다르면 DB 에서 다시 불러옴
+     * @param problem 채점할 문제 (현재 테스트 케이스 버전을 담고 있어야 함)
+     * @return 테스트 케이스 목록 (DB 저장 순서)
+     */
+    public List<JudgeTestCase> get(Problems problem) {
+        Long problemId = problem.getId();
+        long version = problem.getTestCaseVersion() != null ? problem.getTestCaseVersion() : 0;
+
+        synchronized (this) {
+            Entry entry = entries.get(problemId);
+            if (entry != null && entry.version == version) {
+                return entry.testCases;
+            }
+        }
+
+        Entry loaded = load(problem, version);
+        synchronized (this) {
+            Entry current = entries.get(problemId);
+            if (current != null && current.version == version) {
+                // 다른 스레드가 먼저 불러온 경우
+                loaded.deleteFiles();
+                return current.testCases;
+            }
+            if (current == null || current.version < version) {
+                if (current != null) {
+                    removeEntry(problemId);
+                }
+                entries.put(problemId, loaded);
+                heapBytes += loaded.heapBytes;
+                spillBytes += loaded.spillBytes;
+                evictIfNeeded();
+            }
+        }
+        return loaded.testCases;
+    }
+
+    /**
+     * 문제의 캐시 항목을 지움 (문제 또는 테스트 케이스가 수정/삭제된 경우)
+     * 다른 서버의 캐시는 문제의 테스트 케이스 버전이 바뀐 것을 보고 다시 불러옴
+     */
+    public synchronized void invalidate(Long problemId) {
+        removeEntry(problemId);
+    }
+
+    private Entry load(Problems problem, long version) {
+        List<TestCase> testCases = testCaseRepository.findAllByProblem(problem);
+        if (!testCases.isEmpty() && testCases.stream().allMatch(TestCase::isStored)) {
+            return loadStored(problem.getId(), version, testCases);
+        }
+        return loadColumns(problem, version, testCases);
+    }
+
+    /**
+     * 파일 저장소에 있는 테스트 케이스 버전을 메모리 매핑하고, DB 의 크기/체크섬과 일치하는지 확인함
+     * (로컬 디스크에 없으면 저장소가 DB 에서 내려받음. 일치하지 않으면 로컬 사본을 지워 다음 시도에서 다시 내려받게 함)
+     */
+    private Entry loadStored(Long problemId, long version, List<TestCase> testCases) {
+        TestCaseStore.MappedCases mapped;
+        try {
+            mapped = testCaseStore.open(problemId, version);
+        } catch (IOException e) {
+            throw new IllegalStateException("테스트케이스 파일을 읽을 수 없습니다: " + e.getMessage(), e);
+        }
+        if (mapped == null) {
+            throw new IllegalStateException("테스트케이스 파일이 없습니다: 문제 " + problemId + ", 버전 " + version);
+        }
+
+        List<TestCase> ordered = testCases.stream()
+                .sorted(Comparator.comparing(TestCase::getStoreIndex))
+                .toList();
+        List<JudgeTestCase> judgeTestCases = new ArrayList<>(ordered.size());
+        for (TestCase testCase : ordered) {
+            int index = testCase.getStoreIndex();
+            if (index >= mapped.size()) {
+                testCaseStore.discard(problemId, version);
+                throw new IllegalStateException("테스트케이스 파일에 " + index + "번 케이스가 없습니다: 문제 " + problemId);
+            }
+            ByteBuffer input = mapped.input(index);
+            ByteBuffer output = mapped.output(index);
+            if (input.remaining() != testCase.getInputSize() || output.remaining() != testCase.getOutputSize()
+                    || TestCaseStore.checksum(input) != testCase.getInputChecksum()
+                    || TestCaseStore.checksum(output) != testCase.getOutputChecksum()) {
+                testCaseStore.discard(problemId, version);
+                throw new IllegalStateException("테스트케이스 파일이 손상되었습니다: 문제 " + problemId + ", " + index + "번 케이스");
+            }
+            judgeTestCases.add(new JudgeTestCase(input, output));
+        }
+        // 저장소 파일은 캐시가 관리하지 않으므로 지우지 않음
+        return new Entry(version, List.copyOf(judgeTestCases), 0, mapped.totalBytes(), List.of());
+    }
+
+    /**
+     * 파일 저장소를 사용하기 전에 저장된 테스트 케이스를 DB 컬럼에서 불러옴 (큰 케이스는 파일로 내림)
+     */
+    private Entry loadColumns(Problems problem, long version, List<TestCase> testCases) {
+        long threshold = spillThresholdKb * 1024;
+        List<JudgeTestCase> judgeTestCases = new ArrayList<>(testCases.size());
+        List<Path> files = new ArrayList<>();
+        long heap = 0;
+        long spilled = 0;
+
+        try {
+            for (int i = 0; i < testCases.size(); i++) {
+                TestCase testCase = testCases.get(i);
+                JudgeTestCase judgeTestCase = JudgeTestCase.of(testCase.getInput(), testCase.getOutput());
+                long size = judgeTestCase.getInputSize() + judgeTestCase.getExpectedOutputSize();
+                if (size >= threshold) {
+                    String prefix = problem.getId() + "-" + version + "-" + i + "-" + System.nanoTime();
+                    Path inputFile = spillRoot.resolve(prefix + ".in");
+                    Path outputFile = spillRoot.resolve(prefix + ".out");
+                    files.add(inputFile);
+                    files.add(outputFile);
+                    judgeTestCase = new JudgeTestCase(spill(judgeTestCase.openInput().readAllBytes(), inputFile),
+                            spill(judgeTestCase.openExpectedOutput().readAllBytes(), outputFile));
+                    spilled += size;
+                } else {
+                    heap += size;
+                }
+                judgeTestCases.add(judgeTestCase);
+            }
+        } catch (IOException e) {
+            // 디스크에 내리지 못하면 힙에만 보관함
+            log.warn("Failed to spill test cases of problem {}: {}", problem.getId(), e.getMessage());
+            files.forEach(TestCaseCache::deleteQuietly);
+            judgeTestCases = testCases.stream()
+                    .map(tc -> JudgeTestCase.of(tc.getInput(), tc.getOutput()))
+                    .toList();
+            files = List.of();
+            heap = judgeTestCases.stream()
+                    .mapToLong(tc -> tc.getInputSize() + tc.getExpectedOutputSize())
+                    .sum();
+            spilled = 0;
+        }
+        return new Entry(version, List.copyOf(judgeTestCases), heap, spilled, files);
+    }
+
+    /**
+     * 내용을 파일로 쓰고 읽기 전용으로 메모리 매핑함 (매핑은 채널을 닫거나 파일을 지워도 유지됨)
+     */
+    private static ByteBuffer spill(byte[] content, Path file) throws IOException {
+        Files.write(file, content);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, content.length);
+        }
+    }
+
+    private void removeEntry(Long problemId) {
+        Entry entry = entries.remove(problemId);
+        if (entry != null) {
+            heapBytes -= entry.heapBytes;
+            spillBytes -= entry.spillBytes;
+            entry.deleteFiles();
+        }
+    }
+
+    private void evictIfNeeded() {
+        long maxHeapBytes = maxSizeMb * 1024 * 1024;
+        long maxSpillBytes = maxSpillSizeMb * 1024 * 1024;
+        Iterator<Map.Entry<Long, Entry>> iterator = entries.entrySet().iterator();
+        while ((heapBytes > maxHeapBytes || spillBytes > maxSpillBytes) && iterator.hasNext()) {
+            Entry eldest = iterator.next().getValue();
+            iterator.remove();
+            heapBytes -= eldest.heapBytes;
+            spillBytes -= eldest.spillBytes;
+            eldest.deleteFiles();
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete spilled test case {}", file);
+        }
+    }
+
+    /**
+     * 캐시 항목 (지워진 항목의 테스트 케이스를 사용 중인 채점은 이미 매핑된 버퍼로 계속 진행할 수 있음)
+     */
+    private record Entry(long version, List<JudgeTestCase> testCases, long heapBytes, long spillBytes, List<Path> files) {
+        private void deleteFiles() {
+            files.forEach(TestCaseCache::deleteQuietly);
+        }
+    }
+}
@@ -35,6 +35,16 @@ public class GlobalExceptionHandler {
         return createErrorResponse(HttpStatus.UNAUTHORIZED, "계정이 비활성화되었습니다.");
     }
     
+    @ExceptionHandler(JudgeQueueFullException.class)
+    public ResponseEntity<Map<String, Object>> handleJudgeQueueFullException(JudgeQueueFullException e) {
+        return createErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage());
+    }
+
+    @ExceptionHandler(IdempotencyConflictException.class)
+    public ResponseEntity<Map<String, Object>> handleIdempotencyConflictException(IdempotencyConflictException e) {
+        return createErrorResponse(HttpStatus.CONFLICT, e.getMessage());
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<Map<String, Object>> handleIllegalArgumentException(IllegalArgumentException e) {
         return createErrorResponse(HttpStatus.BAD_REQUEST, e.getMessage());
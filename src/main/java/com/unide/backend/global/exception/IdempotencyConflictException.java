@@ -0,0 +1,9 @@
+// 같은 Idempotency-Key 의 요청이 아직 처리 중일 때 발생하는 예외
+
+package com.unide.backend.global.exception;
+
+public class IdempotencyConflictException extends RuntimeException {
+    public IdempotencyConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,9 @@
+// 채점 대기열이 가득 차 제출을 받을 수 없을 때 발생하는 예외
+
+package com.unide.backend.global.exception;
+
+public class JudgeQueueFullException extends RuntimeException {
+    public JudgeQueueFullException(String message) {
+        super(message);
+    }
+}
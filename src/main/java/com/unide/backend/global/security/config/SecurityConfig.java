@@ -23,6 +23,7 @@ import com.unide.backend.global.security.jwt.JwtAuthenticationFilter;
 import com.unide.backend.global.security.oauth.CustomOAuth2UserService;
 import com.unide.backend.global.security.oauth.OAuth2AuthenticationSuccessHandler;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 
 @Configuration
@@ -60,6 +61,8 @@ public class SecurityConfig {
 
             // HTTP 요청에 대한 접근 권한 설정
             .authorizeHttpRequests(authz -> authz
+                // 비동기 응답(SSE) 완료 시의 재디스패치는 최초 요청에서 이미 인가를 거쳤으므로 허용
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 // 정적 리소스 허용
                 .requestMatchers("/uploads/**").permitAll() 
                 // Swagger UI 관련 경로는 누구나 접근 가능하도록 허용
@@ -121,6 +124,7 @@ public class SecurityConfig {
         configuration.addAllowedMethod("*"); 
         
         configuration.addAllowedHeader("*"); 
+        configuration.addExposedHeader("Idempotent-Replayed"); // 같은 Idempotency-Key 요청에 저장된 응답을 돌려준 경우
         
         configuration.setAllowCredentials(true);
 
@@ -0,0 +1,186 @@
+// 텍스트/zip 테스트케이스 파일을 저장소에 올바르게 쓰고, 잘못된 파일은 위치를 알려 주며 거부하는지 확인하는 테스트
+
+package com.unide.backend.domain.problems.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.unide.backend.domain.problems.entity.Problems;
+import com.unide.backend.domain.problems.entity.TestCase;
+import com.unide.backend.domain.problems.repository.TestCaseFileChunkRepository;
+
+class TestCaseFileImporterTest {
+    private static final long PROBLEM_ID = 1L;
+
+    @TempDir
+    Path tempDir;
+
+    private TestCaseStore testCaseStore;
+    private TestCaseFileImporter importer;
+    private Problems problem;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        testCaseStore = new TestCaseStore(mock(TestCaseFileChunkRepository.class));
+        ReflectionTestUtils.setField(testCaseStore, "storeDir", tempDir.resolve("store").toString());
+        testCaseStore.init();
+
+        importer = new TestCaseFileImporter(testCaseStore);
+        ReflectionTestUtils.setField(importer, "maxTotalMb", 1L);
+
+        problem = Problems.builder().title("A+B").build();
+        ReflectionTestUtils.setField(problem, "id", PROBLEM_ID);
+    }
+
+    @Test
+    void importsTextSectionsTrimmingSurroundingWhitespace() throws IOException {
+        Path file = text("""
+
+                Input
+                  1 2\s
+
+                Output
+                3
+
+                input
+                5
+                OUTPUT
+                5
+                """);
+
+        List<TestCase> testCases = importer.importFile(problem, file);
+
+        assertThat(testCases).hasSize(2);
+        assertThat(testCases).allMatch(TestCase::isStored);
+        TestCaseStore.MappedCases cases = testCaseStore.open(PROBLEM_ID, 0);
+        assertThat(cases.size()).isEqualTo(2);
+        assertThat(string(cases.input(0))).isEqualTo("1 2\n"); // 입력은 줄바꿈으로 끝나도록 저장됨
+        assertThat(string(cases.output(0))).isEqualTo("3");
+        assertThat(string(cases.input(1))).isEqualTo("5\n");
+        assertThat(string(cases.output(1))).isEqualTo("5");
+    }
+
+    @Test
+    void rejectsInputWithoutOutputSection() throws IOException {
+        Path nextInput = text("Input\n1\nInput\n2\nOutput\n2\n");
+        assertThatThrownBy(() -> importer.importFile(problem, nextInput))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("테스트케이스 파일 3번째 줄: 1번째 줄의 입력에 Output 구역이 없습니다.");
+
+        Path endOfFile = text("Input\n1\nOutput\n1\nInput\n2\n");
+        assertThatThrownBy(() -> importer.importFile(problem, endOfFile))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("테스트케이스 파일 5번째 줄: 입력에 Output 구역이 없습니다.");
+
+        assertThat(testCaseStore.open(PROBLEM_ID, 0)).isNull();
+    }
+
+    @Test
+    void rejectsContentBeforeFirstInput() throws IOException {
+        Path file = text("\nA+B\nInput\n1 2\nOutput\n3\n");
+
+        assertThatThrownBy(() -> importer.importFile(problem, file))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("테스트케이스 파일 2번째 줄: 첫 번째 Input 구역 앞에 내용이 있습니다.");
+    }
+
+    @Test
+    void importsZipPairsInNumericOrder() throws IOException {
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        entries.put("data/10.in", bytes("10\n"));
+        entries.put("data/10.out", bytes("100\n"));
+        entries.put("data/2.out", bytes("4\n"));
+        entries.put("data/2.in", bytes(" 2 \n"));
+        entries.put("README.txt", bytes("ignored"));
+        Path file = zip(entries);
+
+        List<TestCase> testCases = importer.importFile(problem, file);
+
+        assertThat(testCases).hasSize(2);
+        TestCaseStore.MappedCases cases = testCaseStore.open(PROBLEM_ID, 0);
+        assertThat(string(cases.input(0))).isEqualTo(" 2 \n"); // zip 은 내용을 그대로 사용함
+        assertThat(string(cases.output(0))).isEqualTo("4\n");
+        assertThat(string(cases.input(1))).isEqualTo("10\n");
+        assertThat(string(cases.output(1))).isEqualTo("100\n");
+    }
+
+    @Test
+    void rejectsZipPairWithoutOutputFile() throws IOException {
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        entries.put("1.in", bytes("1"));
+        entries.put("1.out", bytes("1"));
+        entries.put("2.in", bytes("2"));
+        Path file = zip(entries);
+
+        assertThatThrownBy(() -> importer.importFile(problem, file))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("zip 에 2번 테스트케이스의 .out 파일이 없습니다.");
+        assertThat(testCaseStore.open(PROBLEM_ID, 0)).isNull();
+    }
+
+    @Test
+    void rejectsZipOverDecompressedSizeLimit() throws IOException {
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        entries.put("1.in", new byte[600 * 1024]);
+        entries.put("1.out", new byte[600 * 1024]); // 압축하면 작지만 풀면 1MB 를 넘음
+        Path file = zip(entries);
+        assertThat(Files.size(file)).isLessThan(64 * 1024);
+
+        assertThatThrownBy(() -> importer.importFile(problem, file))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("zip 의 압축 해제 크기가 제한(1MB)을 넘었습니다.");
+        assertThat(testCaseStore.open(PROBLEM_ID, 0)).isNull();
+    }
+
+    @Test
+    void zipAtDecompressedSizeLimitIsAccepted() throws IOException {
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        entries.put("1.in", new byte[512 * 1024]);
+        entries.put("1.out", new byte[512 * 1024]);
+        Path file = zip(entries);
+
+        assertThat(importer.importFile(problem, file)).hasSize(1);
+    }
+
+    private Path text(String content) throws IOException {
+        return Files.writeString(Files.createTempFile(tempDir, "testcase", ".txt"), content);
+    }
+
+    private Path zip(Map<String, byte[]> entries) throws IOException {
+        Path file = Files.createTempFile(tempDir, "testcase", ".zip");
+        try (OutputStream out = Files.newOutputStream(file); ZipOutputStream zip = new ZipOutputStream(out)) {
+            for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+                zip.putNextEntry(new ZipEntry(entry.getKey()));
+                zip.write(entry.getValue());
+                zip.closeEntry();
+            }
+        }
+        return file;
+    }
+
+    private static byte[] bytes(String content) {
+        return content.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String string(ByteBuffer buffer) {
+        return StandardCharsets.UTF_8.decode(buffer).toString();
+    }
+}
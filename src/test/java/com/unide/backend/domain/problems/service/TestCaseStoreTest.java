@@ -0,0 +1,157 @@
+// 저장소 디렉터리를 공유하지 않는 채점 서버가 DB 에 올라간 테스트 케이스 파일을 내려받아 쓰는지 확인하는 테스트
+// 리포지토리는 파일 조각을 보관하는 메모리 저장소로 대신하고, 서버마다 다른 디렉터리를 쓰는 저장소 두 개를 만듦
+
+package com.unide.backend.domain.problems.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.unide.backend.domain.problems.dto.TestCaseDto;
+import com.unide.backend.domain.problems.entity.Problems;
+import com.unide.backend.domain.problems.entity.TestCase;
+import com.unide.backend.domain.problems.repository.TestCaseFileChunkRepository;
+
+class TestCaseStoreTest {
+    private static final long PROBLEM_ID = 1L;
+
+    @TempDir
+    Path tempDir;
+
+    private final Map<ChunkKey, byte[]> chunks = new ConcurrentHashMap<>();
+
+    private TestCaseStore writerNode;
+    private TestCaseStore otherNode;
+    private Problems problem;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        TestCaseFileChunkRepository repository = mock(TestCaseFileChunkRepository.class);
+        doAnswer(invocation -> {
+            chunks.put(new ChunkKey(invocation.getArgument(0), invocation.getArgument(1),
+                    invocation.getArgument(2), invocation.getArgument(3)), invocation.getArgument(4));
+            return null;
+        }).when(repository).insertChunk(anyLong(), anyLong(), anyString(), anyInt(), any(byte[].class));
+        when(repository.findChunk(anyLong(), anyLong(), anyString(), anyInt())).thenAnswer(invocation -> chunks.get(
+                new ChunkKey(invocation.getArgument(0), invocation.getArgument(1),
+                        invocation.getArgument(2), invocation.getArgument(3))));
+        when(repository.deleteVersion(anyLong(), anyLong())).thenAnswer(invocation -> {
+            Long problemId = invocation.getArgument(0);
+            long version = invocation.getArgument(1);
+            chunks.keySet().removeIf(key -> key.problemId().equals(problemId) && key.version() == version);
+            return 0;
+        });
+        when(repository.deleteVersionsBefore(anyLong(), anyLong())).thenAnswer(invocation -> {
+            Long problemId = invocation.getArgument(0);
+            long version = invocation.getArgument(1);
+            chunks.keySet().removeIf(key -> key.problemId().equals(problemId) && key.version() < version);
+            return 0;
+        });
+
+        writerNode = store(repository, "writer");
+        otherNode = store(repository, "other");
+
+        problem = Problems.builder().title("A+B").build();
+        ReflectionTestUtils.setField(problem, "id", PROBLEM_ID);
+    }
+
+    @Test
+    void otherNodeFetchesFilesFromDatabase() throws IOException {
+        List<TestCase> written = writerNode.write(problem, List.of(testCase("1 2", "3"), testCase("5 5\n", "10")));
+
+        TestCaseStore.MappedCases cases = otherNode.open(PROBLEM_ID, 0);
+
+        assertThat(cases.size()).isEqualTo(2);
+        assertThat(string(cases.input(0))).isEqualTo("1 2\n");
+        assertThat(string(cases.output(1))).isEqualTo("10");
+        assertThat(TestCaseStore.checksum(cases.output(0))).isEqualTo(written.get(0).getOutputChecksum());
+        assertThat(tempDir.resolve("other/1/0.dat")).exists();
+        assertThat(tempDir.resolve("other/1/0.idx")).exists();
+    }
+
+    @Test
+    void largeFileIsSplitIntoChunks() throws IOException {
+        String input = "7".repeat(9 * 1024 * 1024);
+        List<TestCase> written = writerNode.write(problem, List.of(testCase(input, "7")));
+
+        TestCaseStore.MappedCases cases = otherNode.open(PROBLEM_ID, 0);
+
+        assertThat(chunks.keySet()).filteredOn(key -> key.kind().equals("dat")).hasSize(3);
+        assertThat(cases.input(0).remaining()).isEqualTo(input.length() + 1);
+        assertThat(TestCaseStore.checksum(cases.input(0))).isEqualTo(written.get(0).getInputChecksum());
+    }
+
+    @Test
+    void missingVersionIsNull() throws IOException {
+        writerNode.write(problem, List.of(testCase("1", "1")));
+
+        assertThat(otherNode.open(PROBLEM_ID, 1)).isNull();
+        assertThat(otherNode.open(2L, 0)).isNull();
+    }
+
+    @Test
+    void discardedLocalCopyIsFetchedAgain() throws IOException {
+        writerNode.write(problem, List.of(testCase("1 2", "3")));
+        otherNode.open(PROBLEM_ID, 0);
+        Files.write(tempDir.resolve("other/1/0.dat"), new byte[] {'x', 'x', 'x', 'x', 'x'}); // 손상된 로컬 사본
+
+        otherNode.discard(PROBLEM_ID, 0);
+        TestCaseStore.MappedCases cases = otherNode.open(PROBLEM_ID, 0);
+
+        assertThat(string(cases.input(0))).isEqualTo("1 2\n");
+        assertThat(string(cases.output(0))).isEqualTo("3");
+    }
+
+    @Test
+    void rewritingKeepsOnlyPreviousVersionInDatabase() throws IOException {
+        for (long version = 0; version <= 2; version++) {
+            ReflectionTestUtils.setField(problem, "testCaseVersion", version);
+            writerNode.write(problem, List.of(testCase(String.valueOf(version), "ok")));
+        }
+
+        assertThat(chunks.keySet()).extracting(ChunkKey::version).containsOnly(1L, 2L);
+        assertThat(string(otherNode.open(PROBLEM_ID, 2).input(0))).isEqualTo("2\n");
+    }
+
+    private TestCaseStore store(TestCaseFileChunkRepository repository, String node) throws IOException {
+        TestCaseStore store = new TestCaseStore(repository);
+        ReflectionTestUtils.setField(store, "storeDir", tempDir.resolve(node).toString());
+        store.init();
+        return store;
+    }
+
+    private static TestCaseDto testCase(String input, String output) {
+        TestCaseDto dto = new TestCaseDto();
+        dto.setInput(input);
+        dto.setOutput(output);
+        return dto;
+    }
+
+    private static String string(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private record ChunkKey(Long problemId, long version, String kind, int chunkIndex) {
+    }
+}
@@ -0,0 +1,120 @@
+// 고아 컨테이너 정리가 살아 있는 다른 서버(노드)의 컨테이너를 지우지 않는지 확인하는 테스트
+// (다른 노드의 컨테이너는 채점 작업 하트비트로 종료된 것이 확인된 경우에만 지움)
+
+package com.unide.backend.domain.submissions.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.Environment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.command.ListContainersCmd;
+import com.github.dockerjava.api.command.RemoveContainerCmd;
+import com.github.dockerjava.api.model.Container;
+
+class ContainerPoolTest {
+    private static final String THIS_NODE = "judge-1-aaaaaaaa";
+    private static final String LIVE_NODE = "judge-2-bbbbbbbb";
+    private static final String DEAD_NODE = "judge-3-cccccccc";
+    private static final String IDLE_NODE = "judge-4-dddddddd"; // 채점한 적이 없는 노드
+
+    private final DockerClient dockerClient = mock(DockerClient.class);
+    private final JudgeJobService judgeJobService = mock(JudgeJobService.class);
+    private final List<Container> containers = new ArrayList<>();
+    private final List<String> removed = new ArrayList<>();
+
+    private ContainerPool containerPool;
+
+    @BeforeEach
+    void setUp() {
+        ListContainersCmd listCmd = mock(ListContainersCmd.class);
+        when(dockerClient.listContainersCmd()).thenReturn(listCmd);
+        when(listCmd.withShowAll(anyBoolean())).thenReturn(listCmd);
+        when(listCmd.withAncestorFilter(anyList())).thenReturn(listCmd);
+        when(listCmd.exec()).thenReturn(containers);
+        when(dockerClient.removeContainerCmd(anyString())).thenAnswer(invocation -> {
+            String containerId = invocation.getArgument(0);
+            RemoveContainerCmd removeCmd = mock(RemoveContainerCmd.class);
+            when(removeCmd.withForce(anyBoolean())).thenReturn(removeCmd);
+            when(removeCmd.exec()).thenAnswer(exec -> {
+                removed.add(containerId);
+                return null;
+            });
+            return removeCmd;
+        });
+
+        LocalDateTime now = LocalDateTime.now();
+        when(judgeJobService.findLastHeartbeats(anyCollection())).thenReturn(Map.of(
+                LIVE_NODE, now.minusSeconds(10),
+                DEAD_NODE, now.minusHours(2)));
+
+        containerPool = new ContainerPool(dockerClient, mock(Environment.class), new JudgeNode(THIS_NODE), judgeJobService);
+        ReflectionTestUtils.setField(containerPool, "image", "unide/code-executor");
+        ReflectionTestUtils.setField(containerPool, "orphanGraceMs", 60_000L);
+        ReflectionTestUtils.setField(containerPool, "deadNodeAfterMs", 3_600_000L);
+
+        long nowSeconds = System.currentTimeMillis() / 1000;
+        containers.add(container("own-old", THIS_NODE, nowSeconds - 600));
+        containers.add(container("own-new", THIS_NODE, nowSeconds - 5));
+        containers.add(container("live", LIVE_NODE, nowSeconds - 7200));
+        containers.add(container("dead", DEAD_NODE, nowSeconds - 7200));
+        containers.add(container("idle", IDLE_NODE, nowSeconds - 7200));
+        containers.add(container("unlabeled", null, nowSeconds - 7200));
+    }
+
+    @Test
+    void otherNodesAreLeftAloneByDefault() {
+        ReflectionTestUtils.setField(containerPool, "reapOtherNodes", false);
+
+        containerPool.reapOrphans();
+
+        assertThat(removed).containsExactlyInAnyOrder("own-old", "unlabeled");
+    }
+
+    @Test
+    void onlyDeadNodesAreReapedWhenEnabled() {
+        ReflectionTestUtils.setField(containerPool, "reapOtherNodes", true);
+
+        containerPool.reapOrphans();
+
+        assertThat(removed).containsExactlyInAnyOrder("own-old", "unlabeled", "dead");
+    }
+
+    @Test
+    void otherNodesAreLeftAloneWhenHeartbeatsCannotBeRead() {
+        ReflectionTestUtils.setField(containerPool, "reapOtherNodes", true);
+        when(judgeJobService.findLastHeartbeats(anyCollection())).thenThrow(new IllegalStateException("DB unavailable"));
+
+        containerPool.reapOrphans();
+
+        assertThat(removed).containsExactlyInAnyOrder("own-old", "unlabeled");
+    }
+
+    private static Container container(String id, String node, long createdSeconds) {
+        Map<String, String> labels = new HashMap<>();
+        labels.put("unide.judge.executor", "PYTHON");
+        if (node != null) {
+            labels.put("unide.judge.node", node);
+        }
+        Container container = new Container();
+        ReflectionTestUtils.setField(container, "id", id);
+        ReflectionTestUtils.setField(container, "labels", labels);
+        ReflectionTestUtils.setField(container, "created", createdSeconds);
+        return container;
+    }
+}
@@ -0,0 +1,215 @@
+// Idempotency-Key 로 같은 요청을 한 번만 처리하는지 확인하는 테스트
+// (저장된 응답 재전송, 처리 중인 키의 409, 다른 내용의 요청 거부, 보관 기간이 지난 키 재사용, 서버 오류 응답은 저장하지 않음)
+// 리포지토리는 유니크 제약을 흉내 내는 메모리 저장소로 대신함
+
+package com.unide.backend.domain.submissions.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unide.backend.domain.submissions.dto.CodeRunResponseDto;
+import com.unide.backend.domain.submissions.entity.IdempotencyRecord;
+import com.unide.backend.domain.submissions.entity.IdempotencyStatus;
+import com.unide.backend.domain.submissions.entity.SubmissionStatus;
+import com.unide.backend.domain.submissions.repository.IdempotencyRecordRepository;
+import com.unide.backend.global.exception.IdempotencyConflictException;
+
+class IdempotencyServiceTest {
+    private static final Long USER_ID = 1L;
+    private static final String ENDPOINT = "submit";
+    private static final String KEY = "8f14e45f-ceea-467f-a0e6-6a1b2c3d4e5f";
+
+    private final Map<String, IdempotencyRecord> store = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong(1);
+    private final AtomicInteger executions = new AtomicInteger();
+
+    private IdempotencyService idempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        IdempotencyRecordRepository repository = mock(IdempotencyRecordRepository.class);
+        when(repository.saveAndFlush(any(IdempotencyRecord.class))).thenAnswer(invocation -> {
+            IdempotencyRecord record = invocation.getArgument(0);
+            if (store.putIfAbsent(keyOf(record.getUserId(), record.getEndpoint(), record.getIdempotencyKey()), record) != null) {
+                throw new DataIntegrityViolationException("uk_idempotency_keys_user_endpoint_key");
+            }
+            ReflectionTestUtils.setField(record, "id", nextId.getAndIncrement());
+            return record;
+        });
+        when(repository.findByUserIdAndEndpointAndIdempotencyKey(anyLong(), anyString(), anyString()))
+                .thenAnswer(invocation -> Optional.ofNullable(store.get(keyOf(
+                        invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2)))));
+        doAnswer(invocation -> {
+            Long id = invocation.getArgument(0);
+            store.values().removeIf(record -> id.equals(record.getId()));
+            return null;
+        }).when(repository).deleteById(anyLong());
+        when(repository.complete(anyLong(), anyString(), any(LocalDateTime.class))).thenAnswer(invocation -> {
+            Long id = invocation.getArgument(0);
+            for (IdempotencyRecord record : store.values()) {
+                if (id.equals(record.getId())) {
+                    ReflectionTestUtils.setField(record, "status", IdempotencyStatus.COMPLETED);
+                    ReflectionTestUtils.setField(record, "responseBody", invocation.getArgument(1));
+                    ReflectionTestUtils.setField(record, "expiresAt", invocation.getArgument(2));
+                    return 1;
+                }
+            }
+            return 0;
+        });
+
+        idempotencyService = new IdempotencyService(repository, new ObjectMapper());
+        ReflectionTestUtils.setField(idempotencyService, "ttlSeconds", 600L);
+    }
+
+    @Test
+    void requestWithoutKeyRunsEveryTime() {
+        idempotencyService.execute(USER_ID, ENDPOINT, null, request("print(1)"), this::submit);
+        idempotencyService.execute(USER_ID, ENDPOINT, " ", request("print(1)"), this::submit);
+
+        assertThat(executions).hasValue(2);
+        assertThat(store).isEmpty();
+    }
+
+    @Test
+    void sameKeyReplaysStoredResponse() {
+        ResponseEntity<?> first = idempotencyService.execute(USER_ID, ENDPOINT, KEY, request("print(1)"), this::submit);
+        ResponseEntity<?> second = idempotencyService.execute(USER_ID, ENDPOINT, KEY, request("print(1)"), this::submit);
+
+        assertThat(executions).hasValue(1);
+        assertThat(first.getHeaders().containsKey("Idempotent-Replayed")).isFalse();
+        assertThat(second.getHeaders().getFirst("Idempotent-Replayed")).isEqualTo("true");
+        assertThat(second.getBody()).hasToString("{\"submissionId\":1,\"status\":\"PENDING\"}");
+    }
+
+    @Test
+    void keysAreScopedToUserAndEndpoint() {
+        idempotencyService.execute(USER_ID, ENDPOINT, KEY, request("print(1)"), this::submit);
+        idempotencyService.execute(2L, ENDPOINT, KEY, request("print(1)"), this::submit);
+        idempotencyService.execute(USER_ID, "rejudge", KEY, request("print(1)"), this::submit);
+
+        assertThat(executions).hasValue(3);
+    }
+
+    @Test
+    void sameKeyWhileInProgressIsConflict() {
+        Object request = request("print(1)");
+
+        // 첫 요청을 처리하는 동안 같은 키의 요청이 들어온 경우
+        idempotencyService.execute(USER_ID, ENDPOINT, KEY, request, () -> {
+            assertThatThrownBy(() -> idempotencyService.execute(USER_ID, ENDPOINT, KEY, request, this::submit))
+                    .isInstanceOf(IdempotencyConflictException.class);
+            return submit();
+        });
+
+        assertThat(executions).hasValue(1);
+        assertThat(store.get(keyOf(USER_ID, ENDPOINT, KEY)).getStatus()).isEqualTo(IdempotencyStatus.COMPLETED);
+    }
+
+    @Test
+    void sameKeyWithDifferentRequestIsRejected() {
+        idempotencyService.execute(USER_ID, ENDPOINT, KEY, request("print(1)"), this::submit);
+
+        assertThatThrownBy(() -> idempotencyService.execute(USER_ID, ENDPOINT, KEY, request("print(2)"), this::submit))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("다른 내용의 요청");
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void expiredKeyCanBeReused() {
+        idempotencyService.execute(USER_ID, ENDPOINT, KEY, request("print(1)"), this::submit);
+        IdempotencyRecord expired = store.get(keyOf(USER_ID, ENDPOINT, KEY));
+        ReflectionTestUtils.setField(expired, "expiresAt", LocalDateTime.now().minusSeconds(1));
+
+        // 보관 기간이 지나면 다른 내용의 요청도 새 요청으로 처리함
+        ResponseEntity<?> response = idempotencyService.execute(USER_ID, ENDPOINT, KEY, request("print(2)"), this::submit);
+
+        assertThat(executions).hasValue(2);
+        assertThat(response.getHeaders().containsKey("Idempotent-Replayed")).isFalse();
+        assertThat(store.get(keyOf(USER_ID, ENDPOINT, KEY))).isNotSameAs(expired);
+    }
+
+    @Test
+    void failedRequestReleasesKey() {
+        assertThatThrownBy(() -> idempotencyService.execute(USER_ID, ENDPOINT, KEY, request("print(1)"), () -> {
+            throw new IllegalStateException("채점 대기열이 가득 찼습니다.");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(store).isEmpty();
+
+        idempotencyService.execute(USER_ID, ENDPOINT, KEY, request("print(1)"), this::submit);
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void systemErrorResponseIsNotStored() {
+        AtomicInteger runs = new AtomicInteger();
+        Object request = request("print(1)");
+
+        // 컨테이너를 받지 못해 실행하지 못한 경우: 응답은 그대로 돌려주지만 키를 지워 다시 시도할 수 있게 함
+        ResponseEntity<?> failed = idempotencyService.execute(USER_ID, "code-run", KEY, request,
+                () -> run(runs, true), response -> !response.isSystemError());
+        assertThat(((CodeRunResponseDto) failed.getBody()).isSystemError()).isTrue();
+        assertThat(store).isEmpty();
+
+        ResponseEntity<?> retried = idempotencyService.execute(USER_ID, "code-run", KEY, request,
+                () -> run(runs, false), response -> !response.isSystemError());
+        ResponseEntity<?> replayed = idempotencyService.execute(USER_ID, "code-run", KEY, request,
+                () -> run(runs, false), response -> !response.isSystemError());
+
+        assertThat(runs).hasValue(2);
+        assertThat(retried.getHeaders().containsKey("Idempotent-Replayed")).isFalse();
+        assertThat(replayed.getHeaders().getFirst("Idempotent-Replayed")).isEqualTo("true");
+    }
+
+    @Test
+    void tooLongKeyIsRejected() {
+        assertThatThrownBy(() -> idempotencyService.execute(USER_ID, ENDPOINT, "k".repeat(101), request("print(1)"), this::submit))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(executions).hasValue(0);
+    }
+
+    private Map<String, Object> submit() {
+        executions.incrementAndGet();
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("submissionId", 1);
+        response.put("status", "PENDING");
+        return response;
+    }
+
+    private static CodeRunResponseDto run(AtomicInteger runs, boolean systemError) {
+        runs.incrementAndGet();
+        return systemError
+                ? CodeRunResponseDto.builder().isSuccess(false).error("System Error: 컨테이너를 받지 못했습니다.")
+                        .status(SubmissionStatus.RE).systemError(true).build()
+                : CodeRunResponseDto.builder().isSuccess(true).output("1\n").status(SubmissionStatus.CA).build();
+    }
+
+    private static Map<String, Object> request(String code) {
+        return Map.of("problemId", 1, "language", "PYTHON", "code", code);
+    }
+
+    private static String keyOf(Long userId, String endpoint, String key) {
+        return userId + ":" + endpoint + ":" + key;
+    }
+}
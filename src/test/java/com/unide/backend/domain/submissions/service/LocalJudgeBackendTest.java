@@ -0,0 +1,135 @@
+// Docker 없이 CI 에서 실제로 코드를 실행해 LocalJudgeBackend 의 판정과 자원 제한을 확인하는 테스트
+// (python3 와 prlimit 이 필요하고, C++ 케이스는 g++ 가 있을 때만 실행함. GNU time 이 없으면 test/resources/judge/time-stub.py 를 씀)
+
+package com.unide.backend.domain.submissions.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.unide.backend.domain.problems.entity.OutputCompareMode;
+import com.unide.backend.domain.submissions.dto.JudgeLimitDto;
+import com.unide.backend.domain.submissions.dto.JudgeResultDto;
+import com.unide.backend.domain.submissions.dto.TestCaseResultDto;
+import com.unide.backend.domain.submissions.entity.SubmissionLanguage;
+import com.unide.backend.domain.submissions.entity.SubmissionStatus;
+
+class LocalJudgeBackendTest {
+    private static final String GNU_TIME = "/usr/bin/time";
+    private static final String A_PLUS_B = "a, b = map(int, input().split())\nprint(a + b)\n";
+
+    @TempDir
+    Path workDir;
+
+    private LocalJudgeBackend backend;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        assumeTrue(onPath("python3") && onPath("prlimit"), "python3 and prlimit are required");
+
+        OutputComparator outputComparator = new OutputComparator();
+        ReflectionTestUtils.setField(outputComparator, "floatTolerance", 1e-6);
+
+        backend = new LocalJudgeBackend(outputComparator);
+        ReflectionTestUtils.setField(backend, "workDir", workDir.toString());
+        ReflectionTestUtils.setField(backend, "timeCommand", timeCommand());
+        ReflectionTestUtils.setField(backend, "outputLimitKb", 1024L);
+        ReflectionTestUtils.setField(backend, "wallMultiplier", 2.0);
+        ReflectionTestUtils.setField(backend, "failFast", false);
+        ReflectionTestUtils.setField(backend, "defaultMemoryMb", 512L);
+        ReflectionTestUtils.setField(backend, "addressSpaceHeadroomMb", 64L);
+        backend.init();
+    }
+
+    @Test
+    void acceptsCorrectPythonSolution() {
+        JudgeResultDto result = judge(A_PLUS_B, SubmissionLanguage.PYTHON, limits(1, 128),
+                JudgeTestCase.of("1 2", "3"), JudgeTestCase.of("10 20", "30\n"));
+
+        assertThat(result.getSystemError()).isNull();
+        assertThat(result.getCaseResults()).extracting(TestCaseResultDto::getStatus)
+                .containsExactly(SubmissionStatus.CA, SubmissionStatus.CA);
+        assertThat(result.getCaseResults().get(0).getMemory()).isPositive();
+    }
+
+    @Test
+    void reportsWrongAnswerWithDiff() {
+        JudgeResultDto result = judge("print(0)\n", SubmissionLanguage.PYTHON, limits(1, 128), JudgeTestCase.of("1 2", "3"));
+
+        TestCaseResultDto caseResult = result.getCaseResults().get(0);
+        assertThat(caseResult.getStatus()).isEqualTo(SubmissionStatus.WA);
+        assertThat(caseResult.getError()).contains("1번째 줄");
+    }
+
+    @Test
+    void stopsProgramAtTimeLimit() {
+        JudgeResultDto result = judge("while True:\n    pass\n", SubmissionLanguage.PYTHON, limits(1, 128), JudgeTestCase.of("", ""));
+
+        TestCaseResultDto caseResult = result.getCaseResults().get(0);
+        assertThat(caseResult.getStatus()).isEqualTo(SubmissionStatus.TLE);
+        assertThat(caseResult.getRuntime()).isGreaterThanOrEqualTo(1000);
+    }
+
+    @Test
+    void enforcesMemoryLimitBeforeProgramCanAllocate() {
+        // 512MB 를 한 번에 할당하려는 프로그램은 주소 공간 제한으로 할당에 실패하고 메모리 초과로 판정됨
+        JudgeResultDto result = judge("data = bytearray(512 * 1024 * 1024)\nprint(len(data))\n", SubmissionLanguage.PYTHON,
+                limits(1, 64), JudgeTestCase.of("", "536870912"));
+
+        TestCaseResultDto caseResult = result.getCaseResults().get(0);
+        assertThat(caseResult.getStatus()).isEqualTo(SubmissionStatus.MLE);
+        assertThat(caseResult.getMemory()).isLessThan(128 * 1024);
+    }
+
+    @Test
+    void judgesCppSubmissions() {
+        assumeTrue(onPath("g++"), "g++ is required");
+
+        JudgeResultDto compileError = judge("int main() { return }\n", SubmissionLanguage.CPP, limits(1, 64), JudgeTestCase.of("", ""));
+        assertThat(compileError.isCompileError()).isTrue();
+        assertThat(compileError.getCompileOutput()).isNotBlank();
+
+        // 할당 크기를 입력으로 받아 컴파일러가 할당을 없애지 못하게 함
+        String allocate = "#include <cstdio>\n#include <cstring>\n"
+                + "int main() { size_t n; scanf(\"%zu\", &n); char *p = new char[n]; memset(p, 1, n); printf(\"%d\\n\", p[n - 1]); }\n";
+        JudgeResultDto memoryExceeded = judge(allocate, SubmissionLanguage.CPP, limits(2, 64), JudgeTestCase.of("1073741824", "1"));
+        assertThat(memoryExceeded.getCaseResults().get(0).getStatus()).isEqualTo(SubmissionStatus.MLE);
+        assertThat(memoryExceeded.getCaseResults().get(0).getMemory()).isLessThan(128 * 1024);
+    }
+
+    private JudgeResultDto judge(String code, SubmissionLanguage language, JudgeLimitDto limits, JudgeTestCase... testCases) {
+        return backend.runSubmission(code, language, List.of(testCases), limits, JudgeProgressListener.NONE);
+    }
+
+    private static JudgeLimitDto limits(int timeLimitSeconds, int memoryLimitMb) {
+        return JudgeLimitDto.builder()
+                .timeLimit(timeLimitSeconds)
+                .memoryLimit(memoryLimitMb)
+                .compareMode(OutputCompareMode.EXACT)
+                .build();
+    }
+
+    private static String timeCommand() throws Exception {
+        if (Files.isExecutable(Path.of(GNU_TIME))) {
+            return GNU_TIME;
+        }
+        Path stub = Path.of(LocalJudgeBackendTest.class.getResource("/judge/time-stub.py").toURI());
+        return "python3 " + stub.toAbsolutePath();
+    }
+
+    private static boolean onPath(String command) {
+        String path = System.getenv("PATH");
+        return path != null && Arrays.stream(path.split(File.pathSeparator))
+                .anyMatch(dir -> Files.isExecutable(Path.of(dir, command)));
+    }
+}
@@ -0,0 +1,206 @@
+// 출력 비교 방식별 판정, 출력 제한 경계, 긴 공백 처리, 오답 비교 내용의 길이 제한을 확인하는 테스트
+
+package com.unide.backend.domain.submissions.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.unide.backend.domain.problems.entity.OutputCompareMode;
+
+class OutputComparatorTest {
+    private OutputComparator comparator;
+
+    @BeforeEach
+    void setUp() {
+        comparator = new OutputComparator();
+        ReflectionTestUtils.setField(comparator, "floatTolerance", 1e-6);
+    }
+
+    @Test
+    void exactModeIgnoresTrailingWhitespaceAndBlankLines() throws IOException {
+        assertThat(compare("1 2\n3", "1 2\n3", OutputCompareMode.EXACT).isAccepted()).isTrue();
+        assertThat(compare("1 2\n3", "1 2  \n3\t\n\n\n", OutputCompareMode.EXACT).isAccepted()).isTrue();
+        assertThat(compare("1 2\n3\n", "1 2\r\n3\r\n", OutputCompareMode.EXACT).isAccepted()).isTrue();
+        assertThat(compare("", "\n\n", OutputCompareMode.EXACT).isAccepted()).isTrue();
+    }
+
+    @Test
+    void exactModeIgnoresLeadingWhitespaceLikeTrim() throws IOException {
+        assertThat(compare("5", "\n5", OutputCompareMode.EXACT).isAccepted()).isTrue();
+        assertThat(compare("5", " 5", OutputCompareMode.EXACT).isAccepted()).isTrue();
+        assertThat(compare("\n\t5\n", "5", OutputCompareMode.EXACT).isAccepted()).isTrue();
+    }
+
+    @Test
+    void exactModeKeepsSpacesAndBlankLinesInsideOutput() throws IOException {
+        OutputComparator.Result spaces = compare("1 2", "1  2", OutputCompareMode.EXACT);
+        assertThat(spaces.isAccepted()).isFalse();
+        assertThat(spaces.isOutputLimitExceeded()).isFalse();
+        assertThat(spaces.getDiff()).startsWith("1번째 줄이 다릅니다.");
+
+        OutputComparator.Result blankLine = compare("1\n2", "1\n\n2", OutputCompareMode.EXACT);
+        assertThat(blankLine.isAccepted()).isFalse();
+        assertThat(blankLine.getDiff()).startsWith("2번째 줄이 다릅니다.").contains("실제 출력: (빈 줄)");
+
+        OutputComparator.Result missingLine = compare("1\n2", "1", OutputCompareMode.EXACT);
+        assertThat(missingLine.getDiff()).startsWith("2번째 줄이 다릅니다.\n기대한 출력: 2\n");
+        assertThat(missingLine.isAccepted()).isFalse();
+        assertThat(missingLine.getDiff()).contains("실제 출력: (출력 끝)");
+    }
+
+    @Test
+    void nullModeComparesExactly() throws IOException {
+        assertThat(compare("1 2", "1 2", null).isAccepted()).isTrue();
+        assertThat(compare("1 2", "1\n2", null).isAccepted()).isFalse();
+    }
+
+    @Test
+    void tokenModeIgnoresAllWhitespace() throws IOException {
+        assertThat(compare("1 2\n3", "1\n2    3\n\n", OutputCompareMode.TOKEN).isAccepted()).isTrue();
+        assertThat(compare("1 2\n3", "  1 2 3", OutputCompareMode.TOKEN).isAccepted()).isTrue();
+
+        OutputComparator.Result extra = compare("1 2", "1 2 3", OutputCompareMode.TOKEN);
+        assertThat(extra.isAccepted()).isFalse();
+        assertThat(extra.getDiff()).startsWith("3번째 토큰이 다릅니다.").contains("기대한 출력: (출력 없음)");
+
+        OutputComparator.Result different = compare("1.0", "1", OutputCompareMode.TOKEN);
+        assertThat(different.isAccepted()).isFalse();
+    }
+
+    @Test
+    void floatModeAllowsAbsoluteOrRelativeError() throws IOException {
+        assertThat(compare("0.333333", "0.3333333333", OutputCompareMode.FLOAT).isAccepted()).isTrue();
+        assertThat(compare("1.0 2", "1 2.0000000001", OutputCompareMode.FLOAT).isAccepted()).isTrue();
+        assertThat(compare("1000000", "1000000.5", OutputCompareMode.FLOAT).isAccepted()).isTrue(); // 상대 오차 5e-7
+
+        assertThat(compare("0.5", "0.6", OutputCompareMode.FLOAT).isAccepted()).isFalse();
+        assertThat(compare("0.001", "0.0011", OutputCompareMode.FLOAT).isAccepted()).isFalse();
+        // 실수가 아닌 토큰은 그대로 비교함
+        assertThat(compare("YES 0.5", "YES 0.5000000001", OutputCompareMode.FLOAT).isAccepted()).isTrue();
+        assertThat(compare("YES", "yes", OutputCompareMode.FLOAT).isAccepted()).isFalse();
+    }
+
+    @Test
+    void outputOfExactlyTheLimitIsAllowed() throws IOException {
+        String output = "x".repeat(100);
+
+        OutputComparator.Result atLimit = compare(output, output, OutputCompareMode.EXACT, 100);
+        assertThat(atLimit.isOutputLimitExceeded()).isFalse();
+        assertThat(atLimit.isAccepted()).isTrue();
+
+        OutputComparator.Result overLimit = compare(output, output + "x", OutputCompareMode.EXACT, 100);
+        assertThat(overLimit.isOutputLimitExceeded()).isTrue();
+        assertThat(overLimit.isAccepted()).isFalse();
+        assertThat(overLimit.getDiff()).isEqualTo("Output Limit Exceeded");
+
+        // 정답 출력에는 제한을 적용하지 않음
+        assertThat(compare(output + output, output + output, OutputCompareMode.TOKEN, 200).isOutputLimitExceeded()).isFalse();
+    }
+
+    @Test
+    void exactModeComparesDifferentWhitespaceRuns() throws IOException {
+        assertThat(compare("1 2\n3", "1 \t \n3", OutputCompareMode.EXACT).isAccepted()).isFalse();
+        assertThat(compare("1 \n3", "1\t\r\n3", OutputCompareMode.EXACT).isAccepted()).isTrue();
+        assertThat(compare("1 2", "1  2", OutputCompareMode.EXACT).getDiff())
+                .isEqualTo("1번째 줄이 다릅니다.\n기대한 출력: 1 2\n실제 출력: 1  2");
+        assertThat(compare("1", "1\n \n\n  2", OutputCompareMode.EXACT).getDiff())
+                .isEqualTo("4번째 줄이 다릅니다.\n기대한 출력: (출력 끝)\n실제 출력:   2");
+    }
+
+    @Test
+    void longWhitespaceNearTheLimitIsNotBuffered() throws IOException {
+        // 공백을 모아 두었다가 복사하면 테스트 JVM 힙(512MB)을 넘는 크기. 모아 두지 않으므로 메모리가 부족하지 않아야 함
+        long spaces = 256L * 1024 * 1024;
+        long limit = spaces + 2;
+
+        assertThat(comparator.compare(stream("1"), withSpaces("1", spaces, "\n"),
+                OutputCompareMode.EXACT, limit).isAccepted()).isTrue();
+
+        OutputComparator.Result wrong = comparator.compare(stream("1 2"), withSpaces("1", spaces, "2"),
+                OutputCompareMode.EXACT, limit);
+        assertThat(wrong.isAccepted()).isFalse();
+        assertThat(wrong.getDiff())
+                .isEqualTo("1번째 줄이 다릅니다.\n기대한 출력: 1 2\n실제 출력: ..." + " ".repeat(40) + "2");
+
+        assertThat(comparator.compare(stream("1"), withSpaces("1", spaces, "2x"),
+                OutputCompareMode.EXACT, limit).isOutputLimitExceeded()).isTrue();
+    }
+
+    @Test
+    void diffSnippetIsTruncatedAroundFirstDifference() throws IOException {
+        String prefix = "a".repeat(150);
+        String suffix = "c".repeat(150);
+
+        OutputComparator.Result result = compare(prefix + "b" + suffix, prefix + "X" + suffix, OutputCompareMode.EXACT);
+
+        assertThat(result.isAccepted()).isFalse();
+        assertThat(result.getDiff())
+                .isEqualTo("1번째 줄이 다릅니다.\n"
+                        + "기대한 출력: ..." + "a".repeat(40) + "b" + "c".repeat(39) + "...\n"
+                        + "실제 출력: ..." + "a".repeat(40) + "X" + "c".repeat(39) + "...");
+    }
+
+    @Test
+    void tokenSnippetIsTruncated() throws IOException {
+        String longToken = "9".repeat(100);
+
+        OutputComparator.Result result = compare(longToken, longToken + "0", OutputCompareMode.TOKEN);
+
+        assertThat(result.isAccepted()).isFalse();
+        assertThat(result.getDiff()).isEqualTo("1번째 토큰이 다릅니다.\n"
+                + "기대한 출력: " + "9".repeat(64) + "...\n"
+                + "실제 출력: " + "9".repeat(64) + "...");
+    }
+
+    private static InputStream stream(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * prefix 뒤에 공백 count 바이트, suffix 를 이어 보내는 스트림 (공백을 메모리에 만들지 않음)
+     */
+    private static InputStream withSpaces(String prefix, long count, String suffix) {
+        InputStream spaces = new InputStream() {
+            private long remaining = count;
+
+            @Override
+            public int read() {
+                return remaining-- > 0 ? ' ' : -1;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                if (remaining <= 0) {
+                    return -1;
+                }
+                int n = (int) Math.min(len, remaining);
+                Arrays.fill(b, off, off + n, (byte) ' ');
+                remaining -= n;
+                return n;
+            }
+        };
+        return new SequenceInputStream(stream(prefix), new SequenceInputStream(spaces, stream(suffix)));
+    }
+
+    private OutputComparator.Result compare(String expected, String actual, OutputCompareMode mode) throws IOException {
+        return compare(expected, actual, mode, 0);
+    }
+
+    private OutputComparator.Result compare(String expected, String actual, OutputCompareMode mode, long outputLimitBytes)
+            throws IOException {
+        return comparator.compare(
+                new ByteArrayInputStream(expected.getBytes(StandardCharsets.UTF_8)),
+                new ByteArrayInputStream(actual.getBytes(StandardCharsets.UTF_8)),
+                mode, outputLimitBytes);
+    }
+}
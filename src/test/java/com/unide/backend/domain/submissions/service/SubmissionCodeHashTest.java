@@ -0,0 +1,95 @@
+// 채점 결과에 영향을 주는 값(테스트 케이스 버전, 시간/메모리 제한, 언어, 실행 프로파일, 코드)이 바뀌면
+// 코드 해시도 바뀌어 이전 채점 결과를 재사용하지 않는지 확인하는 테스트
+
+package com.unide.backend.domain.submissions.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.unide.backend.domain.problems.entity.JavaRunProfile;
+import com.unide.backend.domain.problems.entity.Problems;
+import com.unide.backend.domain.submissions.entity.SubmissionLanguage;
+
+class SubmissionCodeHashTest {
+    private static final String CODE = "a, b = map(int, input().split())\nprint(a + b)";
+
+    private Problems problem;
+
+    @BeforeEach
+    void setUp() {
+        problem = problem(1L);
+    }
+
+    @Test
+    void sameInputsGiveSameHash() {
+        assertThat(hash()).isEqualTo(SubmissionCodeHash.of(problem(1L), SubmissionLanguage.PYTHON, CODE)).hasSize(64);
+    }
+
+    @Test
+    void lineEndingsAndTrailingWhitespaceDoNotChangeHash() {
+        String crlf = CODE.replace("\n", "\r\n") + "\r\n\r\n  ";
+
+        assertThat(SubmissionCodeHash.of(problem, SubmissionLanguage.PYTHON, crlf)).isEqualTo(hash());
+    }
+
+    @Test
+    void codeChangeChangesHash() {
+        assertThat(SubmissionCodeHash.of(problem, SubmissionLanguage.PYTHON, CODE.replace("a + b", "a+b"))).isNotEqualTo(hash());
+    }
+
+    @Test
+    void testCaseVersionChangeChangesHash() {
+        String before = hash();
+
+        problem.increaseTestCaseVersion();
+
+        assertThat(hash()).isNotEqualTo(before);
+    }
+
+    @Test
+    void limitChangeChangesHash() {
+        String before = hash();
+
+        problem.updateTimeLimit(2);
+        String afterTimeLimit = hash();
+        problem.updateMemoryLimit(512);
+        String afterMemoryLimit = hash();
+
+        assertThat(afterTimeLimit).isNotEqualTo(before);
+        assertThat(afterMemoryLimit).isNotEqualTo(before).isNotEqualTo(afterTimeLimit);
+    }
+
+    @Test
+    void problemAndLanguageAreBothPartOfHash() {
+        assertThat(SubmissionCodeHash.of(problem(2L), SubmissionLanguage.PYTHON, CODE)).isNotEqualTo(hash());
+        assertThat(SubmissionCodeHash.of(problem, SubmissionLanguage.JAVA, CODE)).isNotEqualTo(hash());
+    }
+
+    @Test
+    void javaRunProfileOnlyAffectsJava() {
+        String java = SubmissionCodeHash.of(problem, SubmissionLanguage.JAVA, CODE);
+        String python = hash();
+
+        problem.updateJavaRunProfile(JavaRunProfile.QUICK_START);
+
+        assertThat(SubmissionCodeHash.of(problem, SubmissionLanguage.JAVA, CODE)).isNotEqualTo(java);
+        assertThat(hash()).isEqualTo(python);
+    }
+
+    private String hash() {
+        return SubmissionCodeHash.of(problem, SubmissionLanguage.PYTHON, CODE);
+    }
+
+    private static Problems problem(Long id) {
+        Problems problem = Problems.builder()
+                .title("A+B")
+                .timeLimit(1)
+                .memoryLimit(256)
+                .build();
+        ReflectionTestUtils.setField(problem, "id", id);
+        return problem;
+    }
+}
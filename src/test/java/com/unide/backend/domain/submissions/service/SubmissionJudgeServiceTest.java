@@ -0,0 +1,282 @@
+// 사용자 코드를 실행하는 동안 트랜잭션(DB 커넥션)을 잡고 있지 않은지, 임대를 잃은 채점 결과를 버리는지,
+// 채점 시스템 오류를 제출 결과로 저장하지 않고 다시 시도하는지,
+// 같은 코드가 채점 중인 제출은 워커를 붙잡지 않고 미뤘다가 결과를 재사용하는지 확인하는 테스트
+
+package com.unide.backend.domain.submissions.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.unide.backend.domain.mypage.service.StatsService;
+import com.unide.backend.domain.problems.entity.Problems;
+import com.unide.backend.domain.submissions.dto.JudgeResultDto;
+import com.unide.backend.domain.submissions.dto.TestCaseResultDto;
+import com.unide.backend.domain.submissions.entity.SubmissionLanguage;
+import com.unide.backend.domain.submissions.entity.SubmissionRecord;
+import com.unide.backend.domain.submissions.entity.SubmissionStatus;
+import com.unide.backend.domain.submissions.entity.Submissions;
+import com.unide.backend.domain.submissions.repository.RejudgeJobRepository;
+import com.unide.backend.domain.submissions.repository.SubmissionRecordRepository;
+import com.unide.backend.domain.submissions.repository.SubmissionsRepository;
+import com.unide.backend.domain.user.entity.User;
+
+class SubmissionJudgeServiceTest {
+    private final CountingTransactionManager transactionManager = new CountingTransactionManager();
+    private final SubmissionsRepository submissionsRepository = mock(SubmissionsRepository.class);
+    private final TestCaseCache testCaseCache = mock(TestCaseCache.class);
+    private final SubmissionRecordRepository submissionRecordRepository = mock(SubmissionRecordRepository.class);
+    private final JudgeBackend judgeBackend = mock(JudgeBackend.class);
+    private final JudgeJobService judgeJobService = mock(JudgeJobService.class);
+    private final SubmissionEventService submissionEventService = mock(SubmissionEventService.class);
+    private final RejudgeJobRepository rejudgeJobRepository = mock(RejudgeJobRepository.class);
+
+    private SubmissionJudgeService submissionJudgeService;
+    private Problems problem;
+    private Submissions submission;
+
+    @BeforeEach
+    void setUp() {
+        submissionJudgeService = new SubmissionJudgeService(
+                submissionsRepository,
+                testCaseCache,
+                submissionRecordRepository,
+                judgeBackend,
+                mock(StatsService.class),
+                judgeJobService,
+                submissionEventService,
+                rejudgeJobRepository,
+                new TransactionTemplate(transactionManager));
+        ReflectionTestUtils.setField(submissionJudgeService, "duplicateDelayMs", 1000L);
+
+        problem = Problems.builder()
+                .title("A+B")
+                .timeLimit(1)
+                .memoryLimit(256)
+                .build();
+        submission = newSubmission();
+        when(submissionsRepository.findById(1L)).thenReturn(Optional.of(submission));
+        when(testCaseCache.get(any())).thenReturn(List.of(JudgeTestCase.of("1 2", "3")));
+        when(submissionEventService.listenerFor(1L)).thenReturn(JudgeProgressListener.NONE);
+    }
+
+    @Test
+    void judgeDoesNotHoldTransactionWhileRunningUserCode() {
+        when(judgeJobService.holdsLease(1L, 1)).thenReturn(true);
+        AtomicBoolean ran = new AtomicBoolean();
+        when(judgeBackend.runSubmission(any(), any(), any(), any(), any())).thenAnswer(invocation -> {
+            assertThat(transactionManager.getActive()).isZero();
+            assertThat(TransactionSynchronizationManager.isActualTransactionActive()).isFalse();
+            ran.set(true);
+            return passed();
+        });
+
+        submissionJudgeService.judge(1L, null, 1);
+
+        assertThat(ran).isTrue();
+        assertThat(transactionManager.getCommitted()).isEqualTo(2); // 채점 준비, 결과 저장
+        assertThat(transactionManager.getActive()).isZero();
+        assertThat(submission.getStatus()).isEqualTo(SubmissionStatus.CA);
+        verify(submissionRecordRepository).insertAll(anyList());
+        verify(judgeJobService).complete(1L, 1);
+    }
+
+    @Test
+    void judgeDiscardsResultWhenLeaseWasTakenOver() {
+        // 채점을 시작할 때는 임대를 가지고 있었지만, 채점이 끝났을 때는 다른 서버가 다시 가져간 경우
+        when(judgeJobService.holdsLease(1L, 1)).thenReturn(true, false);
+        when(judgeBackend.runSubmission(any(), any(), any(), any(), any())).thenReturn(passed());
+
+        submissionJudgeService.judge(1L, 7L, 1);
+
+        assertThat(submission.getStatus()).isEqualTo(SubmissionStatus.PENDING);
+        verify(submissionRecordRepository, never()).insertAll(anyList());
+        verify(rejudgeJobRepository, never()).increaseProcessed(anyLong(), anyBoolean());
+        verify(judgeJobService, never()).complete(anyLong(), anyInt());
+    }
+
+    @Test
+    void systemErrorIsRetriedWithoutSavingResult() {
+        when(judgeJobService.holdsLease(1L, 1)).thenReturn(true);
+        when(judgeBackend.runSubmission(any(), any(), any(), any(), any())).thenReturn(systemError());
+
+        submissionJudgeService.judge(1L, null, 1);
+
+        assertThat(submission.getStatus()).isEqualTo(SubmissionStatus.GRADING);
+        verify(judgeJobService).retryOrFail(1L, 1, "System Error: Docker daemon is not responding");
+        verify(judgeJobService, never()).complete(anyLong(), anyInt());
+        verify(submissionRecordRepository, never()).insertAll(anyList());
+        verify(submissionEventService, never()).publishResultAfterCommit(any());
+    }
+
+    @Test
+    void systemErrorDuringRejudgeKeepsPreviousVerdict() {
+        submission.updateResult(SubmissionStatus.CA, 12, 2048, 1, null);
+        when(judgeJobService.holdsLease(1L, 1)).thenReturn(true);
+        when(judgeBackend.runSubmission(any(), any(), any(), any(), any())).thenReturn(systemError());
+
+        submissionJudgeService.judge(1L, 7L, 1);
+
+        assertThat(submission.getStatus()).isEqualTo(SubmissionStatus.CA);
+        assertThat(submission.getPassedTestCases()).isEqualTo(1);
+        verify(judgeJobService).retryOrFail(1L, 1, "System Error: Docker daemon is not responding");
+        verify(submissionRecordRepository, never()).deleteAllBySubmission(any());
+        verify(rejudgeJobRepository, never()).increaseProcessed(anyLong(), anyBoolean());
+    }
+
+    @Test
+    void duplicateIsDeferredWhileSameCodeIsRunning() throws Exception {
+        Submissions duplicate = newSubmission();
+        submission.updateCodeHash("hash");
+        duplicate.updateCodeHash("hash");
+        when(submissionsRepository.findById(2L)).thenReturn(Optional.of(duplicate));
+        when(judgeJobService.holdsLease(anyLong(), eq(1))).thenReturn(true);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(judgeBackend.runSubmission(any(), any(), any(), any(), any())).thenAnswer(invocation -> {
+            running.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return passed();
+        });
+
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> submissionJudgeService.judge(1L, null, 1));
+        assertThat(running.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // 먼저 들어온 채점이 끝나기를 기다리지 않고 바로 돌아옴
+        submissionJudgeService.judge(2L, null, 1);
+        verify(judgeJobService).defer(2L, 1, 1000L);
+        verify(judgeJobService, never()).complete(eq(2L), anyInt());
+
+        release.countDown();
+        first.get(10, TimeUnit.SECONDS);
+        verify(judgeBackend, times(1)).runSubmission(any(), any(), any(), any(), any());
+        verify(judgeJobService).complete(1L, 1);
+
+        // 먼저 들어온 채점이 끝난 뒤에는 같은 코드라도 미루지 않음
+        submissionJudgeService.judge(2L, null, 1);
+        verify(judgeBackend, times(2)).runSubmission(any(), any(), any(), any(), any());
+        verify(judgeJobService).complete(2L, 1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deferredDuplicateReusesFinishedVerdictWithCaseEvents() {
+        Submissions source = newSubmission();
+        source.updateResult(SubmissionStatus.WA, 15, 3000, 1, null);
+        submission.updateCodeHash("hash");
+        when(judgeJobService.holdsLease(1L, 1)).thenReturn(true);
+        when(submissionsRepository.findFinishedByCodeHash(eq("hash"), any(Pageable.class))).thenReturn(List.of(source));
+        when(submissionRecordRepository.findAllBySubmissionOrderByTestCaseIndexAsc(source)).thenReturn(List.of(
+                SubmissionRecord.builder().submission(source).testCaseIndex(1).status(SubmissionStatus.CA).runtime(15).memory(3000).build(),
+                SubmissionRecord.builder().submission(source).testCaseIndex(2).status(SubmissionStatus.WA).runtime(12).memory(2900)
+                        .error("1번째 줄이 다릅니다.").build()));
+
+        submissionJudgeService.judge(1L, null, 1);
+
+        verify(judgeBackend, never()).runSubmission(any(), any(), any(), any(), any());
+        assertThat(submission.getStatus()).isEqualTo(SubmissionStatus.WA);
+        verify(submissionRecordRepository).insertAll(anyList());
+        verify(judgeJobService).complete(1L, 1);
+        ArgumentCaptor<List<TestCaseResultDto>> caseResults = ArgumentCaptor.forClass(List.class);
+        verify(submissionEventService).publishResultAfterCommit(eq(submission), caseResults.capture());
+        assertThat(caseResults.getValue()).extracting(TestCaseResultDto::getStatus)
+                .containsExactly(SubmissionStatus.CA, SubmissionStatus.WA);
+        assertThat(caseResults.getValue().get(1).getError()).isEqualTo("1번째 줄이 다릅니다.");
+    }
+
+    private Submissions newSubmission() {
+        return Submissions.builder()
+                .user(User.builder().email("user@example.com").build())
+                .problem(problem)
+                .code("print(sum(map(int, input().split())))")
+                .language(SubmissionLanguage.PYTHON)
+                .status(SubmissionStatus.PENDING)
+                .totalTestCases(1)
+                .build();
+    }
+
+    private static JudgeResultDto systemError() {
+        return JudgeResultDto.builder()
+                .systemError("System Error: Docker daemon is not responding")
+                .caseResults(List.of())
+                .build();
+    }
+
+    private static JudgeResultDto passed() {
+        return JudgeResultDto.builder()
+                .caseResults(List.of(TestCaseResultDto.builder()
+                        .testCaseIndex(1)
+                        .status(SubmissionStatus.CA)
+                        .runtime(12)
+                        .memory(2048)
+                        .build()))
+                .build();
+    }
+
+    /**
+     * 실제 DB 없이 열린 트랜잭션 수만 세는 트랜잭션 매니저 (트랜잭션 하나가 커넥션 하나를 잡는 것으로 봄)
+     */
+    private static class CountingTransactionManager extends AbstractPlatformTransactionManager {
+        private int active;
+        private int committed;
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+            active++;
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            committed++;
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doCleanupAfterCompletion(Object transaction) {
+            active--;
+        }
+
+        int getActive() {
+            return active;
+        }
+
+        int getCommitted() {
+            return committed;
+        }
+    }
+}
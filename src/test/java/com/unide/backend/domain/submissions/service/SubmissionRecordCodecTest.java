@@ -0,0 +1,117 @@
+// 압축 저장한 테스트 케이스별 채점 결과가 그대로 복원되는지, 에러가 많아도 컬럼 크기를 넘지 않는지, 잘못된 형식을 거부하는지 확인하는 테스트
+
+package com.unide.backend.domain.submissions.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.unide.backend.domain.submissions.dto.SubmissionRecordDto;
+import com.unide.backend.domain.submissions.dto.TestCaseResultDto;
+import com.unide.backend.domain.submissions.entity.SubmissionRecord;
+import com.unide.backend.domain.submissions.entity.SubmissionStatus;
+
+class SubmissionRecordCodecTest {
+
+    @Test
+    void roundTripKeepsEveryField() {
+        List<TestCaseResultDto> results = List.of(
+                result(1, SubmissionStatus.CA, 12, 2048, null),
+                result(2, SubmissionStatus.WA, 10, 2050, "1번째 줄이 다릅니다.\n기대한 출력: 1,2\n실제 출력: 1:2"),
+                result(3, SubmissionStatus.RE, 0, 1024, "Traceback (most recent call last):\n  ZeroDivisionError"),
+                result(4, SubmissionStatus.TLE, 2000, 4096, ""));
+
+        String encoded = SubmissionRecordCodec.encode(results);
+        List<SubmissionRecordDto> decoded = SubmissionRecordCodec.decode(encoded);
+
+        assertThat(encoded).startsWith("1:CA:12:2048,2:WA:10:2050:");
+        assertThat(decoded).hasSize(4);
+        for (int i = 0; i < 4; i++) {
+            TestCaseResultDto expected = results.get(i);
+            SubmissionRecordDto actual = decoded.get(i);
+            assertThat(actual.getTestCaseIndex()).isEqualTo(expected.getTestCaseIndex());
+            assertThat(actual.getStatus()).isEqualTo(expected.getStatus());
+            assertThat(actual.getRuntime()).isEqualTo(expected.getRuntime());
+            assertThat(actual.getMemory()).isEqualTo(expected.getMemory());
+        }
+        assertThat(decoded.get(0).getError()).isNull();
+        assertThat(decoded.get(1).getError()).isEqualTo(results.get(1).getError());
+        assertThat(decoded.get(2).getError()).isEqualTo(results.get(2).getError());
+        assertThat(decoded.get(3).getError()).isNull();
+    }
+
+    @Test
+    void longErrorIsTruncated() {
+        String encoded = SubmissionRecordCodec.encode(List.of(result(1, SubmissionStatus.RE, 5, 100, "e".repeat(5000))));
+
+        String error = SubmissionRecordCodec.decode(encoded).get(0).getError();
+
+        assertThat(error).hasSize(SubmissionRecord.ERROR_LENGTH).endsWith("...");
+    }
+
+    @Test
+    void manyLongErrorsFitInTheColumn() {
+        // 한글 1000자 에러는 UTF-8 3000바이트, Base64 로 4000자. 50개만 모여도 TEXT(64KB)를 넘음
+        String longError = "오".repeat(SubmissionRecord.ERROR_LENGTH);
+        List<TestCaseResultDto> results = new ArrayList<>();
+        for (int i = 1; i <= 1000; i++) {
+            results.add(result(i, SubmissionStatus.RE, 5, 100, longError));
+        }
+
+        String encoded = SubmissionRecordCodec.encode(results);
+        List<SubmissionRecordDto> decoded = SubmissionRecordCodec.decode(encoded);
+
+        assertThat(encoded.length()).isGreaterThan(65_535).isLessThan(SubmissionRecordCodec.MAX_ERROR_LENGTH + 1000 * 32);
+        assertThat(decoded).hasSize(1000);
+        assertThat(decoded.get(0).getError()).isEqualTo(SubmissionRecord.truncateError(longError));
+        assertThat(decoded.get(999).getError()).isNull(); // 상한을 넘은 케이스의 에러는 생략함
+        assertThat(decoded.get(999).getStatus()).isEqualTo(SubmissionStatus.RE);
+    }
+
+    @Test
+    void emptyListRoundTrips() {
+        assertThat(SubmissionRecordCodec.encode(List.of())).isEmpty();
+        assertThat(SubmissionRecordCodec.decode("")).isEmpty();
+        assertThat(SubmissionRecordCodec.decode(null)).isEmpty();
+    }
+
+    @Test
+    void decodesRecordsWithoutErrorField() {
+        List<SubmissionRecordDto> decoded = SubmissionRecordCodec.decode("1:CA:12:2048,2:MLE:30:262144");
+
+        assertThat(decoded).hasSize(2);
+        assertThat(decoded.get(1).getStatus()).isEqualTo(SubmissionStatus.MLE);
+        assertThat(decoded.get(1).getMemory()).isEqualTo(262144);
+        assertThat(decoded.get(1).getError()).isNull();
+    }
+
+    @Test
+    void malformedRecordIsRejected() {
+        assertThatThrownBy(() -> SubmissionRecordCodec.decode("1:CA:12"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("1:CA:12");
+        assertThatThrownBy(() -> SubmissionRecordCodec.decode("1:CA:12:2048,2:WA:x:2050"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("2:WA:x:2050");
+        assertThatThrownBy(() -> SubmissionRecordCodec.decode("1:OK:12:2048"))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> SubmissionRecordCodec.decode("1:WA:12:2048:!!"))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> SubmissionRecordCodec.decode("1:WA:12:2048:a:b"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private TestCaseResultDto result(int index, SubmissionStatus status, int runtime, int memory, String error) {
+        return TestCaseResultDto.builder()
+                .testCaseIndex(index)
+                .status(status)
+                .runtime(runtime)
+                .memory(memory)
+                .error(error)
+                .build();
+    }
+}
@@ -0,0 +1,31 @@
+# GNU time 이 없는 환경에서 LocalJudgeBackendTest 가 대신 쓰는 스크립트 (wait4 로 자식의 자원 사용량을 잼)
+# 사용법: python3 time-stub.py -q -f <형식> -o <통계 파일> <명령> [인자...]
+# 형식 인자는 무시하고 LocalJudgeBackend 가 쓰는 '%M %x %U %S %e' 형식으로 기록하며, GNU time -q 와 같은 종료 코드로 종료함
+
+import os
+import sys
+import time
+
+args = sys.argv[1:]
+stats_file = None
+while args and args[0].startswith('-'):
+    flag = args.pop(0)
+    if flag == '-o':
+        stats_file = args.pop(0)
+    elif flag == '-f':
+        args.pop(0)
+
+started = time.monotonic()
+pid = os.fork()
+if pid == 0:
+    try:
+        os.execvp(args[0], args)
+    finally:
+        os._exit(127)
+_, status, usage = os.wait4(pid, 0)
+code = os.waitstatus_to_exitcode(status)
+if code < 0:
+    code = 128 - code
+with open(stats_file, 'w') as stats:
+    stats.write('%d %d %.2f %.2f %.2f\n' % (usage.ru_maxrss, code, usage.ru_utime, usage.ru_stime, time.monotonic() - started))
+sys.exit(code)